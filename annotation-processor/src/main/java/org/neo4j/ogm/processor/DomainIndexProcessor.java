@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Creates the {@code META-INF/resources/<package>/neo4j-ogm.index} files that Neo4j-OGM reads instead of scanning
+ * the class path when a {@code SessionFactory} is created.
+ * <p>
+ * An index lists every type compiled in a package and its subpackages, the same set of classes a class path scan
+ * would find. Which packages are indexed can be configured with the {@value #PACKAGES_OPTION} option, a comma
+ * separated list of package names. Without that option, every package that contains a type using one of the
+ * annotations from {@code org.neo4j.ogm.annotation} is indexed.
+ * <p>
+ * Incremental builds only compile parts of a package, so an index from a previous build in the class output is merged
+ * with the newly compiled types. Types of the previous index that don't exist anymore are dropped. Neo4j-OGM falls
+ * back to scanning the class path if an index still lists a class that can't be found.
+ */
+public final class DomainIndexProcessor extends AbstractProcessor {
+
+    /**
+     * Name of the option configuring the packages to index.
+     */
+    public static final String PACKAGES_OPTION = "neo4j.ogm.packages";
+
+    static final String INDEX_FILE_NAME = "neo4j-ogm.index";
+
+    private static final String OGM_ANNOTATION_PACKAGE = "org.neo4j.ogm.annotation.";
+
+    private final Map<String, String> compiledTypes = new TreeMap<>();
+
+    private final Set<String> annotatedPackages = new TreeSet<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of("*");
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return Set.of(PACKAGES_OPTION);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+        if (roundEnv.processingOver()) {
+            writeIndexes();
+        } else {
+            for (Element element : roundEnv.getRootElements()) {
+                if (element instanceof TypeElement typeElement) {
+                    collect(typeElement);
+                }
+            }
+        }
+        return false;
+    }
+
+    private void collect(TypeElement typeElement) {
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(typeElement).getQualifiedName().toString();
+        compiledTypes.put(processingEnv.getElementUtils().getBinaryName(typeElement).toString(), packageName);
+        if (usesOgmAnnotations(typeElement)) {
+            annotatedPackages.add(packageName);
+        }
+
+        for (Element enclosed : typeElement.getEnclosedElements()) {
+            if (enclosed instanceof TypeElement nestedType) {
+                collect(nestedType);
+            }
+        }
+    }
+
+    private static boolean usesOgmAnnotations(TypeElement typeElement) {
+
+        if (isOgmAnnotated(typeElement)) {
+            return true;
+        }
+        return typeElement.getEnclosedElements().stream()
+            .filter(element -> !(element instanceof TypeElement))
+            .anyMatch(DomainIndexProcessor::isOgmAnnotated);
+    }
+
+    private static boolean isOgmAnnotated(Element element) {
+
+        for (AnnotationMirror annotationMirror : element.getAnnotationMirrors()) {
+            Element annotationType = annotationMirror.getAnnotationType().asElement();
+            if (annotationType instanceof TypeElement typeElement
+                && typeElement.getQualifiedName().toString().startsWith(OGM_ANNOTATION_PACKAGE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Set<String> packagesToIndex() {
+
+        String configuredPackages = processingEnv.getOptions().get(PACKAGES_OPTION);
+        if (configuredPackages == null || configuredPackages.isBlank()) {
+            return annotatedPackages;
+        }
+        return Arrays.stream(configuredPackages.split(","))
+            .map(String::trim)
+            .filter(packageName -> !packageName.isEmpty())
+            .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private void writeIndexes() {
+
+        for (String packageName : packagesToIndex()) {
+            String resourceName = "META-INF/resources/" + packageName.replace('.', '/') + "/" + INDEX_FILE_NAME;
+            Set<String> indexedTypes = previouslyIndexedTypes(resourceName);
+            compiledTypes.entrySet().stream()
+                .filter(entry -> isSameOrSubpackage(entry.getValue(), packageName))
+                .map(Map.Entry::getKey)
+                .forEach(indexedTypes::add);
+            if (indexedTypes.isEmpty()) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "No types have been compiled in package " + packageName + ", not creating an index.");
+                continue;
+            }
+            writeIndex(packageName, resourceName, indexedTypes);
+        }
+    }
+
+    /**
+     * Reads the index of a previous build from the class output, dropping all types that don't exist anymore.
+     */
+    private Set<String> previouslyIndexedTypes(String resourceName) {
+
+        Set<String> indexedTypes = new TreeSet<>();
+        try {
+            FileObject previousIndex = processingEnv.getFiler()
+                .getResource(StandardLocation.CLASS_OUTPUT, "", resourceName);
+            try (BufferedReader reader = new BufferedReader(previousIndex.openReader(true))) {
+                reader.lines()
+                    .map(String::trim)
+                    .filter(line -> !(line.isEmpty() || line.startsWith("#")))
+                    .filter(this::exists)
+                    .forEach(indexedTypes::add);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // There's no previous index
+        }
+        return indexedTypes;
+    }
+
+    private boolean exists(String binaryName) {
+        return processingEnv.getElementUtils().getTypeElement(binaryName.replace('$', '.')) != null;
+    }
+
+    private void writeIndex(String packageName, String resourceName, Set<String> indexedTypes) {
+
+        try {
+            FileObject resource = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", resourceName, originatingElements(packageName));
+            try (Writer writer = resource.openWriter()) {
+                writer.write("# Generated by " + DomainIndexProcessor.class.getName() + "\n");
+                for (String indexedType : indexedTypes) {
+                    writer.write(indexedType);
+                    writer.write("\n");
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                "Could not write index for package " + packageName + ": " + e.getMessage());
+        }
+    }
+
+    private Element[] originatingElements(String packageName) {
+
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageElement(packageName);
+        return packageElement == null ? new Element[0] : new Element[] { packageElement };
+    }
+
+    private static boolean isSameOrSubpackage(String candidate, String packageName) {
+        return candidate.equals(packageName) || candidate.startsWith(packageName + ".");
+    }
+}
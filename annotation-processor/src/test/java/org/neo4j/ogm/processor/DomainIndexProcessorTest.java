@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.processor;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DomainIndexProcessorTest {
+
+    private static final Map<String, String> SOURCES = Map.of(
+        "org/neo4j/ogm/annotation/NodeEntity.java", """
+            package org.neo4j.ogm.annotation;
+            public @interface NodeEntity {
+            }
+            """,
+        "com/example/domain/Person.java", """
+            package com.example.domain;
+            @org.neo4j.ogm.annotation.NodeEntity
+            public class Person {
+                public static class Address {
+                }
+            }
+            """,
+        "com/example/domain/values/Rating.java", """
+            package com.example.domain.values;
+            public enum Rating {
+                GOOD, BAD
+            }
+            """,
+        "com/example/service/PersonService.java", """
+            package com.example.service;
+            public class PersonService {
+            }
+            """
+    );
+
+    @TempDir
+    Path output;
+
+    @Test
+    void shouldIndexPackagesContainingOgmAnnotations() throws IOException {
+
+        compile(List.of());
+
+        assertThat(index("com/example/domain")).containsExactly(
+            "com.example.domain.Person",
+            "com.example.domain.Person$Address",
+            "com.example.domain.values.Rating"
+        );
+        assertThat(output.resolve("META-INF/resources/com/example/service")).doesNotExist();
+    }
+
+    @Test
+    void shouldIndexConfiguredPackages() throws IOException {
+
+        compile(List.of("-A" + DomainIndexProcessor.PACKAGES_OPTION + "=com.example.domain.values, com.example.service"));
+
+        assertThat(index("com/example/domain/values")).containsExactly("com.example.domain.values.Rating");
+        assertThat(index("com/example/service")).containsExactly("com.example.service.PersonService");
+        assertThat(output.resolve("META-INF/resources/com/example/domain/" + DomainIndexProcessor.INDEX_FILE_NAME))
+            .doesNotExist();
+    }
+
+    @Test
+    void shouldMergeIndexOfPreviousBuild() throws IOException {
+
+        compile(SOURCES, List.of("-d", output.toString()));
+        Path index = output.resolve("META-INF/resources/com/example/domain")
+            .resolve(DomainIndexProcessor.INDEX_FILE_NAME);
+        Files.writeString(index, "com.example.domain.Removed\n", StandardOpenOption.APPEND);
+
+        // Only the new class is compiled, the classes of the previous build are on the class path
+        compile(Map.of("com/example/domain/Pet.java", """
+                package com.example.domain;
+                @org.neo4j.ogm.annotation.NodeEntity
+                public class Pet {
+                }
+                """),
+            List.of("-proc:only", "-d", output.toString(), "-classpath", output.toString()));
+
+        assertThat(index("com/example/domain")).containsExactly(
+            "com.example.domain.Person",
+            "com.example.domain.Person$Address",
+            "com.example.domain.Pet",
+            "com.example.domain.values.Rating"
+        );
+    }
+
+    private void compile(List<String> additionalOptions) {
+
+        List<String> options = new ArrayList<>(List.of("-proc:only", "-d", output.toString()));
+        options.addAll(additionalOptions);
+        compile(SOURCES, options);
+    }
+
+    private static void compile(Map<String, String> sources, List<String> options) {
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<JavaFileObject> compilationUnits = sources.entrySet().stream()
+            .<JavaFileObject>map(entry -> new Source(entry.getKey(), entry.getValue()))
+            .toList();
+
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, null, options, null, compilationUnits);
+        task.setProcessors(List.of(new DomainIndexProcessor()));
+        assertThat(task.call()).isTrue();
+    }
+
+    private List<String> index(String packagePath) throws IOException {
+
+        Path index = output.resolve("META-INF/resources").resolve(packagePath)
+            .resolve(DomainIndexProcessor.INDEX_FILE_NAME);
+        return Files.readAllLines(index).stream().filter(line -> !line.startsWith("#")).toList();
+    }
+
+    private static final class Source extends SimpleJavaFileObject {
+
+        private final String content;
+
+        Source(String path, String content) {
+            super(URI.create("string:///" + path), Kind.SOURCE);
+            this.content = content;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return content;
+        }
+    }
+}
@@ -148,6 +148,26 @@ public class Configuration {
      * of packages with the programmatically registered packages to scan.
      */
     private final String[] basePackages;
+    /**
+     * Flag, whether the domain classes are loaded and their metadata is resolved in parallel on startup.
+     */
+    private final Boolean parallelMetaDataResolution;
+    /**
+     * Flag, whether consecutive, independent write statements of a request are sent to the database as one query.
+     */
+    private final Boolean statementPipelining;
+    /**
+     * Flag, whether new nodes and the new relationships between them are created by a single statement.
+     */
+    private final Boolean singleRoundTripSave;
+    /**
+     * Maximum number of rows a single write statement passes to the database, {@literal null} if unbounded.
+     */
+    private final Integer maxRowsPerStatement;
+    /**
+     * Flag, whether saves only traverse into entities that have been explicitly marked dirty since they were loaded.
+     */
+    private final Boolean dirtyTracking;
     private final String database;
 
     private final DatabaseSelectionProvider databaseSelectionProvider;
@@ -174,6 +194,11 @@ public class Configuration {
         this.customProperties = builder.customProperties;
         this.useNativeTypes = builder.useNativeTypes;
         this.basePackages = builder.basePackages;
+        this.parallelMetaDataResolution = builder.parallelMetaDataResolution;
+        this.statementPipelining = builder.statementPipelining;
+        this.singleRoundTripSave = builder.singleRoundTripSave;
+        this.maxRowsPerStatement = builder.maxRowsPerStatement;
+        this.dirtyTracking = builder.dirtyTracking;
         this.useStrictQuerying = builder.useStrictQuerying;
         this.database = Optional.ofNullable(builder.database).map(String::trim).filter(s -> !s.isEmpty()).orElse(null);
         this.databaseSelectionProvider = builder.databaseSelectionProvider;
@@ -324,6 +349,26 @@ public class Configuration {
         return basePackages;
     }
 
+    public Boolean getParallelMetaDataResolution() {
+        return parallelMetaDataResolution;
+    }
+
+    public Boolean getStatementPipelining() {
+        return statementPipelining;
+    }
+
+    public Boolean getSingleRoundTripSave() {
+        return singleRoundTripSave;
+    }
+
+    public Integer getMaxRowsPerStatement() {
+        return maxRowsPerStatement;
+    }
+
+    public Boolean getDirtyTracking() {
+        return dirtyTracking;
+    }
+
     public String[] mergeBasePackagesWith(String... anotherSetOfBasePackages) {
         String[] set1 = Optional.ofNullable(this.basePackages).orElseGet(() -> new String[0]);
         String[] set2 = Optional.ofNullable(anotherSetOfBasePackages).orElseGet(() -> new String[0]);
@@ -356,6 +401,11 @@ public class Configuration {
             Objects.equals(verifyConnection, that.verifyConnection) &&
             Objects.equals(useNativeTypes, that.useNativeTypes) &&
             Arrays.equals(basePackages, that.basePackages) &&
+            Objects.equals(parallelMetaDataResolution, that.parallelMetaDataResolution) &&
+            Objects.equals(statementPipelining, that.statementPipelining) &&
+            Objects.equals(singleRoundTripSave, that.singleRoundTripSave) &&
+            Objects.equals(maxRowsPerStatement, that.maxRowsPerStatement) &&
+            Objects.equals(dirtyTracking, that.dirtyTracking) &&
             Objects.equals(useStrictQuerying, that.useStrictQuerying);
     }
 
@@ -363,7 +413,9 @@ public class Configuration {
     public int hashCode() {
         int result = Objects.hash(uri, connectionPoolSize, encryptionLevel, trustStrategy, trustCertFile,
             generatedIndexesOutputDir, generatedIndexesOutputFilename, neo4jConfLocation, driverName, credentials,
-            connectionLivenessCheckTimeout, verifyConnection, useNativeTypes);
+            connectionLivenessCheckTimeout, verifyConnection, useNativeTypes,
+            parallelMetaDataResolution, statementPipelining, singleRoundTripSave, maxRowsPerStatement,
+            dirtyTracking);
         result = 31 * result + Arrays.hashCode(basePackages);
         return result;
     }
@@ -391,6 +443,11 @@ public class Configuration {
         private static final String BASE_PACKAGES = "base-packages";
         private static final String USE_STRICT_QUERYING = "use-strict-querying";
         private static final String DATABASE = "database";
+        private static final String METADATA_PARALLEL_RESOLUTION = "metadata.parallel.resolution";
+        private static final String STATEMENT_PIPELINING = "statement.pipelining";
+        private static final String SINGLE_ROUND_TRIP_SAVE = "save.single-round-trip";
+        private static final String MAX_ROWS_PER_STATEMENT = "statement.max-rows";
+        private static final String DIRTY_TRACKING = "save.dirty-tracking";
         private String uri;
         private Integer connectionPoolSize;
         private String encryptionLevel;
@@ -406,6 +463,11 @@ public class Configuration {
         private boolean useNativeTypes;
         private Map<String, Object> customProperties = new HashMap<>();
         private String[] basePackages;
+        private boolean parallelMetaDataResolution;
+        private boolean statementPipelining;
+        private boolean singleRoundTripSave;
+        private Integer maxRowsPerStatement;
+        private boolean dirtyTracking;
         private boolean useStrictQuerying = true;
         private String database;
         public DatabaseSelectionProvider databaseSelectionProvider;
@@ -474,6 +536,21 @@ public class Configuration {
                             this.useStrictQuerying = Boolean.parseBoolean(value);
                         }
                         break;
+                    case METADATA_PARALLEL_RESOLUTION:
+                        this.parallelMetaDataResolution = Boolean.parseBoolean(value);
+                        break;
+                    case STATEMENT_PIPELINING:
+                        this.statementPipelining = Boolean.parseBoolean(value);
+                        break;
+                    case SINGLE_ROUND_TRIP_SAVE:
+                        this.singleRoundTripSave = Boolean.parseBoolean(value);
+                        break;
+                    case MAX_ROWS_PER_STATEMENT:
+                        this.maxRowsPerStatement(value == null || value.isEmpty() ? null : Integer.valueOf(value));
+                        break;
+                    case DIRTY_TRACKING:
+                        this.dirtyTracking = Boolean.parseBoolean(value);
+                        break;
                     case DATABASE:
                         if (value != null && !value.trim().isEmpty()) {
                             this.database = value.trim();
@@ -497,6 +574,11 @@ public class Configuration {
                 .generatedIndexesOutputDir(builder.generatedIndexesOutputDir)
                 .generatedIndexesOutputFilename(builder.generatedIndexesOutputFilename)
                 .neo4jConfLocation(builder.neo4jConfLocation)
+                .parallelMetaDataResolution(builder.parallelMetaDataResolution)
+                .statementPipelining(builder.statementPipelining)
+                .singleRoundTripSave(builder.singleRoundTripSave)
+                .maxRowsPerStatement(builder.maxRowsPerStatement)
+                .dirtyTracking(builder.dirtyTracking)
                 .credentials(builder.username, builder.password)
                 .database(builder.database)
                 .databaseSelectionProvider(builder.databaseSelectionProvider)
@@ -684,6 +766,74 @@ public class Configuration {
             return this;
         }
 
+        /**
+         * Configures whether the domain classes are loaded and their metadata is resolved in parallel when the
+         * {@code SessionFactory} is created, using all available cores on startup.
+         *
+         * @param parallelMetaDataResolution Flag, whether to resolve the metadata in parallel, defaults to false
+         * @return the changed builder
+         */
+        public Builder parallelMetaDataResolution(boolean parallelMetaDataResolution) {
+            this.parallelMetaDataResolution = parallelMetaDataResolution;
+            return this;
+        }
+
+        /**
+         * Configures whether consecutive write statements of a save, that don't depend on each other, are sent to the
+         * database as a single query instead of one round trip per statement. Only supported by the Bolt transport.
+         *
+         * @param statementPipelining Flag, whether to pipeline independent statements, defaults to false
+         * @return the changed builder
+         */
+        public Builder statementPipelining(boolean statementPipelining) {
+            this.statementPipelining = statementPipelining;
+            return this;
+        }
+
+        /**
+         * Configures whether saving a graph that contains new nodes together with new relationships between them takes
+         * a single round trip. New relationships then refer to the new nodes by their client side reference instead of
+         * waiting for the database to return the ids of the new nodes first.
+         *
+         * @param singleRoundTripSave Flag, whether to create new nodes and relationships in one statement, defaults to false
+         * @return the changed builder
+         */
+        public Builder singleRoundTripSave(boolean singleRoundTripSave) {
+            this.singleRoundTripSave = singleRoundTripSave;
+            return this;
+        }
+
+        /**
+         * Configures the maximum number of rows a single write statement passes to the database. Entities that are
+         * written by the same statement, for example new nodes with the same labels, are split into several statements
+         * of at most that many rows, so that no single message to the database grows with the size of a save.
+         *
+         * @param maxRowsPerStatement The maximum number of rows per statement, {@literal null} for no limit
+         * @return the changed builder
+         */
+        public Builder maxRowsPerStatement(Integer maxRowsPerStatement) {
+            if (maxRowsPerStatement != null && maxRowsPerStatement < 1) {
+                throw new IllegalArgumentException("The maximum number of rows per statement must be greater than zero");
+            }
+            this.maxRowsPerStatement = maxRowsPerStatement;
+            return this;
+        }
+
+        /**
+         * Configures whether saves of unlimited depth only traverse into entities that have been loaded or saved before,
+         * if they have been marked via {@code Session#markDirty(Object)} since or if the related entities of one of their
+         * relationship fields have changed. Other changes to unmarked entities are not detected, which makes saving a small
+         * change to a large graph of loaded entities cheap. New entities and the entities passed to a save are always
+         * traversed.
+         *
+         * @param dirtyTracking Flag, whether to skip entities that have not been marked dirty, defaults to false
+         * @return the changed builder
+         */
+        public Builder dirtyTracking(boolean dirtyTracking) {
+            this.dirtyTracking = dirtyTracking;
+            return this;
+        }
+
         /**
          * Configures the database to use. This is only applicable with the bolt transport connected against a
          * 4.0 database.
@@ -28,6 +28,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -93,6 +95,7 @@ public abstract class AbstractConfigurableDriver implements Driver {
      * Final Cypher modification loaded from all present providers.
      */
     private volatile Function<String, String> cypherModification;
+    private final Lock cypherModificationLock = new ReentrantLock();
 
     public AbstractConfigurableDriver() {
         this.customPropertiesSupplier = this::getConfigurationProperties;
@@ -131,12 +134,15 @@ public abstract class AbstractConfigurableDriver implements Driver {
 
         Function<String, String> loadedCypherModification = this.cypherModification;
         if (loadedCypherModification == null) {
-            synchronized (this) {
+            cypherModificationLock.lock();
+            try {
                 loadedCypherModification = this.cypherModification;
                 if (loadedCypherModification == null) {
                     this.cypherModification = loadCypherModifications();
                     loadedCypherModification = this.cypherModification;
                 }
+            } finally {
+                cypherModificationLock.unlock();
             }
         }
         return loadedCypherModification;
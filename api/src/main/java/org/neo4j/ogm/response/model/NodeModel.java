@@ -87,6 +87,15 @@ public class NodeModel extends AbstractPropertyContainer implements Node {
         }
     }
 
+    /**
+     * Uses the given list as the properties of this model without copying it.
+     *
+     * @param propertyList The properties of this model
+     */
+    public void setPropertyList(List<Property<String, Object>> propertyList) {
+        this.properties = propertyList;
+    }
+
     @Override
     public Long getId() {
         return id;
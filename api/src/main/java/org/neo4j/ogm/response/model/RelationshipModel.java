@@ -100,6 +100,15 @@ public class RelationshipModel extends AbstractPropertyContainer implements Edge
         }
     }
 
+    /**
+     * Uses the given list as the properties of this model without copying it.
+     *
+     * @param propertyList The properties of this model
+     */
+    public void setPropertyList(List<Property<String, Object>> propertyList) {
+        this.properties = propertyList;
+    }
+
     public void setPrimaryIdName(String primaryIdPropertyName) {
         this.primaryIdName = primaryIdPropertyName;
     }
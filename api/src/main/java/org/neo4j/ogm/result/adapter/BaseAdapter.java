@@ -37,12 +37,19 @@ public class BaseAdapter {
     }
 
     private static Object convertOrReturnSelf(Map.Entry<String, Object> entry) {
+        return convertArrayToCollection(entry.getValue());
+    }
+
+    /**
+     * @param value A property value
+     * @return A collection holding the elements of the value if it is an array, the value itself otherwise
+     */
+    protected static Object convertArrayToCollection(Object value) {
 
-        Object entryValue = entry.getValue();
-        if (entryValue != null && entryValue.getClass().isArray()) {
-            return CollectionUtils.materializeIterableIf(CollectionUtils.iterableOf(entryValue));
+        if (value != null && value.getClass().isArray()) {
+            return CollectionUtils.materializeIterableIf(CollectionUtils.iterableOf(value));
         } else {
-            return entryValue;
+            return value;
         }
     }
 }
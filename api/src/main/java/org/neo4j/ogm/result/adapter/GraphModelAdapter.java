@@ -18,6 +18,7 @@
  */
 package org.neo4j.ogm.result.adapter;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -25,8 +26,10 @@ import java.util.Map;
 import java.util.Set;
 
 import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.Property;
 import org.neo4j.ogm.response.model.DefaultGraphModel;
 import org.neo4j.ogm.response.model.NodeModel;
+import org.neo4j.ogm.response.model.PropertyModel;
 import org.neo4j.ogm.response.model.RelationshipModel;
 
 /**
@@ -110,7 +113,7 @@ public abstract class GraphModelAdapter extends BaseAdapter implements ResultAda
         List<String> labels = labels(node);
 
         nodeModel.setLabels(labels.toArray(new String[0]));
-        nodeModel.setProperties(convertArrayPropertiesToCollection(properties(node)));
+        nodeModel.setPropertyList(propertyList(node));
         nodeModel.setGeneratedNode(generatedNode);
 
         graphModel.addNode(nodeModel);
@@ -129,11 +132,29 @@ public abstract class GraphModelAdapter extends BaseAdapter implements ResultAda
         edgeModel.setStartNode(startNodeId(relationship));
         edgeModel.setEndNode(endNodeId(relationship));
 
-        edgeModel.setProperties(convertArrayPropertiesToCollection(properties(relationship)));
+        edgeModel.setPropertyList(propertyList(relationship));
 
         graphModel.addRelationship(edgeModel);
     }
 
+    /**
+     * Returns the properties of a node or relationship with array values converted to collections and without
+     * {@literal null} values. Adapters that can read the properties of their native entities one by one should
+     * override this and skip the intermediate map returned by {@link #properties(Object)}.
+     *
+     * @param container The node or relationship
+     * @return A new, modifiable list of properties
+     */
+    public List<Property<String, Object>> propertyList(Object container) {
+
+        Map<String, Object> properties = convertArrayPropertiesToCollection(properties(container));
+        List<Property<String, Object>> propertyList = new ArrayList<>(properties.size());
+        for (Map.Entry<String, Object> entry : properties.entrySet()) {
+            propertyList.add(new PropertyModel<>(entry.getKey(), entry.getValue()));
+        }
+        return propertyList;
+    }
+
     public abstract boolean isPath(Object value);
 
     public abstract boolean isNode(Object value);
@@ -32,6 +32,8 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -102,6 +104,11 @@ public class BoltDriver extends AbstractConfigurableDriver {
     private final ExceptionTranslator exceptionTranslator = new BoltDriverExceptionTranslator();
 
     private volatile Driver boltDriver;
+    /**
+     * Guards creating and closing {@link #boltDriver}. Both block on network I/O, which must not happen while holding
+     * a monitor, as that would pin virtual threads to their carrier.
+     */
+    private final Lock boltDriverLock = new ReentrantLock();
     private Credentials<?> credentials;
     private Config driverConfig;
     /**
@@ -174,11 +181,14 @@ public class BoltDriver extends AbstractConfigurableDriver {
     private void checkDriverInitialized() {
         Driver driver = boltDriver;
         if (driver == null) {
-            synchronized (this) {
+            boltDriverLock.lock();
+            try {
                 driver = boltDriver;
                 if (driver == null) {
                     initializeDriver();
                 }
+            } finally {
+                boltDriverLock.unlock();
             }
         }
     }
@@ -245,15 +255,18 @@ public class BoltDriver extends AbstractConfigurableDriver {
     }
 
     @Override
-    public synchronized void close() {
-        if (boltDriver != null) {
-            try {
+    public void close() {
+        boltDriverLock.lock();
+        try {
+            if (boltDriver != null) {
                 LOGGER.info("Shutting down Bolt driver {} ", boltDriver);
                 boltDriver.close();
                 boltDriver = null;
-            } catch (Exception e) {
-                throw new RuntimeException(e);
             }
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        } finally {
+            boltDriverLock.unlock();
         }
     }
 
@@ -264,8 +277,12 @@ public class BoltDriver extends AbstractConfigurableDriver {
 
     @Override
     public Request request(Transaction transaction) {
+        boolean statementPipelining = Optional.ofNullable(configuration)
+            .map(Configuration::getStatementPipelining).orElse(false);
+        int maxRowsPerStatement = Optional.ofNullable(configuration)
+            .map(Configuration::getMaxRowsPerStatement).orElse(Integer.MAX_VALUE);
         return new BoltRequest(transaction, this.parameterConversion, new BoltEntityAdapter(typeSystem),
-            getCypherModification());
+            getCypherModification(), statementPipelining, maxRowsPerStatement);
     }
 
     public <T> T unwrap(Class<T> clazz) {
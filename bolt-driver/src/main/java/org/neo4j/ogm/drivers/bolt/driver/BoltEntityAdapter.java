@@ -90,6 +90,25 @@ public class BoltEntityAdapter {
         return ((Entity) container).asMap(this::toMapped);
     }
 
+    public Iterable<String> propertyKeys(Object container) {
+        return ((Entity) container).keys();
+    }
+
+    public int numberOfProperties(Object container) {
+        return ((Entity) container).size();
+    }
+
+    /**
+     * Reads a single property of a node or relationship and converts it to the mapped type.
+     *
+     * @param container A node or relationship
+     * @param key       The key of the property
+     * @return The converted value, {@literal null} if the property doesn't exist
+     */
+    public Object property(Object container, String key) {
+        return toMapped(((Entity) container).get(key));
+    }
+
     public List<Object> nodesInPath(Object pathValue) {
         Path path = (Path) pathValue;
         List<Object> nodes = new ArrayList<>(path.length());
@@ -69,12 +69,27 @@ public class BoltRequest implements Request {
 
     private final Function<String, String> cypherModification;
 
+    private final boolean statementPipelining;
+
+    private final int maxRowsPerStatement;
+
     public BoltRequest(Transaction transaction, ParameterConversion parameterConversion, BoltEntityAdapter entityAdapter,
         Function<String, String> cypherModification) {
+        this(transaction, parameterConversion, entityAdapter, cypherModification, false, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param statementPipelining Flag, whether independent statements of a {@link DefaultRequest} are sent as one query
+     * @param maxRowsPerStatement The maximum number of rows of all statements sent as one query
+     */
+    public BoltRequest(Transaction transaction, ParameterConversion parameterConversion, BoltEntityAdapter entityAdapter,
+        Function<String, String> cypherModification, boolean statementPipelining, int maxRowsPerStatement) {
         this.transaction = transaction;
         this.parameterConversion = parameterConversion;
         this.entityAdapter = entityAdapter;
         this.cypherModification = cypherModification;
+        this.statementPipelining = statementPipelining;
+        this.maxRowsPerStatement = maxRowsPerStatement;
     }
 
     @Override
@@ -98,7 +113,9 @@ public class BoltRequest implements Request {
     public Response<RowModel> execute(DefaultRequest query) {
         final List<RowModel> rowModels = new ArrayList<>();
         String[] columns = null;
-        for (Statement statement : query.getStatements()) {
+        List<Statement> statements = statementPipelining ?
+            StatementPipeline.combine(query.getStatements(), maxRowsPerStatement) : query.getStatements();
+        for (Statement statement : statements) {
 
             Result result = executeRequest(statement);
             try (RowModelResponse rowModelResponse = new RowModelResponse(result, entityAdapter)) {
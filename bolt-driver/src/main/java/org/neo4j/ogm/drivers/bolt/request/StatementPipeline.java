@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.drivers.bolt.request;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.neo4j.ogm.request.OptimisticLockingConfig;
+import org.neo4j.ogm.request.Statement;
+
+/**
+ * Combines consecutive write statements of a request into a single {@code UNION ALL} query, so that they are sent to
+ * the database in one round trip instead of one round trip per statement.
+ * <p>
+ * Only statements that return the created or updated entities as {@code ref}, {@code id} and {@code type} and that
+ * don't need to be checked for optimistic locking are combined. The parameters of each statement are prefixed so that
+ * they don't clash. All other statements are kept as they are and split the pipeline, so that the order in which
+ * statements are executed doesn't change.
+ * <p>
+ * A combined query passes no more rows to the database than the configured maximum number of rows per statement, so
+ * that statements split into chunks of rows are not merged back into one large message.
+ */
+final class StatementPipeline {
+
+    private static final Pattern RETURNS_REFERENCE_MAPPING = Pattern.compile(
+        "(?is).*\\bRETURN\\b.+\\bas\\s+ref\\s*,.+\\bas\\s+id\\s*,\\s*\\$type\\s+as\\s+type\\s*");
+
+    private static final Pattern UNION = Pattern.compile("(?i)\\bUNION\\b");
+
+    static List<Statement> combine(List<Statement> statements) {
+        return combine(statements, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param statements The statements to combine
+     * @param maxRows    The maximum number of rows of all statements combined into one query
+     * @return The combined statements
+     */
+    static List<Statement> combine(List<Statement> statements, int maxRows) {
+
+        List<Statement> result = new ArrayList<>(statements.size());
+        List<Statement> pipeline = new ArrayList<>();
+        long rowsInPipeline = 0;
+        for (Statement statement : statements) {
+            if (canBePipelined(statement)) {
+                int rows = numberOfRows(statement);
+                if (!pipeline.isEmpty() && rowsInPipeline + rows > maxRows) {
+                    flush(pipeline, result);
+                    rowsInPipeline = 0;
+                }
+                pipeline.add(statement);
+                rowsInPipeline += rows;
+            } else {
+                rowsInPipeline = 0;
+                flush(pipeline, result);
+                result.add(statement);
+            }
+        }
+        flush(pipeline, result);
+        return result;
+    }
+
+    private static int numberOfRows(Statement statement) {
+        return statement.getParameters().get("rows") instanceof Collection<?> rows ? rows.size() : 1;
+    }
+
+    private static boolean canBePipelined(Statement statement) {
+
+        String cypher = statement.getStatement();
+        return statement.optimisticLockingConfig().isEmpty()
+            && RETURNS_REFERENCE_MAPPING.matcher(cypher).matches()
+            && !UNION.matcher(cypher).find()
+            && prefixParameters(cypher, "") != null;
+    }
+
+    private static void flush(List<Statement> pipeline, List<Statement> result) {
+
+        if (pipeline.size() == 1) {
+            result.add(pipeline.get(0));
+        } else if (pipeline.size() > 1) {
+            StringBuilder cypher = new StringBuilder();
+            Map<String, Object> parameters = new HashMap<>();
+            for (int i = 0; i < pipeline.size(); ++i) {
+                Statement statement = pipeline.get(i);
+                String prefix = "p" + i + "_";
+                if (i > 0) {
+                    cypher.append(" UNION ALL ");
+                }
+                cypher.append(prefixParameters(statement.getStatement(), prefix));
+                statement.getParameters().forEach((key, value) -> parameters.put(prefix + key, value));
+            }
+            result.add(new PipelinedStatement(cypher.toString(), parameters));
+        }
+        pipeline.clear();
+    }
+
+    /**
+     * Prefixes all parameters used in the given Cypher, skipping identifiers in backticks and string literals.
+     *
+     * @param cypher The Cypher to rewrite
+     * @param prefix The prefix for each parameter name
+     * @return The rewritten Cypher or {@literal null} if it uses parameters that can't be rewritten safely
+     */
+    static String prefixParameters(String cypher, String prefix) {
+
+        StringBuilder result = new StringBuilder(cypher.length() + 16);
+        char quote = 0;
+        for (int i = 0; i < cypher.length(); ++i) {
+            char c = cypher.charAt(i);
+            result.append(c);
+            if (quote != 0) {
+                if (c == '\\' && quote != '`' && i + 1 < cypher.length()) {
+                    result.append(cypher.charAt(++i));
+                } else if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '`' || c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '$') {
+                char next = i + 1 < cypher.length() ? cypher.charAt(i + 1) : 0;
+                if (!(Character.isLetter(next) || next == '_')) {
+                    return null;
+                }
+                result.append(prefix);
+            }
+        }
+        return quote == 0 ? result.toString() : null;
+    }
+
+    private static final class PipelinedStatement implements Statement {
+
+        private final String statement;
+        private final Map<String, Object> parameters;
+
+        PipelinedStatement(String statement, Map<String, Object> parameters) {
+            this.statement = statement;
+            this.parameters = parameters;
+        }
+
+        @Override
+        public String getStatement() {
+            return statement;
+        }
+
+        @Override
+        public Map<String, Object> getParameters() {
+            return parameters;
+        }
+
+        @Override
+        public String[] getResultDataContents() {
+            return new String[] { "row" };
+        }
+
+        @Override
+        public boolean isIncludeStats() {
+            return false;
+        }
+
+        @Override
+        public Optional<OptimisticLockingConfig> optimisticLockingConfig() {
+            return Optional.empty();
+        }
+    }
+
+    private StatementPipeline() {
+    }
+}
@@ -18,10 +18,13 @@
  */
 package org.neo4j.ogm.drivers.bolt.response;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import org.neo4j.ogm.drivers.bolt.driver.BoltEntityAdapter;
+import org.neo4j.ogm.model.Property;
+import org.neo4j.ogm.response.model.PropertyModel;
 import org.neo4j.ogm.result.adapter.GraphModelAdapter;
 
 /**
@@ -86,6 +89,22 @@ public class BoltGraphModelAdapter extends GraphModelAdapter {
         return entityAdapter.properties(container);
     }
 
+    /**
+     * Reads the properties straight from the native node or relationship, without materializing them as a map first.
+     */
+    @Override
+    public List<Property<String, Object>> propertyList(Object container) {
+
+        List<Property<String, Object>> propertyList = new ArrayList<>(entityAdapter.numberOfProperties(container));
+        for (String key : entityAdapter.propertyKeys(container)) {
+            Object value = entityAdapter.property(container, key);
+            if (value != null) {
+                propertyList.add(new PropertyModel<>(key, convertArrayToCollection(value)));
+            }
+        }
+        return propertyList;
+    }
+
     @Override
     public List<Object> nodesInPath(Object pathValue) {
         return entityAdapter.nodesInPath(pathValue);
@@ -22,10 +22,15 @@ import static org.neo4j.ogm.session.request.strategy.impl.NodeQueryStatements.*;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
@@ -76,6 +81,21 @@ public class EntityGraphMapper implements EntityMapper {
      */
     private final AtomicInteger currentDepth = new AtomicInteger(0);
 
+    /**
+     * The entities passed to {@link #map(Object, int)}, which are traversed even if they have not been marked dirty.
+     */
+    private final Set<Object> roots = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Native ids of all existing nodes visited so far, used to decide which marked entities belong to the saved graph.
+     */
+    private final Set<Long> visitedNodeIds = new HashSet<>();
+
+    /**
+     * Entities whose relationship fields have been mapped completely and are in sync with the graph after the save.
+     */
+    private final Set<Object> entitiesWithMappedReferences = Collections.newSetFromMap(new IdentityHashMap<>());
+
     /**
      * Default supplier for write protection: Always write all the stuff.
      */
@@ -140,6 +160,9 @@ public class EntityGraphMapper implements EntityMapper {
                 throw new RuntimeException("@EndNode of relationship entity may not be null");
             }
 
+            roots.add(startNode);
+            roots.add(endNode);
+
             // map both sides as far as the specified horizon
             NodeBuilder startNodeBuilder = mapEntity(startNode, horizon);
             NodeBuilder endNodeBuilder = mapEntity(endNode, horizon);
@@ -167,9 +190,11 @@ public class EntityGraphMapper implements EntityMapper {
                 updateRelationship(compiler.context(), startNodeBuilder, endNodeBuilder, relationshipBuilder, relNodes);
             }
         } else { // not an RE, simply map the entity
+            roots.add(entity);
             mapEntity(entity, horizon);
         }
 
+        mapReachableMarkedEntities(horizon);
         deleteObsoleteRelationships();
 
         return compiler.context();
@@ -180,6 +205,17 @@ public class EntityGraphMapper implements EntityMapper {
         return compiler.context();
     }
 
+    /**
+     * Remembers the relationship fields of all entities whose relationships have been mapped, so that saves with dirty
+     * tracking skip them again until they are marked or their relationships change. Must only be called after the
+     * statements of the {@link #compileContext() compile context} have been executed successfully.
+     */
+    public void rememberMappedRelationships() {
+        if (mappingContext.isDirtyTracking()) {
+            entitiesWithMappedReferences.forEach(mappingContext::rememberRelationships);
+        }
+    }
+
     /**
      * Detects object references (including from lists) that have been deleted in the domain.
      * These must be persisted as explicit requests to delete the corresponding relationship in the graph
@@ -227,24 +263,104 @@ public class EntityGraphMapper implements EntityMapper {
         }
     }
 
-    private void clearRelatedObjects(Long node) {
+    /**
+     * With dirty tracking, the traversal stops at unmarked entities, so marked entities behind them have not been
+     * mapped yet. Those are mapped now, if the relationships known to the mapping context connect them to any of the
+     * nodes visited so far. Marked entities that are not connected to the saved graph are left for another save.
+     * <p>
+     * The search starts at the marked entities and stops as soon as it reaches a visited node, so its cost depends on
+     * the distance of the marked entities to the saved graph and not on the size of the mapping context. Only marked
+     * entities that are not connected at all cause their whole connected part of the known graph to be walked.
+     *
+     * @param horizon The horizon of the current save
+     */
+    private void mapReachableMarkedEntities(int horizon) {
 
-        for (MappedRelationship mappedRelationship : mappingContext.getRelationships()) {
-            if (mappedRelationship.getStartNodeId() == node || mappedRelationship.getEndNodeId() == node) {
+        if (!mappingContext.isDirtyTracking() || horizon >= 0) {
+            return;
+        }
 
-                Object dirty = mappingContext.getNodeEntity(mappedRelationship.getEndNodeId());
-                if (dirty != null) {
-                    LOGGER.debug("flushing end node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(),
-                        mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
-                    mappingContext.removeNodeEntity(dirty, true);
+        CompileContext context = compiler.context();
+        boolean progress = true;
+        while (progress) {
+            Map<Long, Object> pending = new HashMap<>();
+            for (Object marked : mappingContext.getMarkedEntities()) {
+                if (!isRelationshipEntity(marked) && context.visitedNode(marked) == null) {
+                    mappingContext.optionalNativeId(marked).filter(id -> id >= 0)
+                        .ifPresent(id -> pending.put(id, marked));
                 }
+            }
+            if (pending.isEmpty()) {
+                return;
+            }
 
-                dirty = mappingContext.getNodeEntity(mappedRelationship.getStartNodeId());
-                if (dirty != null) {
-                    LOGGER.debug("flushing start node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(),
-                        mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
-                    mappingContext.removeNodeEntity(dirty, true);
+            // Everything explored from a marked entity belongs to the same connected part of the known graph, so
+            // the outcome of a search is valid for all the nodes it explored, until more nodes are visited.
+            Set<Long> connected = new HashSet<>();
+            Set<Long> disconnected = new HashSet<>();
+            List<Object> found = new ArrayList<>();
+            pending.forEach((id, marked) -> {
+                if (isConnectedToVisitedNodes(id, connected, disconnected)) {
+                    found.add(marked);
                 }
+            });
+
+            for (Object marked : found) {
+                LOGGER.debug("mapping marked entity behind unmarked ones: {}", marked);
+                mapEntity(marked, horizon);
+            }
+            progress = !found.isEmpty();
+        }
+    }
+
+    private boolean isConnectedToVisitedNodes(Long start, Set<Long> connected, Set<Long> disconnected) {
+
+        if (connected.contains(start)) {
+            return true;
+        } else if (disconnected.contains(start)) {
+            return false;
+        }
+
+        Set<Long> explored = new HashSet<>();
+        List<Long> frontier = new ArrayList<>();
+        explored.add(start);
+        frontier.add(start);
+        boolean reached = false;
+        while (!frontier.isEmpty()) {
+            Long id = frontier.remove(frontier.size() - 1);
+            if (visitedNodeIds.contains(id) || connected.contains(id)) {
+                reached = true;
+                break;
+            }
+            for (MappedRelationship mappedRelationship : mappingContext.getRelationshipsOf(id)) {
+                long otherId = mappedRelationship.getStartNodeId() == id ?
+                    mappedRelationship.getEndNodeId() :
+                    mappedRelationship.getStartNodeId();
+                if (!disconnected.contains(otherId) && explored.add(otherId)) {
+                    frontier.add(otherId);
+                }
+            }
+        }
+        (reached ? connected : disconnected).addAll(explored);
+        return reached;
+    }
+
+    private void clearRelatedObjects(Long node) {
+
+        for (MappedRelationship mappedRelationship : mappingContext.getRelationshipsOf(node)) {
+
+            Object dirty = mappingContext.getNodeEntity(mappedRelationship.getEndNodeId());
+            if (dirty != null) {
+                LOGGER.debug("flushing end node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(),
+                    mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
+                mappingContext.removeNodeEntity(dirty, true);
+            }
+
+            dirty = mappingContext.getNodeEntity(mappedRelationship.getStartNodeId());
+            if (dirty != null) {
+                LOGGER.debug("flushing start node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(),
+                    mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
+                mappingContext.removeNodeEntity(dirty, true);
             }
         }
     }
@@ -273,12 +389,19 @@ public class EntityGraphMapper implements EntityMapper {
 
         if (nodeBuilder == null) {
             nodeBuilder = newNodeBuilder(entity, horizon);
+            if (isPrunable(entity, horizon)) {
+                // neither the entity nor anything only reachable through it needs to be written
+                context.deregister(nodeBuilder);
+                LOGGER.debug("not marked dirty, skipping it and everything only reachable through it: {}", entity);
+                return nodeBuilder;
+            }
             if (!isWriteProtected(WriteProtectionTarget.PROPERTIES, entity)) {
                 updateNode(entity, context, nodeBuilder);
             }
         }
 
         if (horizon != 0) {
+            entitiesWithMappedReferences.add(entity);
             mapEntityReferences(entity, nodeBuilder, horizon - 1);
         } else {
             LOGGER.debug("at horizon 0: {} ", entity);
@@ -286,6 +409,31 @@ public class EntityGraphMapper implements EntityMapper {
         return nodeBuilder;
     }
 
+    /**
+     * An entity is pruned from the traversal, if dirty tracking is enabled, the depth of the save is not limited and
+     * the entity is a known, unmarked entity of the mapping context that has not been passed to the save itself and
+     * whose relationship fields have not changed noticeably since they have been loaded or saved.
+     *
+     * @param entity  The entity in question
+     * @param horizon The current horizon
+     * @return True if neither the entity nor its relationships have to be mapped
+     */
+    private boolean isPrunable(Object entity, int horizon) {
+        if (!mappingContext.isDirtyTracking() || horizon >= 0 || roots.contains(entity)
+            || mappingContext.isMarkedDirty(entity)) {
+            return false;
+        }
+        Long id = mappingContext.nativeId(entity);
+        if (id < 0 || mappingContext.getNodeEntity(id) != entity) {
+            return false;
+        }
+        if (mappingContext.haveRelationshipsChanged(entity)) {
+            LOGGER.debug("not marked dirty, but its relationships have changed: {}", entity);
+            return false;
+        }
+        return true;
+    }
+
     private boolean isWriteProtected(WriteProtectionTarget mode, Object target) {
         return this.optionalWriteProtectionSupplier.map(supplier -> supplier.apply(mode, target.getClass())) //
             .map(p -> p.test(target)) //
@@ -347,6 +495,7 @@ public class EntityGraphMapper implements EntityMapper {
         } else {
             nodeBuilder = compiler.existingNode(id);
             nodeBuilder.addLabels(labels).setPrimaryIndex(primaryIndex);
+            visitedNodeIds.add(id);
 
             this.mappingContext.getSnapshotOf(entity).ifPresent(snapshot ->
                 nodeBuilder
@@ -729,7 +878,19 @@ public class EntityGraphMapper implements EntityMapper {
         updateFieldsOnBuilder(relationshipEntity, relationshipBuilder, relEntityClassInfo);
     }
 
+    /**
+     * Adds the properties of the entity to the builder. For nodes and relationships that already exist in the graph,
+     * only the properties whose fields changed since the entity has been loaded are added. This is safe as existing
+     * nodes and relationships are updated via {@code SET x += row.props}. Composite and version properties are
+     * always added.
+     */
     private <T> void updateFieldsOnBuilder(Object entity, PropertyContainerBuilder<T> builder, ClassInfo classInfo) {
+
+        Set<FieldInfo> changedFields = null;
+        if (builder.reference() != null && builder.reference() >= 0) {
+            changedFields = mappingContext.getChangedPropertyFields(entity).orElse(null);
+        }
+
         for (FieldInfo fieldInfo : classInfo.propertyFields()) {
             if (fieldInfo.isReadOnly()) {
                 continue;
@@ -740,7 +901,7 @@ public class EntityGraphMapper implements EntityMapper {
                 builder.addCompositeProperties(properties);
             } else if (fieldInfo.isVersionField()) {
                 updateVersionField(entity, builder, fieldInfo);
-            } else {
+            } else if (changedFields == null || changedFields.contains(fieldInfo)) {
                 builder.addProperty(fieldInfo.propertyName(), fieldInfo.readProperty(entity));
             }
         }
@@ -933,7 +1094,7 @@ public class EntityGraphMapper implements EntityMapper {
             //If its a rel entity then we want to rebase the startClass to the @StartNode of the rel entity and the endClass to the rel entity
             if (metaData.isRelationshipEntity(tgtClass.getName())) {
                 srcClass = tgtClass;
-                String start = metaData.classInfo(tgtClass.getName()).getStartNodeReader().getTypeDescriptor();
+                String start = metaData.classInfo(tgtClass).getStartNodeReader().getTypeDescriptor();
                 tgtClass = DescriptorMappings.getType(start);
             }
             reallyCreateRelationship(context, tgt, relationshipBuilder, src, tgtClass, srcClass);
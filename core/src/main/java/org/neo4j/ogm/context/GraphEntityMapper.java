@@ -25,6 +25,8 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.neo4j.ogm.annotation.EndNode;
 import org.neo4j.ogm.annotation.Relationship.Direction;
@@ -33,6 +35,7 @@ import org.neo4j.ogm.exception.core.MappingException;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.DescriptorMappings;
 import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metadata.HydrationPlan;
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.metadata.MethodInfo;
 import org.neo4j.ogm.metadata.reflect.EntityAccessManager;
@@ -44,7 +47,6 @@ import org.neo4j.ogm.model.Property;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.response.model.PropertyModel;
 import org.neo4j.ogm.session.EntityInstantiator;
-import org.neo4j.ogm.typeconversion.CompositeAttributeConverter;
 import org.neo4j.ogm.utils.EntityUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -106,35 +108,157 @@ public class GraphEntityMapper {
             graphModel -> mapContentOf(graphModel, additionalEntityFilter, returnedNodeIds, mappedRelationshipIds,
                 returnedRelationshipIds, mappedNodeIds);
 
-        GraphModel graphModel = null;
-        while ((graphModel = graphModelResponse.next()) != null) {
-            mapContentOfIndividualModel.accept(graphModel);
+        // Nothing mapped is evicted from a bounded context before it has been post processed and collected
+        mappingContext.startLoad();
+        try {
+            GraphModel graphModel = null;
+            while ((graphModel = graphModelResponse.next()) != null) {
+                mapContentOfIndividualModel.accept(graphModel);
+            }
+            graphModelResponse.close();
+
+            // Execute postload after all models and only for new ids
+            executePostLoad(mappedNodeIds, mappedRelationshipIds);
+
+            return collectResults(type, returnedNodeIds, returnedRelationshipIds);
+        } finally {
+            mappingContext.finishLoad();
         }
-        graphModelResponse.close();
+    }
+
+    /**
+     * Maps the graph models of the response lazily while the returned stream is consumed. Only the entities of the
+     * current graph model are buffered, along with the ids of the entities mapped so far. Each entity is returned once
+     * per stream, when the first model containing it has been mapped, and methods annotated with @PostLoad are executed
+     * exactly once per stream and entity: For a returned entity right before it is returned, for all other entities
+     * after the last model has been mapped, when all their relationships of the response have been hydrated. Entities
+     * that are not returned won't be post processed if the stream is closed before it has been consumed completely.
+     * Closing the stream closes the response.
+     * <p>
+     * A bounded mapping context retains the entities of the current graph model until they have been collected, so
+     * entities of earlier models may have been evicted when the stream advances, and are mapped to new instances if a
+     * later model contains them again. Entities waiting to be post processed are referenced by the stream, so that they
+     * are post processed anyway.
+     *
+     * @param type                   the type of the entities to return
+     * @param graphModelResponse     The response of graph models to work on
+     * @param additionalEntityFilter An optional filter to exclude entities based on some nodes from the result
+     * @param <T>                    The type of the class of the entities to return
+     * @return A sequential stream of the entities represented by the graph models
+     */
+    <T> Stream<T> stream(Class<T> type, Response<GraphModel> graphModelResponse,
+        EntityFilter additionalEntityFilter) {
+
+        Spliterator<T> entities = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+            Spliterator.ORDERED | Spliterator.NONNULL) {
+
+            private final Deque<T> entitiesOfCurrentModel = new ArrayDeque<>();
+
+            private final Set<Long> returnedNodeIds = new HashSet<>();
+            private final Set<Long> returnedRelationshipIds = new HashSet<>();
+
+            // mapped entities, that have not been returned, are post processed after the last model
+            private final Map<Long, Object> deferredNodes = new LinkedHashMap<>();
+            private final Map<Long, Object> deferredRelationships = new LinkedHashMap<>();
 
-        // Execute postload after all models and only for new ids
-        executePostLoad(mappedNodeIds, mappedRelationshipIds);
+            private boolean exhausted;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                GraphModel graphModel;
+                while (entitiesOfCurrentModel.isEmpty() && !exhausted) {
+                    graphModel = graphModelResponse.next();
+                    if (graphModel == null) {
+                        exhausted = true;
+                        deferredNodes.values().forEach(GraphEntityMapper.this::executePostLoad);
+                        deferredRelationships.values().forEach(GraphEntityMapper.this::executePostLoad);
+                        deferredNodes.clear();
+                        deferredRelationships.clear();
+                    } else {
+                        entitiesOfCurrentModel.addAll(mapModel(graphModel));
+                    }
+                }
+                if (entitiesOfCurrentModel.isEmpty()) {
+                    return false;
+                }
+                action.accept(entitiesOfCurrentModel.poll());
+                return true;
+            }
+
+            private List<T> mapModel(GraphModel graphModel) {
+
+                Set<Long> mappedNodeIds = new LinkedHashSet<>();
+                Set<Long> includedNodeIds = new LinkedHashSet<>();
+                Set<Long> mappedRelationshipIds = new LinkedHashSet<>();
+                Set<Long> includedRelationshipIds = new LinkedHashSet<>();
+
+                mappingContext.startLoad();
+                try {
+                    mapContentOf(graphModel, additionalEntityFilter, includedNodeIds, mappedRelationshipIds,
+                        includedRelationshipIds, mappedNodeIds);
+
+                    Set<Long> newlyReturnedNodeIds = new LinkedHashSet<>();
+                    Set<Long> newlyReturnedRelationshipIds = new LinkedHashSet<>();
+                    List<T> results = collectResults(type, includedNodeIds, includedRelationshipIds,
+                        id -> returnedNodeIds.add(id) && newlyReturnedNodeIds.add(id),
+                        id -> returnedRelationshipIds.add(id) && newlyReturnedRelationshipIds.add(id));
+
+                    deferredNodes.keySet().removeAll(newlyReturnedNodeIds);
+                    deferredRelationships.keySet().removeAll(newlyReturnedRelationshipIds);
+                    for (Long id : mappedNodeIds) {
+                        if (!returnedNodeIds.contains(id)) {
+                            deferredNodes.put(id, mappingContext.getNodeEntity(id));
+                        }
+                    }
+                    for (Long id : mappedRelationshipIds) {
+                        Object relationshipEntity = mappingContext.getRelationshipEntity(id);
+                        if (!returnedRelationshipIds.contains(id) && relationshipEntity != null) {
+                            deferredRelationships.put(id, relationshipEntity);
+                        }
+                    }
+
+                    executePostLoad(newlyReturnedNodeIds, newlyReturnedRelationshipIds);
+                    return results;
+                } finally {
+                    mappingContext.finishLoad();
+                }
+            }
+        };
+        return StreamSupport.stream(entities, false).onClose(graphModelResponse::close);
+    }
+
+    private <T> List<T> collectResults(Class<T> type, Set<Long> returnedNodeIds, Set<Long> returnedRelationshipIds) {
+        return collectResults(type, returnedNodeIds, returnedRelationshipIds, id -> true, id -> true);
+    }
+
+    /**
+     * Collects the returned node entities compatible with the given type or, if there are none, the compatible
+     * relationship entities. The additional predicates select the ids of the compatible entities to include.
+     */
+    private <T> List<T> collectResults(Class<T> type, Set<Long> returnedNodeIds, Set<Long> returnedRelationshipIds,
+        Predicate<Long> includeNode, Predicate<Long> includeRelationship) {
 
-        // Collect result
         Predicate<Object> entityPresentAndCompatible = entity -> entity != null && type
             .isAssignableFrom(entity.getClass());
-        List<T> results = returnedNodeIds.stream()
-            .map(mappingContext::getNodeEntity)
-            .filter(entityPresentAndCompatible)
-            .map(type::cast)
-            .collect(toList());
+        List<Long> compatibleNodeIds = returnedNodeIds.stream()
+            .filter(id -> entityPresentAndCompatible.test(mappingContext.getNodeEntity(id)))
+            .toList();
 
         // only look for REs if no node entities were found
-        if (results.isEmpty()) {
-
-            results = returnedRelationshipIds.stream()
-                .map(mappingContext::getRelationshipEntity)
-                .filter(entityPresentAndCompatible)
+        if (!compatibleNodeIds.isEmpty()) {
+            return compatibleNodeIds.stream()
+                .filter(includeNode)
+                .map(mappingContext::getNodeEntity)
                 .map(type::cast)
                 .collect(toList());
         }
 
-        return results;
+        return returnedRelationshipIds.stream()
+            .filter(id -> entityPresentAndCompatible.test(mappingContext.getRelationshipEntity(id)))
+            .filter(includeRelationship)
+            .map(mappingContext::getRelationshipEntity)
+            .map(type::cast)
+            .collect(toList());
     }
 
     private void mapContentOf(
@@ -155,6 +279,16 @@ public class GraphEntityMapper {
             newNodeIds = mapRelationships(graphModel);
             returnedRelationshipIds.addAll(newNodeIds.stream().filter(includeRelInResult).toList());
             mappedRelationshipIds.addAll(newNodeIds);
+
+            if (mappingContext.isDirtyTracking()) {
+                // The relationship fields are complete only after all relationships of the model have been mapped
+                for (Node node : graphModel.getNodes()) {
+                    Object entity = mappingContext.getNodeEntity(node.getId());
+                    if (entity != null) {
+                        mappingContext.rememberRelationships(entity);
+                    }
+                }
+            }
         } catch (MappingException e) {
             throw e;
         } catch (Exception e) {
@@ -208,22 +342,24 @@ public class GraphEntityMapper {
 
         Set<Long> mappedNodeIds = new LinkedHashSet<>();
         for (Node node : graphModel.getNodes()) {
-            Object entity = mappingContext.getNodeEntity(node.getId());
+            Object entity = mappingContext.lookupNodeEntity(node.getId());
             if (entity == null) {
                 ClassInfo clsi = metadata.resolve(node.getLabels());
                 if (clsi == null) {
                     logger.debug("Could not find a class to map for labels " + Arrays.toString(node.getLabels()));
                     continue;
                 }
+                HydrationPlan plan = HydrationPlan.of(clsi, node.getPropertyList());
+                Map<FieldInfo, Object> compositeValues = plan.compositeValues(node.getPropertyList());
                 Map<String, Object> allProps = new HashMap<>(toMap(node.getPropertyList()));
-                getCompositeProperties(node.getPropertyList(), clsi).forEach((k, v) -> {
+                compositeValues.forEach((k, v) -> {
                     allProps.put(k.getName(), v);
                 });
                 allProps.put(EntityInstantiator.NEO4J_INTERNAL_NODE_MODEL, node);
                 entity = entityFactory.newObject(clsi.getUnderlyingClass(), allProps);
                 if (!clsi.getUnderlyingClass().isRecord()) {
                     EntityUtils.setIdentity(entity, node.getId(), metadata);
-                    setProperties(node.getPropertyList(), entity);
+                    setProperties(node.getPropertyList(), entity, clsi, plan, compositeValues);
                     setLabels(node, entity);
                 }
                 mappingContext.addNodeEntity(entity, node.getId());
@@ -234,37 +370,15 @@ public class GraphEntityMapper {
         return mappedNodeIds;
     }
 
-    /**
-     * Finds the composite properties of an entity type and build their values using a property list.
-     *
-     * @param propertyList The properties to convert from.
-     * @param classInfo    The class to inspect for composite attributes.
-     * @return a map containing the values of the converted attributes, indexed by field object. Never null.
-     */
-    private Map<FieldInfo, Object> getCompositeProperties(List<Property<String, Object>> propertyList,
-        ClassInfo classInfo) {
-
-        Map<FieldInfo, Object> compositeValues = new HashMap<>();
-
-        Collection<FieldInfo> compositeFields = classInfo.fieldsInfo().compositeFields();
-        if (compositeFields.size() > 0) {
-            Map<String, ?> propertyMap = toMap(propertyList);
-            for (FieldInfo field : compositeFields) {
-                CompositeAttributeConverter<?> converter = field.getCompositeConverter();
-                compositeValues.put(field, converter.toEntityAttribute(propertyMap));
-            }
-        }
+    private void setProperties(List<Property<String, Object>> propertyList, Object instance, ClassInfo classInfo,
+        HydrationPlan plan, Map<FieldInfo, Object> compositeValues) {
 
-        return compositeValues;
-    }
-
-    private void setProperties(List<Property<String, Object>> propertyList, Object instance) {
-        ClassInfo classInfo = metadata.classInfo(instance);
-
-        getCompositeProperties(propertyList, classInfo).forEach((field, v) -> field.write(instance, v));
-
-        for (Property<?, ?> property : propertyList) {
-            writeProperty(classInfo, instance, property);
+        ClassInfo instanceClassInfo = metadata.classInfo(instance);
+        if (instanceClassInfo == classInfo) {
+            plan.apply(instance, propertyList, compositeValues);
+        } else {
+            HydrationPlan instancePlan = HydrationPlan.of(instanceClassInfo, propertyList);
+            instancePlan.apply(instance, propertyList, instancePlan.compositeValues(propertyList));
         }
     }
 
@@ -379,8 +493,10 @@ public class GraphEntityMapper {
             throw new MappingException("Could not find a class to map for relation " + edge);
         }
 
+        HydrationPlan plan = HydrationPlan.of(relationClassInfo, edge.getPropertyList());
+        Map<FieldInfo, Object> compositeValues = plan.compositeValues(edge.getPropertyList());
         Map<String, Object> allProps = new HashMap<>(toMap(edge.getPropertyList()));
-        getCompositeProperties(edge.getPropertyList(), relationClassInfo).forEach((k, v) -> {
+        compositeValues.forEach((k, v) -> {
             allProps.put(k.getName(), v);
         });
         // also add start and end node as valid constructor values
@@ -394,7 +510,7 @@ public class GraphEntityMapper {
         if (!relationClassInfo.getUnderlyingClass().isRecord()) {
             EntityUtils.setIdentity(relationshipEntity, edge.getId(), metadata);
             // REs also have properties
-            setProperties(edge.getPropertyList(), relationshipEntity);
+            setProperties(edge.getPropertyList(), relationshipEntity, relationClassInfo, plan, compositeValues);
         }
 
         // register it in the mapping context
@@ -651,7 +767,7 @@ public class GraphEntityMapper {
      */
     private boolean declaresRelationshipTo(Class to, Class by, String relationshipName, Direction relationshipDirection) {
         return EntityAccessManager
-            .getRelationalWriter(metadata.classInfo(by.getName()), relationshipName, relationshipDirection, to) != null;
+            .getRelationalWriter(metadata.classInfo(by), relationshipName, relationshipDirection, to) != null;
     }
 
     /**
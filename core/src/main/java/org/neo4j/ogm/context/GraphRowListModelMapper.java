@@ -19,9 +19,11 @@
 package org.neo4j.ogm.context;
 
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.model.GraphModel;
@@ -50,7 +52,40 @@ public class GraphRowListModelMapper implements ResponseMapper<GraphRowListModel
     public <T> Iterable<T> map(Class<T> type, Response<GraphRowListModel> response) {
         Set<Long> idsOfResultEntities = new LinkedHashSet<>();
 
-        Response<GraphModel> graphResponse = new Response<GraphModel>() {
+        Response<GraphModel> graphResponse = graphModelsOf(response, idsOfResultEntities, false);
+
+        // although it looks like that the `idsOfResultEntities` will stay empty, they won't, trust us.
+        EntityFilter includeModelObject =
+            (graphModel, nativeId, isNode) -> idsOfResultEntities.contains(nativeId);
+
+        return delegate.map(type, graphResponse, includeModelObject);
+    }
+
+    /**
+     * Maps the response lazily while the returned stream is consumed. Other than {@link #map(Class, Response)}, only
+     * the ids of the row currently being mapped are retained. The stream must be closed to close the response.
+     *
+     * @param type     the type of the entities to return
+     * @param response The response of graph row list models to work on
+     * @param <T>      The type of the class of the entities to return
+     * @return A sequential stream of the entities represented by the response
+     */
+    public <T> Stream<T> stream(Class<T> type, Response<GraphRowListModel> response) {
+        Set<Long> idsOfCurrentRow = new HashSet<>();
+
+        Response<GraphModel> graphResponse = graphModelsOf(response, idsOfCurrentRow, true);
+
+        // Each graph model is mapped right after it has been retrieved, so the ids belong to the model being mapped
+        EntityFilter includeModelObject =
+            (graphModel, nativeId, isNode) -> idsOfCurrentRow.contains(nativeId);
+
+        return delegate.stream(type, graphResponse, includeModelObject);
+    }
+
+    private static Response<GraphModel> graphModelsOf(Response<GraphRowListModel> response,
+        Set<Long> idsOfResultEntities, boolean onlyCurrentRow) {
+
+        return new Response<GraphModel>() {
 
             GraphRowListModel currentIteratedModel;
             int currentIndex = 0;
@@ -79,6 +114,9 @@ public class GraphRowListModelMapper implements ResponseMapper<GraphRowListModel
                     .map(Number::longValue)
                     .collect(toSet());
 
+                if (onlyCurrentRow) {
+                    idsOfResultEntities.clear();
+                }
                 idsOfResultEntities.addAll(idsInCurrentRow);
 
                 return graphRowModel.getGraph();
@@ -94,11 +132,5 @@ public class GraphRowListModelMapper implements ResponseMapper<GraphRowListModel
                 return response.columns();
             }
         };
-
-        // although it looks like that the `idsOfResultEntities` will stay empty, they won't, trust us.
-        EntityFilter includeModelObject =
-            (graphModel, nativeId, isNode) -> idsOfResultEntities.contains(nativeId);
-
-        return delegate.map(type, graphResponse, includeModelObject);
     }
 }
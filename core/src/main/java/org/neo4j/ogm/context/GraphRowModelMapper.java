@@ -18,6 +18,8 @@
  */
 package org.neo4j.ogm.context;
 
+import java.util.stream.Stream;
+
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.response.Response;
@@ -41,4 +43,16 @@ public class GraphRowModelMapper implements ResponseMapper<GraphModel> {
     public <T> Iterable<T> map(Class<T> type, Response<GraphModel> response) {
         return delegate.map(type, response, EntityFilter.WITHOUT_GENERATED_NODES);
     }
+
+    /**
+     * Maps the response lazily while the returned stream is consumed. The stream must be closed to close the response.
+     *
+     * @param type     the type of the entities to return
+     * @param response The response of graph models to work on
+     * @param <T>      The type of the class of the entities to return
+     * @return A sequential stream of the entities represented by the response
+     */
+    public <T> Stream<T> stream(Class<T> type, Response<GraphModel> response) {
+        return delegate.stream(type, response, EntityFilter.WITHOUT_GENERATED_NODES);
+    }
 }
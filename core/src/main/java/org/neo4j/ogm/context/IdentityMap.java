@@ -20,10 +20,17 @@ package org.neo4j.ogm.context;
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
@@ -42,38 +49,58 @@ class IdentityMap {
     // objects with no properties will always hash to this value.
     private static final long SEED = 0xDEADBEEF / (11 * 257);
 
-    private final Map<Long, Long> nodeHashes;
+    // null values of individual fields hash to this value, so that changing a field from null to a value hashing to 0 is detected.
+    private static final int NULL_HASH = 0x9E3779B9;
 
-    private final Map<Long, Long> relEntityHashes;
+    private final LongLongHashMap nodeHashes;
 
-    private final Map<Long, EntitySnapshot> snapshotsOfNodeEntities;
+    private final LongLongHashMap relEntityHashes;
 
-    private final Map<Long, EntitySnapshot> snapshotsOfRelationshipEntities;
+    private final LongObjectHashMap<FieldSnapshot> nodeFieldSnapshots;
+
+    private final LongObjectHashMap<FieldSnapshot> relEntityFieldSnapshots;
+
+    private final LongObjectHashMap<int[]> nodeRelationshipStamps;
+
+    private final LongObjectHashMap<EntitySnapshot> snapshotsOfNodeEntities;
+
+    private final LongObjectHashMap<EntitySnapshot> snapshotsOfRelationshipEntities;
 
     private final MetaData metaData;
 
     IdentityMap(MetaData metaData) {
-        this.nodeHashes = new HashMap<>();
-        this.relEntityHashes = new HashMap<>();
-        this.snapshotsOfNodeEntities = new HashMap<>();
-        this.snapshotsOfRelationshipEntities = new HashMap<>();
+        this.nodeHashes = new LongLongHashMap();
+        this.relEntityHashes = new LongLongHashMap();
+        this.nodeFieldSnapshots = new LongObjectHashMap<>();
+        this.relEntityFieldSnapshots = new LongObjectHashMap<>();
+        this.nodeRelationshipStamps = new LongObjectHashMap<>();
+        this.snapshotsOfNodeEntities = new LongObjectHashMap<>();
+        this.snapshotsOfRelationshipEntities = new LongObjectHashMap<>();
         this.metaData = metaData;
     }
 
     /**
      * constructs a 64-bit hash of this object's node properties
-     * and maps the object to that hash. The object must not be null
+     * and maps the object to that hash. The object must not be null.
+     * The hashes and copies of the values of the individual fields are
+     * remembered as well, so that the fields that changed can be computed
+     * later on.
      *
      * @param object   the object whose persistable properties we want to hash
      * @param entityId the native id of the entity
      */
     void remember(Object object, Long entityId) {
         ClassInfo classInfo = metaData.classInfo(object);
+        List<FieldInfo> hashFields = hashFields(classInfo);
+        FieldSnapshot fieldSnapshot = new FieldSnapshot(new int[hashFields.size()], new Object[hashFields.size()]);
+        long hash = hash(object, hashFields, fieldSnapshot);
         if (metaData.isRelationshipEntity(classInfo.name())) {
-            this.relEntityHashes.put(entityId, hash(object, classInfo));
+            this.relEntityHashes.put(entityId, hash);
+            this.relEntityFieldSnapshots.put(entityId, fieldSnapshot);
             this.snapshotsOfRelationshipEntities.put(entityId, EntitySnapshot.basedOn(metaData).take(object));
         } else {
-            this.nodeHashes.put(entityId, hash(object, classInfo));
+            this.nodeHashes.put(entityId, hash);
+            this.nodeFieldSnapshots.put(entityId, fieldSnapshot);
             this.snapshotsOfNodeEntities.put(entityId, EntitySnapshot.basedOn(metaData).take(object));
         }
     }
@@ -82,7 +109,8 @@ class IdentityMap {
      * determines whether the specified has already
      * been memorised. The object must not be null. An object
      * is regarded as memorised if its hash value in the memo hash
-     * is identical to a recalculation of its hash value.
+     * is identical to a recalculation of its hash value and the values
+     * of its fields are equal to the remembered copies.
      *
      * @param object   the object whose persistable properties we want to check
      * @param entityId the native id of the entity
@@ -97,16 +125,30 @@ class IdentityMap {
 
         ClassInfo classInfo = metaData.classInfo(object);
         boolean isRelEntity = metaData.isRelationshipEntity(classInfo.name());
-        Map<Long, Long> hashes = isRelEntity ? relEntityHashes : nodeHashes;
+        LongLongHashMap hashes = isRelEntity ? relEntityHashes : nodeHashes;
 
         // ... or a little later when the hashes in question doesnt contain the entities id
         if (!hashes.containsKey(entityId)) {
             return false;
         }
 
-        long actual = hash(object, classInfo);
-        long expected = hashes.get(entityId);
-        return actual == expected;
+        List<FieldInfo> hashFields = hashFields(classInfo);
+        long actual = hash(object, hashFields, null);
+        long expected = hashes.getOrDefault(entityId, SEED);
+        if (actual != expected) {
+            return false;
+        }
+
+        FieldSnapshot rememberedFields = (isRelEntity ? relEntityFieldSnapshots : nodeFieldSnapshots).get(entityId);
+        if (rememberedFields == null || rememberedFields.hashes().length != hashFields.size()) {
+            return false;
+        }
+        for (int i = 0; i < hashFields.size(); ++i) {
+            if (!rememberedFields.isUnchanged(i, hashFields.get(i).read(object))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -119,6 +161,10 @@ class IdentityMap {
      */
     Optional<EntitySnapshot> getSnapshotOf(Object entity, Long entityId) {
 
+        if (entityId == null) {
+            return Optional.empty();
+        }
+
         EntitySnapshot entitySnapshot;
 
         ClassInfo classInfo = metaData.classInfo(entity);
@@ -131,25 +177,169 @@ class IdentityMap {
         return Optional.ofNullable(entitySnapshot);
     }
 
+    /**
+     * Computes the fields of the given object that changed since the object has been remembered. The label field
+     * is not considered. A field has changed if its value is not equal to the remembered copy or, for values that
+     * can't be copied and may have been modified in place, if its hash differs. The result is empty if the object has
+     * not been remembered under the given id, in which case all fields must be treated as changed.
+     *
+     * @param object   the object whose persistable properties we want to check
+     * @param entityId the native id of the entity
+     * @return The set of changed property fields or an empty optional if the object has not been remembered.
+     */
+    Optional<Set<FieldInfo>> changedFields(Object object, Long entityId) {
+
+        if (entityId == null) {
+            return Optional.empty();
+        }
+
+        ClassInfo classInfo = metaData.classInfo(object);
+        boolean isRelEntity = metaData.isRelationshipEntity(classInfo.name());
+        FieldSnapshot rememberedFields = (isRelEntity ? relEntityFieldSnapshots : nodeFieldSnapshots).get(entityId);
+        if (rememberedFields == null) {
+            return Optional.empty();
+        }
+
+        List<FieldInfo> hashFields = hashFields(classInfo);
+        if (hashFields.size() != rememberedFields.hashes().length) {
+            return Optional.empty();
+        }
+
+        Set<FieldInfo> changedFields = new HashSet<>();
+        for (int i = 0; i < hashFields.size(); ++i) {
+            FieldInfo fieldInfo = hashFields.get(i);
+            if (fieldInfo == classInfo.labelFieldOrNull()) {
+                continue;
+            }
+            if (!rememberedFields.isUnchanged(i, fieldInfo.read(object))) {
+                changedFields.add(fieldInfo);
+            }
+        }
+        return Optional.of(Collections.unmodifiableSet(changedFields));
+    }
+
+    /**
+     * Remembers the identity of the values of all relationship fields of the given node entity and, for collections and
+     * arrays, their size and the identities of their elements. This is much cheaper than hashing the related entities
+     * and allows noticing related entities that have been added, removed or replaced. The identities of the elements
+     * are combined independent of their order, as reordering a collection does not change any relationship.
+     *
+     * @param object   the node entity whose relationship fields should be remembered
+     * @param entityId the native id of the entity
+     */
+    void rememberRelationships(Object object, Long entityId) {
+        this.nodeRelationshipStamps.put(entityId, relationshipStamps(object));
+    }
+
+    /**
+     * @param object   the node entity whose relationship fields should be checked
+     * @param entityId the native id of the entity
+     * @return true if the relationship fields have not been remembered or have changed since
+     */
+    boolean relationshipsChanged(Object object, Long entityId) {
+
+        if (entityId == null) {
+            return true;
+        }
+        int[] rememberedStamps = this.nodeRelationshipStamps.get(entityId);
+        return rememberedStamps == null || !Arrays.equals(rememberedStamps, relationshipStamps(object));
+    }
+
+    private int[] relationshipStamps(Object object) {
+
+        Collection<FieldInfo> relationshipFields = metaData.classInfo(object).relationshipFields();
+        int[] stamps = new int[relationshipFields.size()];
+        int i = 0;
+        for (FieldInfo fieldInfo : relationshipFields) {
+            Object value = fieldInfo.read(object);
+            if (value == null) {
+                stamps[i++] = NULL_HASH;
+            } else {
+                stamps[i++] = 31 * System.identityHashCode(value) + elementStamp(value);
+            }
+        }
+        return stamps;
+    }
+
+    private static int elementStamp(Object value) {
+
+        int size;
+        int identities = 0;
+        if (value instanceof Collection<?> collection) {
+            size = collection.size();
+            for (Object element : collection) {
+                identities += System.identityHashCode(element);
+            }
+        } else if (value.getClass().isArray()) {
+            size = Array.getLength(value);
+            for (int i = 0; i < size; ++i) {
+                identities += System.identityHashCode(Array.get(value, i));
+            }
+        } else {
+            return 0;
+        }
+        return 31 * identities + size;
+    }
+
+    /**
+     * Removes everything remembered about the given object. The object will be regarded as dirty afterwards.
+     *
+     * @param object   the object to forget
+     * @param entityId the native id of the entity
+     */
+    void forget(Object object, Long entityId) {
+
+        if (entityId == null) {
+            return;
+        }
+
+        ClassInfo classInfo = metaData.classInfo(object);
+        if (metaData.isRelationshipEntity(classInfo.name())) {
+            this.relEntityHashes.remove(entityId);
+            this.relEntityFieldSnapshots.remove(entityId);
+            this.snapshotsOfRelationshipEntities.remove(entityId);
+        } else {
+            this.nodeHashes.remove(entityId);
+            this.nodeFieldSnapshots.remove(entityId);
+            this.nodeRelationshipStamps.remove(entityId);
+            this.snapshotsOfNodeEntities.remove(entityId);
+        }
+    }
+
     void clear() {
 
         this.nodeHashes.clear();
         this.relEntityHashes.clear();
+        this.nodeFieldSnapshots.clear();
+        this.relEntityFieldSnapshots.clear();
+        this.nodeRelationshipStamps.clear();
         this.snapshotsOfNodeEntities.clear();
         this.snapshotsOfRelationshipEntities.clear();
     }
 
-    private static long hash(Object object, ClassInfo classInfo) {
+    private static List<FieldInfo> hashFields(ClassInfo classInfo) {
 
         List<FieldInfo> hashFields = new ArrayList<>(classInfo.propertyFields());
         if (classInfo.labelFieldOrNull() != null) {
             hashFields.add(classInfo.labelFieldOrNull());
         }
+        return hashFields;
+    }
+
+    /**
+     * Computes the hash of the object over the given fields.
+     *
+     * @param object        the object to hash
+     * @param hashFields    the fields to consider
+     * @param fieldSnapshot optional snapshot receiving the hash and a copy of the value of each individual field
+     * @return the hash of the object
+     */
+    private static long hash(Object object, List<FieldInfo> hashFields, FieldSnapshot fieldSnapshot) {
 
         long hash = SEED;
-        for (FieldInfo fieldInfo : hashFields) {
+        for (int i = 0; i < hashFields.size(); ++i) {
 
-            Object value = fieldInfo.read(object);
+            Object value = hashFields.get(i).read(object);
             if (value != null) {
                 if (value.getClass().isArray()) {
                     hash = hash * 31L + hashArray(value);
@@ -157,10 +347,51 @@ class IdentityMap {
                     hash = hash * 31L + value.hashCode();
                 }
             }
+            if (fieldSnapshot != null) {
+                fieldSnapshot.hashes()[i] = hashOf(value);
+                fieldSnapshot.values()[i] = copyOf(value);
+            }
         }
         return hash;
     }
 
+    private static int hashOf(Object value) {
+
+        if (value == null) {
+            return NULL_HASH;
+        } else if (value.getClass().isArray()) {
+            return Long.hashCode(hashArray(value));
+        } else {
+            return value.hashCode();
+        }
+    }
+
+    /**
+     * Copies arrays, collections, maps and dates, which are the mutable types of property values supported out of the
+     * box, so that modifying them in place is noticed. Nested values are not copied.
+     */
+    private static Object copyOf(Object value) {
+
+        if (value == null) {
+            return null;
+        } else if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+            System.arraycopy(value, 0, copy, 0, length);
+            return copy;
+        } else if (value instanceof Set<?> set) {
+            return new HashSet<>(set);
+        } else if (value instanceof Collection<?> collection) {
+            return new ArrayList<>(collection);
+        } else if (value instanceof Map<?, ?> map) {
+            return new HashMap<>(map);
+        } else if (value instanceof Date date) {
+            return date.clone();
+        } else {
+            return value;
+        }
+    }
+
     /**
      * hashes an array of objects or primitives
      *
@@ -176,4 +407,24 @@ class IdentityMap {
         }
         return result;
     }
+
+    /**
+     * The hashes and copies of the values of the property fields of an entity, in the order of
+     * {@link #hashFields(ClassInfo)}. The hashes notice values modified in place that can't be copied, the copies
+     * notice changed values whose hashes collide.
+     */
+    private record FieldSnapshot(int[] hashes, Object[] values) {
+
+        boolean isUnchanged(int index, Object value) {
+            if (hashOf(value) != hashes[index]) {
+                return false;
+            }
+            Object rememberedValue = values[index];
+            // Copies of collections are lists or sets, which are only equal to lists or sets respectively
+            if (value instanceof Collection<?> && !(value instanceof List<?> || value instanceof Set<?>)) {
+                return Objects.equals(rememberedValue, copyOf(value));
+            }
+            return Objects.deepEquals(rememberedValue, value);
+        }
+    }
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.context;
+
+import java.util.Arrays;
+
+/**
+ * An unordered open addressing map from primitive {@code long} keys to primitive {@code long} values, using linear
+ * probing and backward shift deletion. Neither keys nor values are boxed.
+ * <p>
+ * This map is not thread safe.
+ */
+final class LongLongHashMap {
+
+    private static final int DEFAULT_CAPACITY = 32;
+
+    private long[] keys;
+
+    private long[] values;
+
+    private boolean[] occupied;
+
+    private int size;
+
+    LongLongHashMap() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean containsKey(long key) {
+        return findSlot(key) >= 0;
+    }
+
+    /**
+     * @param key          the key
+     * @param defaultValue the value to return when there's no mapping for the key
+     * @return the value mapped to the key or the given default
+     */
+    long getOrDefault(long key, long defaultValue) {
+        int slot = findSlot(key);
+        return slot < 0 ? defaultValue : values[slot];
+    }
+
+    void put(long key, long value) {
+        int mask = keys.length - 1;
+        int slot = LongObjectHashMap.slotOf(key, mask);
+        while (occupied[slot]) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        occupied[slot] = true;
+        keys[slot] = key;
+        values[slot] = value;
+        // Keep the load factor at or below 0.5
+        if (++size * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+    }
+
+    boolean remove(long key) {
+        int slot = findSlot(key);
+        if (slot < 0) {
+            return false;
+        }
+
+        int mask = keys.length - 1;
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (occupied[next]) {
+            int home = LongObjectHashMap.slotOf(keys[next], mask);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        occupied[gap] = false;
+        --size;
+        return true;
+    }
+
+    void clear() {
+        if (size == 0) {
+            return;
+        }
+        Arrays.fill(occupied, false);
+        size = 0;
+    }
+
+    private int findSlot(long key) {
+        int mask = keys.length - 1;
+        int slot = LongObjectHashMap.slotOf(key, mask);
+        while (occupied[slot]) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        boolean[] oldOccupied = occupied;
+
+        allocate(newCapacity);
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldKeys.length; ++i) {
+            if (oldOccupied[i]) {
+                int slot = LongObjectHashMap.slotOf(oldKeys[i], mask);
+                while (occupied[slot]) {
+                    slot = (slot + 1) & mask;
+                }
+                occupied[slot] = true;
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        this.values = new long[capacity];
+        this.occupied = new boolean[capacity];
+    }
+}
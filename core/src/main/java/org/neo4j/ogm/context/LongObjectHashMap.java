@@ -0,0 +1,394 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.context;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.LongFunction;
+
+/**
+ * An insertion ordered map from primitive {@code long} keys to non-null objects. Entries are stored densely in
+ * insertion order in parallel arrays and located through an open addressing index table with linear probing, so no
+ * key is ever boxed and no entry object is allocated per mapping. Removed entries leave a hole in the dense arrays
+ * that is reclaimed the next time the arrays need to grow.
+ * <p>
+ * This map is not thread safe, the same as the registers of the {@link MappingContext} it is used for.
+ *
+ * @param <V> Type of the values
+ */
+final class LongObjectHashMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Positions of the entries inside {@link #keys} and {@link #values}, shifted by one, so that {@literal 0} marks
+     * an empty slot.
+     */
+    private int[] index;
+
+    private long[] keys;
+
+    private Object[] values;
+
+    /**
+     * Number of used positions in the dense arrays, including removed entries.
+     */
+    private int used;
+
+    private int size;
+
+    private int modCount;
+
+    LongObjectHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    LongObjectHashMap(int expectedSize) {
+        allocate(Math.max(DEFAULT_CAPACITY, expectedSize));
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean containsKey(long key) {
+        return findPosition(key) >= 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        int position = findPosition(key);
+        return position < 0 ? null : (V) values[position];
+    }
+
+    /**
+     * Associates the value with the key. An existing mapping keeps its position in the iteration order.
+     *
+     * @param key   the key
+     * @param value the value, must not be null
+     * @return the previous value or {@literal null}
+     */
+    @SuppressWarnings("unchecked")
+    V put(long key, V value) {
+        Objects.requireNonNull(value);
+
+        int position = findPosition(key);
+        if (position >= 0) {
+            V previous = (V) values[position];
+            values[position] = value;
+            return previous;
+        }
+        insert(key, value);
+        return null;
+    }
+
+    V putIfAbsent(long key, V value) {
+        V existing = get(key);
+        if (existing == null) {
+            put(key, value);
+        }
+        return existing;
+    }
+
+    V computeIfAbsent(long key, LongFunction<V> mappingFunction) {
+        V existing = get(key);
+        if (existing == null) {
+            existing = mappingFunction.apply(key);
+            put(key, existing);
+        }
+        return existing;
+    }
+
+    @SuppressWarnings("unchecked")
+    V remove(long key) {
+        int mask = index.length - 1;
+        int slot = slotOf(key, mask);
+        while (index[slot] != 0) {
+            int position = index[slot] - 1;
+            if (keys[position] == key) {
+                V previous = (V) values[position];
+                values[position] = null;
+                deleteSlot(slot, mask);
+                --size;
+                ++modCount;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Moves an existing mapping to the end of the iteration order.
+     *
+     * @param key the key
+     * @return true if there was a mapping for the key
+     */
+    @SuppressWarnings("unchecked")
+    boolean moveToLast(long key) {
+        int position = findPosition(key);
+        if (position < 0) {
+            return false;
+        }
+        if (position != used - 1) {
+            V value = (V) values[position];
+            remove(key);
+            insert(key, value);
+        }
+        return true;
+    }
+
+    void clear() {
+        if (used == 0) {
+            return;
+        }
+        Arrays.fill(index, 0);
+        Arrays.fill(values, 0, used, null);
+        used = 0;
+        size = 0;
+        ++modCount;
+    }
+
+    /**
+     * @return A live view of the values in insertion order, supporting removal through its iterator.
+     */
+    Collection<V> values() {
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<V> iterator() {
+                return new ValueIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Calls the consumer for each mapping in insertion order.
+     *
+     * @param consumer the consumer of each key and value
+     */
+    @SuppressWarnings("unchecked")
+    void forEach(LongObjectConsumer<? super V> consumer) {
+        int expectedModCount = modCount;
+        for (int i = 0; i < used; ++i) {
+            if (values[i] != null) {
+                consumer.accept(keys[i], (V) values[i]);
+                if (expectedModCount != modCount) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        }
+    }
+
+    /**
+     * Calls the predicate for each mapping in insertion order until it returns {@literal false}.
+     *
+     * @param predicate the predicate applied to each key and value, must not modify the map
+     */
+    @SuppressWarnings("unchecked")
+    void forEachWhile(LongObjectPredicate<? super V> predicate) {
+        int expectedModCount = modCount;
+        for (int i = 0; i < used; ++i) {
+            if (values[i] != null) {
+                boolean proceed = predicate.test(keys[i], (V) values[i]);
+                if (expectedModCount != modCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (!proceed) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private int findPosition(long key) {
+        int mask = index.length - 1;
+        int slot = slotOf(key, mask);
+        while (index[slot] != 0) {
+            int position = index[slot] - 1;
+            if (keys[position] == key) {
+                return position;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void insert(long key, V value) {
+        if (used == keys.length) {
+            // Either reclaim the holes of removed entries or grow
+            rehash(size * 2 > keys.length ? keys.length * 2 : keys.length);
+        }
+
+        int position = used++;
+        keys[position] = key;
+        values[position] = value;
+        int mask = index.length - 1;
+        int slot = slotOf(key, mask);
+        while (index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = position + 1;
+        ++size;
+        ++modCount;
+    }
+
+    /**
+     * Removes the slot from the index table by shifting back the following entries of the cluster, so that lookups
+     * never need tombstones.
+     */
+    private void deleteSlot(int slot, int mask) {
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (index[next] != 0) {
+            int home = slotOf(keys[index[next] - 1], mask);
+            // Move the entry into the gap if its home slot does not lie cyclically within (gap, next]
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                index[gap] = index[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        index[gap] = 0;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        int oldUsed = used;
+
+        allocate(newCapacity);
+        for (int i = 0; i < oldUsed; ++i) {
+            if (oldValues[i] != null) {
+                int position = used++;
+                keys[position] = oldKeys[i];
+                values[position] = oldValues[i];
+                int mask = index.length - 1;
+                int slot = slotOf(oldKeys[i], mask);
+                while (index[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                index[slot] = position + 1;
+            }
+        }
+        ++modCount;
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        // Keep the load factor of the index table at or below 0.5
+        this.index = new int[tableSizeFor(capacity * 2)];
+        this.used = 0;
+    }
+
+    static int slotOf(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    static int tableSizeFor(int capacity) {
+        int n = -1 >>> Integer.numberOfLeadingZeros(Math.max(1, capacity - 1));
+        return n < 0 ? 1 : n + 1;
+    }
+
+    /**
+     * Consumer of a primitive long key and an object value.
+     *
+     * @param <V> Type of the values
+     */
+    @FunctionalInterface
+    interface LongObjectConsumer<V> {
+
+        void accept(long key, V value);
+    }
+
+    /**
+     * Predicate on a primitive long key and an object value.
+     *
+     * @param <V> Type of the values
+     */
+    @FunctionalInterface
+    interface LongObjectPredicate<V> {
+
+        boolean test(long key, V value);
+    }
+
+    private final class ValueIterator implements Iterator<V> {
+
+        private int next = advance(0);
+
+        private int current = -1;
+
+        private int expectedModCount = modCount;
+
+        private int advance(int from) {
+            int position = from;
+            while (position < used && values[position] == null) {
+                ++position;
+            }
+            return position;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < used;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V next() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            current = next;
+            next = advance(next + 1);
+            return (V) values[current];
+        }
+
+        @Override
+        public void remove() {
+            if (current < 0) {
+                throw new IllegalStateException();
+            }
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            LongObjectHashMap.this.remove(keys[current]);
+            current = -1;
+            expectedModCount = modCount;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.context;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Insertion ordered set of {@link MappedRelationship mapped relationships} that additionally maintains an adjacency
+ * index from start and end node ids to the relationships touching them. The index is kept in sync on every
+ * modification, including removals through the iterator, so that looking up the relationships of a single node is
+ * proportional to the degree of that node and not to the size of the register.
+ */
+final class MappedRelationshipRegister extends AbstractSet<MappedRelationship> {
+
+    private final Set<MappedRelationship> relationships = new LinkedHashSet<>();
+
+    private final Map<Long, Set<MappedRelationship>> outgoing = new HashMap<>();
+
+    private final Map<Long, Set<MappedRelationship>> incoming = new HashMap<>();
+
+    @Override
+    public boolean add(MappedRelationship relationship) {
+        if (!relationships.add(relationship)) {
+            return false;
+        }
+        outgoing.computeIfAbsent(relationship.getStartNodeId(), k -> new LinkedHashSet<>()).add(relationship);
+        incoming.computeIfAbsent(relationship.getEndNodeId(), k -> new LinkedHashSet<>()).add(relationship);
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!relationships.remove(o)) {
+            return false;
+        }
+        unindex((MappedRelationship) o);
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return relationships.contains(o);
+    }
+
+    @Override
+    public int size() {
+        return relationships.size();
+    }
+
+    @Override
+    public void clear() {
+        relationships.clear();
+        outgoing.clear();
+        incoming.clear();
+    }
+
+    @Override
+    public Iterator<MappedRelationship> iterator() {
+        Iterator<MappedRelationship> delegate = relationships.iterator();
+        return new Iterator<>() {
+
+            private MappedRelationship current;
+
+            @Override
+            public boolean hasNext() {
+                return delegate.hasNext();
+            }
+
+            @Override
+            public MappedRelationship next() {
+                current = delegate.next();
+                return current;
+            }
+
+            @Override
+            public void remove() {
+                delegate.remove();
+                unindex(current);
+                current = null;
+            }
+        };
+    }
+
+    /**
+     * Returns a snapshot of all relationships that either start or end at the given node. The snapshot is detached
+     * from the register and can be safely used while removing relationships from it.
+     *
+     * @param nodeId The native id of the node
+     * @return All relationships touching the node, never null
+     */
+    Collection<MappedRelationship> relationshipsOf(long nodeId) {
+        Set<MappedRelationship> out = outgoing.getOrDefault(nodeId, Collections.emptySet());
+        Set<MappedRelationship> in = incoming.getOrDefault(nodeId, Collections.emptySet());
+        if (out.isEmpty() && in.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<MappedRelationship> result = new ArrayList<>(out.size() + in.size());
+        result.addAll(out);
+        for (MappedRelationship relationship : in) {
+            // Self references have already been added through the outgoing index
+            if (relationship.getStartNodeId() != nodeId) {
+                result.add(relationship);
+            }
+        }
+        return result;
+    }
+
+    private void unindex(MappedRelationship relationship) {
+        removeFromIndex(outgoing, relationship.getStartNodeId(), relationship);
+        removeFromIndex(incoming, relationship.getEndNodeId(), relationship);
+    }
+
+    private static void removeFromIndex(Map<Long, Set<MappedRelationship>> index, long nodeId,
+        MappedRelationship relationship) {
+        Set<MappedRelationship> relationshipsOfNode = index.get(nodeId);
+        if (relationshipsOfNode != null && relationshipsOfNode.remove(relationship) && relationshipsOfNode.isEmpty()) {
+            index.remove(nodeId);
+        }
+    }
+}
@@ -19,18 +19,19 @@
 package org.neo4j.ogm.context;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.function.LongPredicate;
 import java.util.stream.Collectors;
 
 import org.neo4j.ogm.annotation.NodeEntity;
@@ -55,8 +56,13 @@ import org.neo4j.ogm.utils.EntityUtils;
  */
 public class MappingContext {
 
+    /**
+     * Capacity of a mapping context that never evicts any entity.
+     */
+    public static final int UNBOUNDED = 0;
+
     // map Neo4j id -> entity
-    private final Map<Long, Object> nodeEntityRegister;
+    private final LongObjectHashMap<Object> nodeEntityRegister;
 
     // map primary index value -> entity
     private final Map<LabelPrimaryId, Object> primaryIndexNodeRegister;
@@ -64,25 +70,107 @@ public class MappingContext {
     // LabelPrimaryId - > native id (contains both nodes and relationship entities)
     private final Map<LabelPrimaryId, Long> primaryIdToNativeId;
 
-    private final Map<Long, Object> relationshipEntityRegister;
+    private final LongObjectHashMap<Object> relationshipEntityRegister;
 
     private final Map<LabelPrimaryId, Object> primaryIdToRelationship;
 
-    private final Set<MappedRelationship> relationshipRegister;
+    // start or end entity -> ids of the relationship entities attached to it
+    private final Map<Object, Set<Long>> relationshipEntitiesByEndpoint;
+
+    // relationship entity id -> start and end entity at the time of registration
+    private final LongObjectHashMap<RelationshipEntityEndpoints> relationshipEntityEndpoints;
+
+    private final MappedRelationshipRegister relationshipRegister;
 
     private final IdentityMap identityMap;
 
     private final MetaData metaData;
 
+    private final boolean readOnly;
+
+    // maximum number of node entities, the least recently used ones are evicted when it's exceeded
+    private final int capacity;
+
+    // entities written in the ongoing transaction, which must not be evicted
+    private final Set<Object> transactionalEntities;
+
+    // whether saves only traverse into entities that have been marked dirty
+    private final boolean dirtyTracking;
+
+    // entities marked dirty since they have been loaded or saved the last time
+    private final Set<Object> markedEntities;
+
+    // number of loads mapping entities right now, nothing is evicted before the last one has finished
+    private int runningLoads;
+
+    private long hits;
+
+    private long misses;
+
+    private long evictions;
+
     public MappingContext(MetaData metaData) {
+        this(metaData, false);
+    }
+
+    /**
+     * Creates a new mapping context. A read-only context still registers entities by their ids, so that the same
+     * graph element is mapped to the same instance, but it neither remembers their state for dirty checking nor
+     * registers the relationships between them. Hence, no entity mapped by such a context can be saved or deleted.
+     *
+     * @param metaData The metadata of the domain
+     * @param readOnly Flag whether the context is used for reading only
+     */
+    public MappingContext(MetaData metaData, boolean readOnly) {
+        this(metaData, readOnly, UNBOUNDED);
+    }
+
+    /**
+     * Creates a new mapping context that holds at most {@code capacity} node entities. When the capacity is exceeded,
+     * the least recently used node entities are evicted together with the relationship entities attached to them, as
+     * if they had been detached. Their relationships are kept as long as the node at the other end stays in the
+     * context, so that removing an evicted entity from a retained one still deletes the relationship on the next save.
+     * Entities that are dirty, that have relationship entities attached that are dirty or that have been written in
+     * the ongoing transaction are never evicted, so the context may temporarily hold more entities than its capacity.
+     * Neither are entities evicted while a load is mapping them, see {@link #startLoad()}.
+     *
+     * @param metaData The metadata of the domain
+     * @param readOnly Flag whether the context is used for reading only
+     * @param capacity The maximum number of node entities or {@link #UNBOUNDED}
+     */
+    public MappingContext(MetaData metaData, boolean readOnly, int capacity) {
+        this(metaData, readOnly, capacity, false);
+    }
+
+    /**
+     * Creates a new mapping context as described in {@link #MappingContext(MetaData, boolean, int)}. With dirty
+     * tracking enabled, saves of unlimited depth don't traverse into entities that have been loaded or saved before,
+     * unless they have been marked via {@link #markDirty(Object)}.
+     *
+     * @param metaData      The metadata of the domain
+     * @param readOnly      Flag whether the context is used for reading only
+     * @param capacity      The maximum number of node entities or {@link #UNBOUNDED}
+     * @param dirtyTracking Flag whether saves only traverse into marked entities
+     */
+    public MappingContext(MetaData metaData, boolean readOnly, int capacity, boolean dirtyTracking) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The capacity of a mapping context must not be negative");
+        }
         this.metaData = metaData;
+        this.readOnly = readOnly;
+        this.capacity = capacity;
+        this.dirtyTracking = dirtyTracking;
+        this.markedEntities = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.transactionalEntities = Collections.newSetFromMap(new IdentityHashMap<>());
         this.identityMap = new IdentityMap(metaData);
-        this.nodeEntityRegister = new LinkedHashMap<>();
+        this.nodeEntityRegister = new LongObjectHashMap<>();
         this.primaryIndexNodeRegister = new LinkedHashMap<>();
         this.primaryIdToNativeId = new LinkedHashMap<>();
-        this.relationshipEntityRegister = new LinkedHashMap<>();
+        this.relationshipEntityRegister = new LongObjectHashMap<>();
         this.primaryIdToRelationship = new LinkedHashMap<>();
-        this.relationshipRegister = new LinkedHashSet<>();
+        this.relationshipEntitiesByEndpoint = new IdentityHashMap<>();
+        this.relationshipEntityEndpoints = new LongObjectHashMap<>();
+        this.relationshipRegister = new MappedRelationshipRegister();
     }
 
     /**
@@ -94,7 +182,32 @@ public class MappingContext {
      * @return The entity or null if not found.
      */
     public Object getNodeEntity(Long graphId) {
-        return nodeEntityRegister.get(graphId);
+        return graphId == null ? null : nodeEntityRegister.get(graphId);
+    }
+
+    /**
+     * Looks up a node entity on behalf of a load. Other than {@link #getNodeEntity(Long)}, the lookup is counted as a
+     * hit or miss in the {@link #getStatistics() statistics} and marks a found entity as the most recently used one,
+     * so that it is the last candidate for eviction from a bounded context.
+     *
+     * @param graphId The graph id to look for.
+     * @return The entity or null if not found.
+     */
+    public Object lookupNodeEntity(Long graphId) {
+        if (graphId == null) {
+            return null;
+        }
+
+        Object entity = nodeEntityRegister.get(graphId);
+        if (entity == null) {
+            ++misses;
+        } else {
+            ++hits;
+            if (isBounded()) {
+                nodeEntityRegister.moveToLast(graphId);
+            }
+        }
+        return entity;
     }
 
     /**
@@ -167,6 +280,10 @@ public class MappingContext {
                 primaryIdToNativeId.put(key, id);
             }
             remember(entity, id);
+            rememberRelationships(entity, id);
+            if (isBounded() && runningLoads == 0 && nodeEntityRegister.size() > capacity) {
+                evictLeastRecentlyUsed(otherId -> otherId == id);
+            }
         }
 
         return entity;
@@ -212,7 +329,7 @@ public class MappingContext {
     }
 
     public void replaceRelationshipEntity(Object entity, Long id) {
-        relationshipEntityRegister.remove(id);
+        removeRelationshipEntity(id);
         ClassInfo classInfo = metaData.classInfo(entity);
         if (classInfo.hasPrimaryIndexField()) {
             final Object primaryIndexValue = classInfo.readPrimaryIndexValueOf(entity);
@@ -265,6 +382,20 @@ public class MappingContext {
         return optionalNativeId(entity).map(graphId -> !identityMap.remembered(entity, graphId)).orElse(true);
     }
 
+    /**
+     * Computes the property fields of a dirty entity that changed since it has been registered. Callers should treat
+     * all fields as changed when the result is empty, which is the case when the entity is unknown to this context
+     * or when the change could not be attributed to any single property field (for example a changed label field).
+     *
+     * @param entity The entity to check
+     * @return The changed property fields or an empty optional when the changed fields cannot be determined.
+     */
+    Optional<Set<FieldInfo>> getChangedPropertyFields(Object entity) {
+        return optionalNativeId(entity)
+            .flatMap(graphId -> identityMap.changedFields(entity, graphId))
+            .filter(changedFields -> !changedFields.isEmpty());
+    }
+
     public boolean containsRelationship(MappedRelationship relationship) {
         return relationshipRegister.contains(relationship);
     }
@@ -274,9 +405,22 @@ public class MappingContext {
     }
 
     public void addRelationship(MappedRelationship relationship) {
+        if (readOnly) {
+            return;
+        }
         relationshipRegister.add(relationship);
     }
 
+    /**
+     * Get all relationships starting or ending at the node with the given id.
+     *
+     * @param nodeId The native id of the node
+     * @return A detached collection of the relationships touching the node
+     */
+    Collection<MappedRelationship> getRelationshipsOf(long nodeId) {
+        return relationshipRegister.relationshipsOf(nodeId);
+    }
+
     public void clear() {
         identityMap.clear();
         relationshipRegister.clear();
@@ -284,14 +428,140 @@ public class MappingContext {
         nodeEntityRegister.clear();
         primaryIndexNodeRegister.clear();
         relationshipEntityRegister.clear();
+        relationshipEntitiesByEndpoint.clear();
+        relationshipEntityEndpoints.clear();
+        transactionalEntities.clear();
+        markedEntities.clear();
+    }
+
+    /**
+     * Marks an entity as modified, so that the next save traverses into it even if dirty tracking is enabled.
+     * Marking a relationship entity marks its start and end node as well. The mark is removed once the entity has been
+     * saved. Does nothing if dirty tracking is disabled.
+     *
+     * @param entity The entity whose properties or relationships have been modified
+     */
+    public void markDirty(Object entity) {
+        if (!dirtyTracking || readOnly) {
+            return;
+        }
+        markedEntities.add(entity);
+        ClassInfo classInfo = metaData.classInfo(entity);
+        if (classInfo != null && classInfo.isRelationshipEntity()) {
+            Optional.ofNullable(classInfo.getStartNodeReader()).map(reader -> reader.read(entity))
+                .ifPresent(markedEntities::add);
+            Optional.ofNullable(classInfo.getEndNodeReader()).map(reader -> reader.read(entity))
+                .ifPresent(markedEntities::add);
+        }
+    }
+
+    /**
+     * @param entity The entity in question
+     * @return True if the entity has been marked via {@link #markDirty(Object)} and not been saved since
+     */
+    public boolean isMarkedDirty(Object entity) {
+        return markedEntities.contains(entity);
+    }
+
+    /**
+     * @return A detached collection of all entities marked via {@link #markDirty(Object)} and not saved since
+     */
+    public Collection<Object> getMarkedEntities() {
+        return new ArrayList<>(markedEntities);
+    }
+
+    /**
+     * Remembers the relationship fields of a node entity of this context, so that a save with dirty tracking can tell
+     * whether they have changed without being marked. This needs to be done whenever OGM itself has populated or
+     * saved them. Does nothing if dirty tracking is disabled.
+     *
+     * @param entity The node entity whose relationship fields are in sync with the graph
+     */
+    public void rememberRelationships(Object entity) {
+        optionalNativeId(entity).filter(id -> nodeEntityRegister.get(id) == entity)
+            .ifPresent(id -> rememberRelationships(entity, id));
+    }
+
+    private void rememberRelationships(Object entity, Long id) {
+        if (dirtyTracking && !readOnly) {
+            identityMap.rememberRelationships(entity, id);
+        }
+    }
+
+    /**
+     * @param entity The node entity in question
+     * @return True if the relationship fields of the entity have not been remembered or have changed since, that is,
+     * if a related entity has been added, removed or replaced
+     */
+    public boolean haveRelationshipsChanged(Object entity) {
+        return optionalNativeId(entity).map(id -> identityMap.relationshipsChanged(entity, id)).orElse(true);
+    }
+
+    /**
+     * @return True if saves of unlimited depth only traverse into marked entities
+     */
+    public boolean isDirtyTracking() {
+        return dirtyTracking;
+    }
+
+    /**
+     * Protects an entity that has been written in the ongoing transaction from being evicted until
+     * {@link #releaseTransactionalEntities()} is called. Does nothing if this context is unbounded.
+     *
+     * @param entity The entity written in the ongoing transaction
+     */
+    public void retainForTransaction(Object entity) {
+        if (isBounded()) {
+            transactionalEntities.add(entity);
+        }
+    }
+
+    /**
+     * Makes all entities that have been written in the previous transaction available for eviction again.
+     */
+    public void releaseTransactionalEntities() {
+        transactionalEntities.clear();
+    }
+
+    /**
+     * Defers the eviction of entities from a bounded context until {@link #finishLoad()} has been called as often as
+     * this method. All entities mapped by a load stay in the context until its results have been collected, its
+     * relationships have been hydrated and the entities have been post processed, even if the load maps more entities
+     * than the capacity of the context. Loads may be nested.
+     */
+    public void startLoad() {
+        ++runningLoads;
+    }
+
+    /**
+     * Finishes a load started with {@link #startLoad()} and, if it has been the last running one, evicts the least
+     * recently used entities exceeding the capacity of the context.
+     */
+    public void finishLoad() {
+        if (runningLoads == 0) {
+            throw new IllegalStateException("No load has been started");
+        }
+        --runningLoads;
+        if (isBounded() && runningLoads == 0 && nodeEntityRegister.size() > capacity) {
+            evictLeastRecentlyUsed(id -> false);
+        }
+    }
+
+    /**
+     * @return The current statistics of this context
+     */
+    public Statistics getStatistics() {
+        return new Statistics(nodeEntityRegister.size(), relationshipEntityRegister.size(), hits, misses, evictions);
     }
 
     public Map<Long, Object> getSnapshotOfRelationshipEntityRegister() {
-        return new HashMap<>(this.relationshipEntityRegister);
+        Map<Long, Object> snapshot = new HashMap<>(relationshipEntityRegister.size());
+        relationshipEntityRegister.forEach(snapshot::put);
+        return snapshot;
     }
 
     public Object getRelationshipEntity(Long relationshipId) {
-        return relationshipEntityRegister.get(relationshipId);
+        return relationshipId == null ? null : relationshipEntityRegister.get(relationshipId);
     }
 
     /**
@@ -319,6 +589,7 @@ public class MappingContext {
                 primaryIdToRelationship.put(labelPrimaryId, relationshipEntity);
                 primaryIdToNativeId.put(labelPrimaryId, id);
             }
+            indexRelationshipEntity(relationshipEntity, id);
         }
         return relationshipEntity;
     }
@@ -332,7 +603,7 @@ public class MappingContext {
      */
     public void removeType(Class<?> type) {
 
-        ClassInfo classInfo = metaData.classInfo(type.getName());
+        ClassInfo classInfo = metaData.classInfo(type);
 
         if (classInfo.isInterface()) {
             List<ClassInfo> implementingClasses = metaData.getImplementingClassInfos(classInfo.name());
@@ -366,7 +637,7 @@ public class MappingContext {
      * purges all information about a relationship entity with this id
      */
     public boolean detachRelationshipEntity(Long id) {
-        Object objectToDetach = relationshipEntityRegister.get(id);
+        Object objectToDetach = getRelationshipEntity(id);
         if (objectToDetach != null) {
             removeEntity(objectToDetach);
             return true;
@@ -411,21 +682,17 @@ public class MappingContext {
                 Class<?> type = entity.getClass();
                 if (!metaData.isRelationshipEntity(type.getName())) {
                     if (getNodeEntity(id) != null) {
-                        // todo: this will be very slow for many objects
-                        // todo: refactor to create a list of mappedRelationships from a nodeEntity id.
-                        for (MappedRelationship mappedRelationship : relationshipRegister) {
-                            if (mappedRelationship.getStartNodeId() == id || mappedRelationship.getEndNodeId() == id) {
-                                Object affectedObject = mappedRelationship.getEndNodeId() == id ?
-                                    getNodeEntity(mappedRelationship.getStartNodeId()) :
-                                    getNodeEntity(mappedRelationship.getEndNodeId());
-                                if (affectedObject != null) {
-                                    neighbours.add(affectedObject);
-                                }
+                        for (MappedRelationship mappedRelationship : relationshipRegister.relationshipsOf(id)) {
+                            Object affectedObject = mappedRelationship.getEndNodeId() == id ?
+                                getNodeEntity(mappedRelationship.getStartNodeId()) :
+                                getNodeEntity(mappedRelationship.getEndNodeId());
+                            if (affectedObject != null) {
+                                neighbours.add(affectedObject);
                             }
                         }
                     }
                 } else if (relationshipEntityRegister.containsKey(id)) {
-                    ClassInfo classInfo = metaData.classInfo(type.getName());
+                    ClassInfo classInfo = metaData.classInfo(type);
                     FieldInfo startNodeReader = classInfo.getStartNodeReader();
                     FieldInfo endNodeReader = classInfo.getEndNodeReader();
                     neighbours.add(startNodeReader.read(entity));
@@ -442,22 +709,57 @@ public class MappingContext {
      * @param startOrEndEntity the entity that might be the start or end node of a relationship entity
      */
     private void deregisterDependentRelationshipEntity(Object startOrEndEntity) {
-        Iterator<Long> relationshipEntityIdIterator = relationshipEntityRegister.keySet().iterator();
-        while (relationshipEntityIdIterator.hasNext()) {
-            Long relationshipEntityId = relationshipEntityIdIterator.next();
-            Object relationshipEntity = relationshipEntityRegister.get(relationshipEntityId);
-            final ClassInfo classInfo = metaData.classInfo(relationshipEntity);
-            FieldInfo startNodeReader = classInfo.getStartNodeReader();
-            FieldInfo endNodeReader = classInfo.getEndNodeReader();
-            if (startOrEndEntity == startNodeReader.read(relationshipEntity) || startOrEndEntity == endNodeReader
-                .read(relationshipEntity)) {
-                relationshipEntityIdIterator.remove();
-            }
+        Set<Long> relationshipEntityIds = relationshipEntitiesByEndpoint.get(startOrEndEntity);
+        if (relationshipEntityIds == null) {
+            return;
+        }
+        for (Long relationshipEntityId : new ArrayList<>(relationshipEntityIds)) {
+            removeRelationshipEntity(relationshipEntityId);
+        }
+    }
+
+    /**
+     * Indexes the relationship entity by the start and end node it points to at the time of registration, so that
+     * it can be deregistered along with either of them without scanning the whole relationship entity register.
+     */
+    private void indexRelationshipEntity(Object relationshipEntity, Long id) {
+        ClassInfo classInfo = metaData.classInfo(relationshipEntity);
+        Object startNode = classInfo.getStartNodeReader().read(relationshipEntity);
+        Object endNode = classInfo.getEndNodeReader().read(relationshipEntity);
+
+        relationshipEntityEndpoints.put(id, new RelationshipEntityEndpoints(startNode, endNode));
+        if (startNode != null) {
+            relationshipEntitiesByEndpoint.computeIfAbsent(startNode, k -> new HashSet<>()).add(id);
+        }
+        if (endNode != null) {
+            relationshipEntitiesByEndpoint.computeIfAbsent(endNode, k -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void removeRelationshipEntity(Long id) {
+        relationshipEntityRegister.remove(id);
+
+        RelationshipEntityEndpoints endpoints = relationshipEntityEndpoints.remove(id);
+        if (endpoints != null) {
+            removeFromEndpointIndex(endpoints.startNode(), id);
+            removeFromEndpointIndex(endpoints.endNode(), id);
+        }
+    }
+
+    private void removeFromEndpointIndex(Object endpoint, Long id) {
+        if (endpoint == null) {
+            return;
+        }
+        Set<Long> relationshipEntityIds = relationshipEntitiesByEndpoint.get(endpoint);
+        if (relationshipEntityIds != null && relationshipEntityIds.remove(id) && relationshipEntityIds.isEmpty()) {
+            relationshipEntitiesByEndpoint.remove(endpoint);
         }
     }
 
     private void purge(Object entity, Class type) {
 
+        markedEntities.remove(entity);
+
         optionalNativeId(entity).filter(id -> id >= 0).ifPresent(id -> {
 
             boolean isNotARelationshipEntity = !metaData.isRelationshipEntity(type.getName());
@@ -471,7 +773,7 @@ public class MappingContext {
                     removeAllInAndOutcomingRelationshipsOf(id);
                 }
             } else if (relationshipEntityRegister.containsKey(id)) {
-                relationshipEntityRegister.remove(id);
+                removeRelationshipEntity(id);
                 final ClassInfo classInfo = metaData.classInfo(entity);
                 FieldInfo startNodeReader = classInfo.getStartNodeReader();
                 Object startNode = startNodeReader.read(entity);
@@ -486,22 +788,18 @@ public class MappingContext {
     private void removeAllInAndOutcomingRelationshipsOf(Long id) {
 
         Set<Object> relEntitiesToPurge = new HashSet<>();
-        Iterator<MappedRelationship> mappedRelationshipIterator = relationshipRegister.iterator();
-        while (mappedRelationshipIterator.hasNext()) {
-            MappedRelationship mappedRelationship = mappedRelationshipIterator.next();
-            if (mappedRelationship.getStartNodeId() == id || mappedRelationship.getEndNodeId() == id) {
-
-                // first purge any RE mappings (if its a RE)
-                if (mappedRelationship.getRelationshipId() != null) {
-                    Object relEntity = relationshipEntityRegister
-                        .get(mappedRelationship.getRelationshipId());
-                    if (relEntity != null) {
-                        relEntitiesToPurge.add(relEntity);
-                    }
+        for (MappedRelationship mappedRelationship : relationshipRegister.relationshipsOf(id)) {
+
+            // first purge any RE mappings (if its a RE)
+            if (mappedRelationship.getRelationshipId() != null) {
+                Object relEntity = relationshipEntityRegister
+                    .get(mappedRelationship.getRelationshipId());
+                if (relEntity != null) {
+                    relEntitiesToPurge.add(relEntity);
                 }
-                // finally remove the mapped relationship
-                mappedRelationshipIterator.remove();
             }
+            // finally remove the mapped relationship
+            relationshipRegister.remove(mappedRelationship);
         }
 
         // Purge the relationship entities.
@@ -511,7 +809,104 @@ public class MappingContext {
         }
     }
 
+    /**
+     * @return True if this context neither remembers entity state nor registers relationships.
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    private boolean isBounded() {
+        return capacity != UNBOUNDED;
+    }
+
+    private void evictLeastRecentlyUsed(LongPredicate retained) {
+        List<Long> evictable = new ArrayList<>();
+        int excess = nodeEntityRegister.size() - capacity;
+        nodeEntityRegister.forEachWhile((id, entity) -> {
+            if (!retained.test(id) && isEvictable(id, entity)) {
+                evictable.add(id);
+            }
+            return evictable.size() < excess;
+        });
+
+        for (Long id : evictable) {
+            evict(id, nodeEntityRegister.get(id));
+        }
+    }
+
+    private boolean isEvictable(long id, Object entity) {
+        if (isModifiedOrTransactional(entity, id)) {
+            return false;
+        }
+        Set<Long> relationshipEntityIds = relationshipEntitiesByEndpoint.get(entity);
+        if (relationshipEntityIds != null) {
+            for (Long relationshipEntityId : relationshipEntityIds) {
+                Object relationshipEntity = relationshipEntityRegister.get(relationshipEntityId);
+                if (relationshipEntity != null && isModifiedOrTransactional(relationshipEntity, relationshipEntityId)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean isModifiedOrTransactional(Object entity, long id) {
+        // There's nothing remembered about the entities of a read-only context, but they can't be written anyway
+        return transactionalEntities.contains(entity) || markedEntities.contains(entity)
+            || !(readOnly || identityMap.remembered(entity, id));
+    }
+
+    /**
+     * Removes the node entity from all registers, along with the relationship entities attached to it and its
+     * relationships to nodes that are not in the context anymore. Other than {@link #purge(Object, Class)}, this does
+     * not cascade to the other end of those.
+     */
+    private void evict(long id, Object entity) {
+        removeNodeEntity(entity, false);
+        identityMap.forget(entity, id);
+        ClassInfo nodeClassInfo = metaData.classInfo(entity);
+        Object primaryIndexValue = nodeClassInfo.readPrimaryIndexValueOf(entity);
+        if (primaryIndexValue != null) {
+            primaryIdToNativeId.remove(LabelPrimaryId.of(nodeClassInfo, primaryIndexValue));
+        }
+
+        // Relationships to nodes that stay in the context are kept, so that a relationship removed from a retained
+        // neighbour is still deleted when that neighbour is saved. They go once the neighbour is evicted, too.
+        for (MappedRelationship mappedRelationship : relationshipRegister.relationshipsOf(id)) {
+            long otherId = mappedRelationship.getStartNodeId() == id ?
+                mappedRelationship.getEndNodeId() :
+                mappedRelationship.getStartNodeId();
+            if (otherId == id || !nodeEntityRegister.containsKey(otherId)) {
+                relationshipRegister.remove(mappedRelationship);
+            }
+        }
+
+        Set<Long> relationshipEntityIds = relationshipEntitiesByEndpoint.get(entity);
+        if (relationshipEntityIds != null) {
+            for (Long relationshipEntityId : new ArrayList<>(relationshipEntityIds)) {
+                Object relationshipEntity = relationshipEntityRegister.get(relationshipEntityId);
+                removeRelationshipEntity(relationshipEntityId);
+                if (relationshipEntity != null) {
+                    identityMap.forget(relationshipEntity, relationshipEntityId);
+                    ClassInfo classInfo = metaData.classInfo(relationshipEntity);
+                    if (classInfo.hasPrimaryIndexField()) {
+                        LabelPrimaryId labelPrimaryId =
+                            LabelPrimaryId.of(classInfo, classInfo.readPrimaryIndexValueOf(relationshipEntity));
+                        primaryIdToRelationship.remove(labelPrimaryId);
+                        primaryIdToNativeId.remove(labelPrimaryId);
+                    }
+                }
+            }
+        }
+        ++evictions;
+    }
+
     private void remember(Object entity, Long id) {
+        if (readOnly) {
+            return;
+        }
+        markedEntities.remove(entity);
         identityMap.remember(entity, id);
     }
 
@@ -587,4 +982,19 @@ public class MappingContext {
             primaryIndexField.writeDirect(entity, id);
         }
     }
+
+    private record RelationshipEntityEndpoints(Object startNode, Object endNode) {
+    }
+
+    /**
+     * Statistics of a mapping context.
+     *
+     * @param nodeEntities         The number of node entities currently in the context
+     * @param relationshipEntities The number of relationship entities currently in the context
+     * @param hits                 The number of lookups of node entities during loads that found an entity
+     * @param misses               The number of lookups of node entities during loads that found nothing
+     * @param evictions            The number of node entities evicted due to the capacity of the context
+     */
+    public record Statistics(int nodeEntities, int relationshipEntities, long hits, long misses, long evictions) {
+    }
 }
@@ -87,13 +87,19 @@ public class RestModelMapper {
             }
         };
 
-        // Run the actual mapping
-        delegate.map(Object.class, graphModelResponse);
-        // Recreate the original structure
-        RestStatisticsModel restStatisticsModel = new RestStatisticsModel();
-        response.getStatistics().ifPresent(restStatisticsModel::setStatistics);
-        restStatisticsModel.setResult(resultRowBuilders.stream().map(ResultRowBuilder::finish).collect(Collectors.toList()));
-        return restStatisticsModel;
+        // The rows are recreated from the mapping context, so nothing must be evicted before they have been finished
+        mappingContext.startLoad();
+        try {
+            // Run the actual mapping
+            delegate.map(Object.class, graphModelResponse);
+            // Recreate the original structure
+            RestStatisticsModel restStatisticsModel = new RestStatisticsModel();
+            response.getStatistics().ifPresent(restStatisticsModel::setStatistics);
+            restStatisticsModel.setResult(resultRowBuilders.stream().map(ResultRowBuilder::finish).collect(Collectors.toList()));
+            return restStatisticsModel;
+        } finally {
+            mappingContext.finishLoad();
+        }
     }
 
     /**
@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.context;
+
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.model.Property;
+import org.neo4j.ogm.response.model.DefaultGraphModel;
+import org.neo4j.ogm.response.model.NodeModel;
+import org.neo4j.ogm.transaction.Transaction;
+
+/**
+ * A cache of the labels and properties of node entities that is shared between all sessions of a
+ * {@link org.neo4j.ogm.session.SessionFactory}. The cache stores immutable copies of the nodes as read from the
+ * database, keyed by their native id and, if present, their primary index. Cached nodes are mapped again by each
+ * session that loads them, so that no entity instance is ever shared between sessions.
+ * <p>
+ * Nodes are invalidated whenever a session of the same factory writes or deletes them, both at the time of the
+ * write and again when the writing transaction is closed. Results of reads that overlapped with a write are never
+ * added to the cache. The bookmark of the last committed write that invalidated the cache is provided via
+ * {@link #bookmarks()}, so that reads populating the cache can be made to observe that write.
+ * <p>
+ * Writes that don't go through the sessions of the owning factory are not visible to the cache.
+ */
+public final class SecondLevelCache {
+
+    private final Set<Class<?>> cacheableTypes;
+
+    private final Map<Long, CachedNode> nodes = new ConcurrentHashMap<>();
+
+    private final Map<LabelPrimaryId, Long> primaryIdToNativeId = new ConcurrentHashMap<>();
+
+    // ids written in ongoing transactions, that will be invalidated again when those transactions close
+    private final Map<Transaction, PendingInvalidation> pendingInvalidations = new IdentityHashMap<>();
+
+    private final Lock lock = new ReentrantLock();
+
+    // incremented on every invalidation, used to detect reads overlapping with writes
+    private volatile long generation;
+
+    private volatile String lastWriteBookmark;
+
+    /**
+     * @param cacheableTypes The types of node entities to cache, including their subtypes. All node entities will be
+     *                       cached if none are given.
+     */
+    public SecondLevelCache(Collection<Class<?>> cacheableTypes) {
+        this.cacheableTypes = Set.copyOf(cacheableTypes);
+    }
+
+    /**
+     * @param classInfo The class to check
+     * @return True if instances of the given class are cached
+     */
+    public boolean isCacheable(ClassInfo classInfo) {
+        if (classInfo == null || classInfo.isRelationshipEntity()) {
+            return false;
+        }
+        if (cacheableTypes.isEmpty()) {
+            return true;
+        }
+        Class<?> underlyingClass = classInfo.getUnderlyingClass();
+        for (Class<?> cacheableType : cacheableTypes) {
+            if (cacheableType.isAssignableFrom(underlyingClass)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The current generation must be retrieved before reading nodes from the database that should be added to the
+     * cache, and passed to {@link #put(long, Node, ClassInfo, Object)} afterwards.
+     *
+     * @return The current generation of this cache
+     */
+    public long generation() {
+        return generation;
+    }
+
+    /**
+     * @return The bookmark of the last committed write that invalidated this cache, if any
+     */
+    public Set<String> bookmarks() {
+        String bookmark = lastWriteBookmark;
+        return bookmark == null ? Collections.emptySet() : Collections.singleton(bookmark);
+    }
+
+    /**
+     * Retrieves copies of the cached nodes for the given ids. Ids are the primary index values if the class has a
+     * primary index field, native ids otherwise.
+     *
+     * @param classInfo The class of which the nodes are to be retrieved
+     * @param ids       The primary index values or native ids of the nodes
+     * @return A graph model containing copies of all requested nodes or an empty optional if any of them is not
+     * cached or does not carry the labels of the given class
+     */
+    public Optional<GraphModel> get(ClassInfo classInfo, Collection<?> ids) {
+
+        Collection<String> labels = classInfo.staticLabels();
+        DefaultGraphModel graphModel = new DefaultGraphModel();
+        for (Object id : ids) {
+            Long nativeId = classInfo.hasPrimaryIndexField() ? nativeIdOf(classInfo, id) : (Long) id;
+            CachedNode cachedNode = nativeId == null ? null : nodes.get(nativeId);
+            if (cachedNode == null || !cachedNode.labels().containsAll(labels)) {
+                return Optional.empty();
+            }
+            graphModel.addNode(cachedNode.toNodeModel());
+        }
+        return Optional.of(graphModel);
+    }
+
+    /**
+     * Adds a copy of the node to the cache, unless there has been any invalidation since the given generation.
+     *
+     * @param readGeneration    The generation of the cache retrieved before the node has been read
+     * @param node              The node as read from the database
+     * @param classInfo         The class the node has been mapped to
+     * @param primaryIndexValue The value of the primary index of the mapped entity, may be null
+     */
+    public void put(long readGeneration, Node node, ClassInfo classInfo, Object primaryIndexValue) {
+
+        LabelPrimaryId primaryId = primaryIndexValue == null ? null : LabelPrimaryId.of(classInfo, primaryIndexValue);
+        CachedNode cachedNode = CachedNode.of(node, primaryId);
+
+        lock.lock();
+        try {
+            if (readGeneration != generation) {
+                return;
+            }
+            remove(nodes.put(node.getId(), cachedNode));
+            if (primaryId != null) {
+                primaryIdToNativeId.put(primaryId, node.getId());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Invalidates the given nodes now and again when the transaction closes.
+     *
+     * @param transaction The transaction in which the nodes have been written, may be null
+     * @param nodeIds     The native ids of the nodes written
+     */
+    public void invalidate(Transaction transaction, Collection<Long> nodeIds) {
+
+        lock.lock();
+        try {
+            nodeIds.forEach(id -> remove(nodes.remove(id)));
+            ++generation;
+            if (transaction != null) {
+                pendingInvalidations.computeIfAbsent(transaction, t -> new PendingInvalidation()).nodeIds.addAll(nodeIds);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Invalidates all nodes now and again when the transaction closes.
+     *
+     * @param transaction The transaction in which an unknown number of nodes have been written, may be null
+     */
+    public void invalidateAll(Transaction transaction) {
+
+        lock.lock();
+        try {
+            clear0();
+            if (transaction != null) {
+                pendingInvalidations.computeIfAbsent(transaction, t -> new PendingInvalidation()).all = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Invalidates all nodes written in the given transaction once more and remembers the bookmark of it if it had
+     * been committed.
+     *
+     * @param transaction The transaction that has been closed
+     * @param committed   Flag, whether the transaction has been committed
+     * @param bookmark    The bookmark of the transaction, may be null
+     */
+    public void transactionClosed(Transaction transaction, boolean committed, String bookmark) {
+
+        lock.lock();
+        try {
+            PendingInvalidation pendingInvalidation = pendingInvalidations.remove(transaction);
+            if (pendingInvalidation == null) {
+                return;
+            }
+            if (pendingInvalidation.all) {
+                clear0();
+            } else {
+                pendingInvalidation.nodeIds.forEach(id -> remove(nodes.remove(id)));
+                ++generation;
+            }
+            if (committed && bookmark != null) {
+                lastWriteBookmark = bookmark;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all nodes from this cache.
+     */
+    public void clear() {
+
+        lock.lock();
+        try {
+            clear0();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return The number of cached nodes
+     */
+    public int size() {
+        return nodes.size();
+    }
+
+    private void clear0() {
+        nodes.clear();
+        primaryIdToNativeId.clear();
+        ++generation;
+    }
+
+    private void remove(CachedNode cachedNode) {
+        if (cachedNode != null && cachedNode.primaryId() != null) {
+            primaryIdToNativeId.remove(cachedNode.primaryId(), cachedNode.id());
+        }
+    }
+
+    private Long nativeIdOf(ClassInfo classInfo, Object primaryIndexValue) {
+
+        // The node may have been cached as an implementation or extension of the class queried for
+        Queue<ClassInfo> queue = new ArrayDeque<>();
+        queue.add(classInfo);
+        while (!queue.isEmpty()) {
+            ClassInfo candidate = queue.poll();
+            Long nativeId = primaryIdToNativeId.get(LabelPrimaryId.of(candidate, primaryIndexValue));
+            if (nativeId != null) {
+                return nativeId;
+            }
+            queue.addAll(candidate.directSubclasses());
+        }
+        return null;
+    }
+
+    private static final class PendingInvalidation {
+
+        private final Set<Long> nodeIds = new HashSet<>();
+
+        private boolean all;
+    }
+
+    private record CachedNode(long id, Set<String> labels, Map<String, Object> properties, LabelPrimaryId primaryId) {
+
+        static CachedNode of(Node node, LabelPrimaryId primaryId) {
+            Map<String, Object> properties = new LinkedHashMap<>();
+            for (Property<String, Object> property : node.getPropertyList()) {
+                properties.put(property.getKey(), copyOf(property.getValue()));
+            }
+            Set<String> labels = node.getLabels() == null ? Set.of() : Set.copyOf(Arrays.asList(node.getLabels()));
+            return new CachedNode(node.getId(), labels, Collections.unmodifiableMap(properties), primaryId);
+        }
+
+        NodeModel toNodeModel() {
+            NodeModel nodeModel = new NodeModel(id);
+            nodeModel.setLabels(labels.toArray(new String[0]));
+            Map<String, Object> copiedProperties = new LinkedHashMap<>();
+            properties.forEach((key, value) -> copiedProperties.put(key, copyOf(value)));
+            nodeModel.setProperties(copiedProperties);
+            return nodeModel;
+        }
+
+        /**
+         * Property values of nodes might be mutable arrays or collections that end up in entities as they are, so
+         * they are copied on their way into and out of the cache.
+         */
+        private static Object copyOf(Object value) {
+            if (value instanceof List<?> list) {
+                List<Object> copy = new ArrayList<>(list.size());
+                list.forEach(element -> copy.add(copyOf(element)));
+                return copy;
+            } else if (value instanceof Map<?, ?> map) {
+                Map<Object, Object> copy = new LinkedHashMap<>();
+                map.forEach((k, v) -> copy.put(k, copyOf(v)));
+                return copy;
+            } else if (value != null && value.getClass().isArray()) {
+                int length = Array.getLength(value);
+                Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+                for (int i = 0; i < length; ++i) {
+                    Array.set(copy, i, copyOf(Array.get(value, i)));
+                }
+                return copy;
+            }
+            return value;
+        }
+    }
+}
@@ -104,6 +104,16 @@ public interface Compiler {
      */
     List<Statement> createRelationshipsStatements();
 
+    /**
+     * Retrieves a Cypher statement that creates the new nodes together with the new relationships built up through
+     * this {@link Compiler}, so that relationships between new nodes don't have to wait for the ids of those nodes.
+     * The statement replaces both the statements for creating nodes and the ones for creating relationships.
+     *
+     * @return A {@link List} containing the statement or an empty list if there are no new nodes or if new nodes
+     * are checked for optimistic locking, never <code>null</code>
+     */
+    List<Statement> createSubgraphStatements();
+
     /**
      * Retrieves the Cypher statements that update nodes built up through this {@link Compiler}.
      *
@@ -164,4 +174,12 @@ public interface Compiler {
      * @param statementFactory The {@link StatementFactory}
      */
     void useStatementFactory(StatementFactory statementFactory);
+
+    /**
+     * Limits the number of rows passed to a single statement. Entities that would be written by the same statement are
+     * split into several statements instead.
+     *
+     * @param maxRowsPerStatement The maximum number of rows per statement, must be greater than zero
+     */
+    void useMaxRowsPerStatement(int maxRowsPerStatement);
 }
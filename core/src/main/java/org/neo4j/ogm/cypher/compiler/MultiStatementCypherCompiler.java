@@ -21,10 +21,12 @@ package org.neo4j.ogm.cypher.compiler;
 import static java.util.stream.Collectors.*;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -40,6 +42,7 @@ import org.neo4j.ogm.cypher.compiler.builders.statement.ExistingNodeStatementBui
 import org.neo4j.ogm.cypher.compiler.builders.statement.ExistingRelationshipStatementBuilder;
 import org.neo4j.ogm.cypher.compiler.builders.statement.NewNodeStatementBuilder;
 import org.neo4j.ogm.cypher.compiler.builders.statement.NewRelationshipStatementBuilder;
+import org.neo4j.ogm.cypher.compiler.builders.statement.NewSubgraphStatementBuilder;
 import org.neo4j.ogm.exception.core.UnknownStatementTypeException;
 import org.neo4j.ogm.model.Edge;
 import org.neo4j.ogm.model.Node;
@@ -64,6 +67,7 @@ public class MultiStatementCypherCompiler implements Compiler {
     private final List<RelationshipBuilder> deletedRelationshipBuilders;
     private final List<RelationshipBuilder> deletedRelationshipEntityBuilders;
     private StatementFactory statementFactory;
+    private int maxRowsPerStatement = Integer.MAX_VALUE;
 
     public MultiStatementCypherCompiler(Function<Object, Long> nativeIdProvider) {
         this.context = new CypherContext(this, nativeIdProvider);
@@ -132,7 +136,7 @@ public class MultiStatementCypherCompiler implements Compiler {
         assertStatementFactoryExists();
         Map<String, Set<Node>> newNodesByLabels = groupNodesByLabel(newNodeBuilders);
         List<Statement> statements = new ArrayList<>(newNodesByLabels.size());
-        for (Set<Node> nodeModels : newNodesByLabels.values()) {
+        for (Set<Node> nodeModels : chunked(newNodesByLabels.values())) {
             NewNodeStatementBuilder newNodeBuilder = new NewNodeStatementBuilder(nodeModels, statementFactory);
             statements.add(newNodeBuilder.build());
         }
@@ -143,47 +147,37 @@ public class MultiStatementCypherCompiler implements Compiler {
     @Override
     public List<Statement> createRelationshipsStatements() {
         assertStatementFactoryExists();
-        //Group relationships by type and non-null properties
-        //key: relationship type, value: Map where key=Set<Property strings>, value: Set of edges with those properties
-        Map<String, Map<String, Set<Edge>>> relsByTypeAndProps = new HashMap<>();
-        for (RelationshipBuilder relationshipBuilder : newRelationshipBuilders) {
-            if (relationshipBuilder.edge().getStartNode() == null || relationshipBuilder.edge().getEndNode() == null) {
-                continue; //TODO this is a carry forward from the old emitters. We want to prevent this rel builder getting created or remove it
-            }
-            Map<String, Set<Edge>> relsByProps = relsByTypeAndProps
-                .computeIfAbsent(relationshipBuilder.type(), (key) -> new HashMap<>());
-
-            RelationshipModel edge = (RelationshipModel) relationshipBuilder.edge();
-
-            String primaryId = edge.getPrimaryIdName();
-
-            Set<Edge> rels = relsByProps.computeIfAbsent(primaryId, (s) -> new HashSet<>());
-            edge.setStartNode(context.getId(edge.getStartNode()));
-            edge.setEndNode(context.getId(edge.getEndNode()));
-            rels.add(edge);
-        }
-
         List<Statement> statements = new ArrayList<>();
-        //For each relationship type
-        for (Map<String, Set<Edge>> edgesByProperties : relsByTypeAndProps.values()) {
-            //For each set of unique property keys
-            for (Set<Edge> edges : edgesByProperties.values()) {
-                NewRelationshipStatementBuilder newRelationshipBuilder = new NewRelationshipStatementBuilder(edges,
-                    statementFactory);
-                statements.add(newRelationshipBuilder.build());
-            }
+        for (Set<Edge> edges : chunked(groupNewRelationships())) {
+            NewRelationshipStatementBuilder newRelationshipBuilder = new NewRelationshipStatementBuilder(edges,
+                statementFactory);
+            statements.add(newRelationshipBuilder.build());
         }
 
         return statements;
     }
 
+    @Override
+    public List<Statement> createSubgraphStatements() {
+        assertStatementFactoryExists();
+        if (newNodeBuilders.isEmpty() || newNodeBuilders.size() > maxRowsPerStatement
+            || newRelationshipBuilders.size() > maxRowsPerStatement
+            || newNodeBuilders.stream().anyMatch(nodeBuilder -> nodeBuilder.node().hasVersionProperty())) {
+            return Collections.emptyList();
+        }
+
+        NewSubgraphStatementBuilder newSubgraphBuilder = new NewSubgraphStatementBuilder(
+            groupNodesByLabel(newNodeBuilders).values(), groupNewRelationships(), statementFactory);
+        return Collections.singletonList(newSubgraphBuilder.build());
+    }
+
     @Override
     public List<Statement> updateNodesStatements() {
         assertStatementFactoryExists();
         Map<String, Set<Node>> existingNodesByLabels = groupNodesByLabel(existingNodeBuilders);
 
         List<Statement> statements = new ArrayList<>(existingNodesByLabels.size());
-        for (Set<Node> nodeModels : existingNodesByLabels.values()) {
+        for (Set<Node> nodeModels : chunked(existingNodesByLabels.values())) {
             ExistingNodeStatementBuilder existingNodeBuilder = new ExistingNodeStatementBuilder(nodeModels,
                 statementFactory);
             statements.add(existingNodeBuilder.build());
@@ -204,13 +198,13 @@ public class MultiStatementCypherCompiler implements Compiler {
             .collect(partitioningBy(RelationshipBuilder::isDirty, Collectors.mapping(RelationshipBuilder::edge, Collectors.toSet())));
 
         List<Statement> result = new ArrayList<>();
-        if (!collect.get(true).isEmpty()) {
-            ExistingRelationshipStatementBuilder builder = new ExistingRelationshipStatementBuilder(collect.get(true), statementFactory, true);
+        for (Set<Edge> edges : chunked(List.of(collect.get(true)))) {
+            ExistingRelationshipStatementBuilder builder = new ExistingRelationshipStatementBuilder(edges, statementFactory, true);
             result.add(builder.build());
         }
 
-        if (!collect.get(false).isEmpty()) {
-            ExistingRelationshipStatementBuilder builder = new ExistingRelationshipStatementBuilder(collect.get(false), statementFactory, false);
+        for (Set<Edge> edges : chunked(List.of(collect.get(false)))) {
+            ExistingRelationshipStatementBuilder builder = new ExistingRelationshipStatementBuilder(edges, statementFactory, false);
             result.add(builder.build());
         }
 
@@ -224,7 +218,7 @@ public class MultiStatementCypherCompiler implements Compiler {
         Map<String, Set<Edge>> deletedRelsByType = groupRelationshipsByType(deletedRelationshipBuilders);
         List<Statement> statements = new ArrayList<>();
 
-        for (Set<Edge> edges : deletedRelsByType.values()) {
+        for (Set<Edge> edges : chunked(deletedRelsByType.values())) {
             DeletedRelationshipStatementBuilder deletedRelationshipBuilder = new DeletedRelationshipStatementBuilder(
                 edges, statementFactory);
             statements.add(deletedRelationshipBuilder.build());
@@ -240,7 +234,7 @@ public class MultiStatementCypherCompiler implements Compiler {
 
         List<Statement> statements = new ArrayList<>();
 
-        for (Set<Edge> edges : deletedRelsByType.values()) {
+        for (Set<Edge> edges : chunked(deletedRelsByType.values())) {
             DeletedRelationshipEntityStatementBuilder deletedRelationshipBuilder = new DeletedRelationshipEntityStatementBuilder(
                 edges, statementFactory);
             statements.add(deletedRelationshipBuilder.build());
@@ -284,6 +278,14 @@ public class MultiStatementCypherCompiler implements Compiler {
         this.statementFactory = newStatementFactory;
     }
 
+    @Override
+    public void useMaxRowsPerStatement(int newMaxRowsPerStatement) {
+        if (newMaxRowsPerStatement < 1) {
+            throw new IllegalArgumentException("The maximum number of rows per statement must be greater than zero");
+        }
+        this.maxRowsPerStatement = newMaxRowsPerStatement;
+    }
+
     private boolean unmap(RelationshipBuilder relationshipBuilder) {
         boolean unmapped = false;
         Iterator<RelationshipBuilder> relIterator = newRelationshipBuilders.iterator();
@@ -314,12 +316,70 @@ public class MultiStatementCypherCompiler implements Compiler {
         }
     }
 
+    /**
+     * Splits each group of entities written by the same statement into chunks of at most {@link #maxRowsPerStatement}.
+     * Empty groups are dropped.
+     */
+    private <T> List<Set<T>> chunked(Collection<Set<T>> groups) {
+        List<Set<T>> chunks = new ArrayList<>(groups.size());
+        for (Set<T> group : groups) {
+            if (group.size() <= maxRowsPerStatement) {
+                if (!group.isEmpty()) {
+                    chunks.add(group);
+                }
+                continue;
+            }
+            Set<T> chunk = new LinkedHashSet<>();
+            for (T element : group) {
+                chunk.add(element);
+                if (chunk.size() == maxRowsPerStatement) {
+                    chunks.add(chunk);
+                    chunk = new LinkedHashSet<>();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                chunks.add(chunk);
+            }
+        }
+        return chunks;
+    }
+
     private Map<String, Set<Node>> groupNodesByLabel(List<NodeBuilder> nodeBuilders) {
         return nodeBuilders.stream()
             .map(NodeBuilder::node)
             .collect(groupingBy(Node::labelSignature, Collectors.mapping(Function.identity(), Collectors.toSet())));
     }
 
+    private List<Set<Edge>> groupNewRelationships() {
+        //Group relationships by type and non-null properties
+        //key: relationship type, value: Map where key=Set<Property strings>, value: Set of edges with those properties
+        Map<String, Map<String, Set<Edge>>> relsByTypeAndProps = new HashMap<>();
+        for (RelationshipBuilder relationshipBuilder : newRelationshipBuilders) {
+            if (relationshipBuilder.edge().getStartNode() == null || relationshipBuilder.edge().getEndNode() == null) {
+                continue; //TODO this is a carry forward from the old emitters. We want to prevent this rel builder getting created or remove it
+            }
+            Map<String, Set<Edge>> relsByProps = relsByTypeAndProps
+                .computeIfAbsent(relationshipBuilder.type(), (key) -> new HashMap<>());
+
+            RelationshipModel edge = (RelationshipModel) relationshipBuilder.edge();
+
+            String primaryId = edge.getPrimaryIdName();
+
+            Set<Edge> rels = relsByProps.computeIfAbsent(primaryId, (s) -> new HashSet<>());
+            edge.setStartNode(context.getId(edge.getStartNode()));
+            edge.setEndNode(context.getId(edge.getEndNode()));
+            rels.add(edge);
+        }
+
+        List<Set<Edge>> groups = new ArrayList<>();
+        //For each relationship type
+        for (Map<String, Set<Edge>> edgesByProperties : relsByTypeAndProps.values()) {
+            //For each set of unique property keys
+            groups.addAll(edgesByProperties.values());
+        }
+        return groups;
+    }
+
     private Map<String, Set<Edge>> groupRelationshipsByType(List<RelationshipBuilder> relationshipBuilders) {
         Map<String, Set<Edge>> relsByType = new HashMap<>();
         for (RelationshipBuilder relationshipBuilder : relationshipBuilders) {
@@ -62,31 +62,7 @@ public class NewNodeStatementBuilder implements CypherStatementBuilder {
 
             queryBuilder.append("UNWIND $rows as row ");
 
-            boolean hasPrimaryIndex = firstNode.getPrimaryIndex() != null;
-            if (hasPrimaryIndex) {
-                queryBuilder.append("MERGE (n");
-            } else {
-                queryBuilder.append("CREATE (n");
-            }
-
-            for (String label : firstNode.getLabels()) {
-                queryBuilder.append(":").append(SchemaNames.sanitize(label, true).orElseThrow());
-            }
-
-            if (hasPrimaryIndex) {
-                String propertiesToMergeOn = Arrays.stream(firstNode.getPrimaryIndex().split(PROPERTY_SEPARATOR))
-                    .map(p -> {
-                        var pq = SchemaNames.sanitize(p, true).orElseThrow();
-                        return pq + ": row.props." + pq;
-                    })
-                    .collect(joining(",", "{", "}"));
-                queryBuilder.append(propertiesToMergeOn);
-            }
-            queryBuilder.append(") "); // Closing MERGE or CREATE
-
-            if (firstNode.hasVersionProperty() && hasPrimaryIndex) {
-                queryBuilder.append(getFragmentForNewOrExistingNodes(firstNode, "n"));
-            }
+            appendWriteClause(queryBuilder, firstNode);
 
             queryBuilder.append("SET n=row.props RETURN row.nodeRef as ref, ID(n) as id, $type as type");
             List<Map> rows = newNodes.stream().map(node -> node.toRow("nodeRef")).collect(toList());
@@ -102,4 +78,38 @@ public class NewNodeStatementBuilder implements CypherStatementBuilder {
 
         return statementFactory.statement(queryBuilder.toString(), parameters);
     }
+
+    /**
+     * Appends the clause that creates or merges a node from the current {@code row} to {@code n}.
+     *
+     * @param queryBuilder the query being built
+     * @param firstNode    a representative of all nodes written by the query
+     */
+    static void appendWriteClause(StringBuilder queryBuilder, Node firstNode) {
+        boolean hasPrimaryIndex = firstNode.getPrimaryIndex() != null;
+        if (hasPrimaryIndex) {
+            queryBuilder.append("MERGE (n");
+        } else {
+            queryBuilder.append("CREATE (n");
+        }
+
+        for (String label : firstNode.getLabels()) {
+            queryBuilder.append(":").append(SchemaNames.sanitize(label, true).orElseThrow());
+        }
+
+        if (hasPrimaryIndex) {
+            String propertiesToMergeOn = Arrays.stream(firstNode.getPrimaryIndex().split(PROPERTY_SEPARATOR))
+                .map(p -> {
+                    var pq = SchemaNames.sanitize(p, true).orElseThrow();
+                    return pq + ": row.props." + pq;
+                })
+                .collect(joining(",", "{", "}"));
+            queryBuilder.append(propertiesToMergeOn);
+        }
+        queryBuilder.append(") "); // Closing MERGE or CREATE
+
+        if (firstNode.hasVersionProperty() && hasPrimaryIndex) {
+            queryBuilder.append(getFragmentForNewOrExistingNodes(firstNode, "n"));
+        }
+    }
 }
@@ -57,56 +57,20 @@ public class NewRelationshipStatementBuilder implements CypherStatementBuilder {
         boolean hasProperties = false;
         if (edges != null && edges.size() > 0) {
             Edge firstEdge = edges.iterator().next();
-            String relType = firstEdge.getType();
             hasProperties = firstEdge.getPropertyList().size() > 0;
-            boolean hasPrimaryId = firstEdge.getPrimaryIdName() != null;
 
             queryBuilder.append("UNWIND $rows as row ")
                 .append("MATCH (startNode) WHERE ID(startNode) = row.startNodeId WITH row,startNode ")
                 .append("MATCH (endNode) WHERE ID(endNode) = row.endNodeId ");
 
-            if (hasProperties && !hasPrimaryId) {
-                queryBuilder.append("CREATE ");
-            } else {
-                queryBuilder.append("MERGE ");
-            }
-
-            queryBuilder.append("(startNode)-[rel:`")
-                .append(relType)
-                .append("`");
-
-            if (hasPrimaryId) {
-                queryBuilder.append(" {`")
-                    .append(firstEdge.getPrimaryIdName())
-                    .append("`: row.props.`")
-                    .append(firstEdge.getPrimaryIdName())
-                    .append("`}");
-            }
-            queryBuilder.append("]->(endNode) ");
-
-            if (hasProperties) {
-                queryBuilder.append("SET rel += row.props ");
-
-            }
+            appendWriteClause(queryBuilder, firstEdge, hasProperties);
             queryBuilder.append("RETURN row.relRef as ref, ID(rel) as id, $type as type");
 
             List<Map> rows = new ArrayList<>();
             for (Edge edge : edges) {
-                Map<String, Object> rowMap = new HashMap<>();
+                Map<String, Object> rowMap = toRow(edge, hasProperties);
                 rowMap.put("startNodeId", edge.getStartNode());
                 rowMap.put("endNodeId", edge.getEndNode());
-                rowMap.put("relRef", edge.getId());
-                if (hasProperties) {
-                    Map<String, Object> props = new HashMap<>();
-                    for (Property property : edge.getPropertyList()) {
-                        props.put((String) property.getKey(), property.getValue());
-                    }
-                    rowMap.put("props", props);
-                } else {
-                    // need to put empty map here for simple relationships to avoid Cypher error because
-                    // props is used in the query
-                    rowMap.put("props", emptyMap());
-                }
                 rows.add(rowMap);
             }
             parameters.put("type", "rel");
@@ -115,4 +79,65 @@ public class NewRelationshipStatementBuilder implements CypherStatementBuilder {
 
         return statementFactory.statement(queryBuilder.toString(), parameters);
     }
+
+    /**
+     * Appends the clause that creates or merges a relationship between the already bound {@code startNode} and
+     * {@code endNode}, binding it to {@code rel}.
+     *
+     * @param queryBuilder  the query being built
+     * @param firstEdge     a representative of all relationships written by the query
+     * @param hasProperties whether the relationships carry properties
+     */
+    static void appendWriteClause(StringBuilder queryBuilder, Edge firstEdge, boolean hasProperties) {
+        String relType = firstEdge.getType();
+        boolean hasPrimaryId = firstEdge.getPrimaryIdName() != null;
+
+        if (hasProperties && !hasPrimaryId) {
+            queryBuilder.append("CREATE ");
+        } else {
+            queryBuilder.append("MERGE ");
+        }
+
+        queryBuilder.append("(startNode)-[rel:`")
+            .append(relType)
+            .append("`");
+
+        if (hasPrimaryId) {
+            queryBuilder.append(" {`")
+                .append(firstEdge.getPrimaryIdName())
+                .append("`: row.props.`")
+                .append(firstEdge.getPrimaryIdName())
+                .append("`}");
+        }
+        queryBuilder.append("]->(endNode) ");
+
+        if (hasProperties) {
+            queryBuilder.append("SET rel += row.props ");
+
+        }
+    }
+
+    /**
+     * Creates the row describing the given relationship, without its start and end node.
+     *
+     * @param edge          the relationship to write
+     * @param hasProperties whether the relationships carry properties
+     * @return a mutable row
+     */
+    static Map<String, Object> toRow(Edge edge, boolean hasProperties) {
+        Map<String, Object> rowMap = new HashMap<>();
+        rowMap.put("relRef", edge.getId());
+        if (hasProperties) {
+            Map<String, Object> props = new HashMap<>();
+            for (Property property : edge.getPropertyList()) {
+                props.put((String) property.getKey(), property.getValue());
+            }
+            rowMap.put("props", props);
+        } else {
+            // need to put empty map here for simple relationships to avoid Cypher error because
+            // props is used in the query
+            rowMap.put("props", emptyMap());
+        }
+        return rowMap;
+    }
 }
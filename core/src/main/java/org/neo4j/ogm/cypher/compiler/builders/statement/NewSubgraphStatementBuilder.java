@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.cypher.compiler.builders.statement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.neo4j.ogm.cypher.compiler.CypherStatementBuilder;
+import org.neo4j.ogm.model.Edge;
+import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.request.StatementFactory;
+
+/**
+ * Builds a single statement that creates new nodes together with new relationships between them. The new nodes are
+ * collected in the order of their client side reference, so that the relationships can refer to them by their index
+ * instead of by an id that the database would have to return first. The statement returns the same {@code ref},
+ * {@code id} and {@code type} rows as the separate statements for nodes and relationships would.
+ */
+public class NewSubgraphStatementBuilder implements CypherStatementBuilder {
+
+    private final StatementFactory statementFactory;
+
+    private final Collection<Set<Node>> newNodesByLabels;
+
+    private final Collection<Set<Edge>> newEdgesByTypeAndProperties;
+
+    public NewSubgraphStatementBuilder(Collection<Set<Node>> newNodesByLabels,
+        Collection<Set<Edge>> newEdgesByTypeAndProperties, StatementFactory statementFactory) {
+        this.newNodesByLabels = newNodesByLabels;
+        this.newEdgesByTypeAndProperties = newEdgesByTypeAndProperties;
+        this.statementFactory = statementFactory;
+    }
+
+    @Override
+    public Statement build() {
+
+        final Map<String, Object> parameters = new HashMap<>();
+        final StringBuilder queryBuilder = new StringBuilder();
+
+        // Index of each new node in the list collected by the query, which is sorted by the node reference
+        List<Long> nodeRefs = new ArrayList<>();
+        int i = 0;
+        queryBuilder.append("CALL { ");
+        for (Set<Node> nodes : newNodesByLabels) {
+            if (i > 0) {
+                queryBuilder.append("UNION ALL ");
+            }
+            String rowsParameter = "nodeRows" + i++;
+            queryBuilder.append("UNWIND $").append(rowsParameter).append(" as row ");
+            NewNodeStatementBuilder.appendWriteClause(queryBuilder, nodes.iterator().next());
+            queryBuilder.append("SET n=row.props RETURN row.nodeRef as nodeRef, n ");
+
+            List<Map<String, Object>> rows = new ArrayList<>(nodes.size());
+            for (Node node : nodes) {
+                rows.add(node.toRow("nodeRef"));
+                nodeRefs.add(node.getId());
+            }
+            parameters.put(rowsParameter, rows);
+        }
+        queryBuilder.append("} ")
+            .append("WITH nodeRef, n ORDER BY nodeRef ")
+            .append("WITH collect(nodeRef) as nodeRefs, collect(n) as nodes ");
+
+        nodeRefs.sort(null);
+        Map<Long, Integer> nodeIndexes = new HashMap<>(nodeRefs.size());
+        for (Long nodeRef : nodeRefs) {
+            nodeIndexes.put(nodeRef, nodeIndexes.size());
+        }
+
+        i = 0;
+        if (!newEdgesByTypeAndProperties.isEmpty()) {
+            queryBuilder.append("CALL { ");
+            for (Set<Edge> edges : newEdgesByTypeAndProperties) {
+                if (i > 0) {
+                    queryBuilder.append("UNION ALL ");
+                }
+                Edge firstEdge = edges.iterator().next();
+                boolean hasProperties = firstEdge.getPropertyList().size() > 0;
+
+                String rowsParameter = "relRows" + i++;
+                queryBuilder.append("WITH nodes UNWIND $").append(rowsParameter).append(" as row ")
+                    .append("OPTIONAL MATCH (existingStartNode) WHERE ID(existingStartNode) = row.startNodeId ")
+                    .append("OPTIONAL MATCH (existingEndNode) WHERE ID(existingEndNode) = row.endNodeId ")
+                    .append("WITH row, coalesce(nodes[row.startNodeIndex], existingStartNode) as startNode, ")
+                    .append("coalesce(nodes[row.endNodeIndex], existingEndNode) as endNode ")
+                    .append("WHERE startNode IS NOT NULL AND endNode IS NOT NULL ");
+                NewRelationshipStatementBuilder.appendWriteClause(queryBuilder, firstEdge, hasProperties);
+                queryBuilder.append("RETURN collect([row.relRef, ID(rel)]) as rels ");
+
+                List<Map<String, Object>> rows = new ArrayList<>(edges.size());
+                for (Edge edge : edges) {
+                    Map<String, Object> rowMap = NewRelationshipStatementBuilder.toRow(edge, hasProperties);
+                    putNodeReference(rowMap, "startNode", edge.getStartNode(), nodeIndexes);
+                    putNodeReference(rowMap, "endNode", edge.getEndNode(), nodeIndexes);
+                    rows.add(rowMap);
+                }
+                parameters.put(rowsParameter, rows);
+            }
+            queryBuilder.append("} ")
+                .append("WITH nodeRefs, nodes, reduce(acc = [], relsOfType IN collect(rels) | acc + relsOfType) as rels ");
+        } else {
+            queryBuilder.append("WITH nodeRefs, nodes, [] as rels ");
+        }
+
+        queryBuilder.append("UNWIND [i IN range(0, size(nodes) - 1) | [nodeRefs[i], ID(nodes[i]), 'node']] ")
+            .append("+ [rel IN rels | [rel[0], rel[1], 'rel']] as result ")
+            .append("RETURN result[0] as ref, result[1] as id, result[2] as type");
+
+        return statementFactory.statement(queryBuilder.toString(), parameters);
+    }
+
+    /**
+     * New nodes are referred to by their index, existing nodes by their id.
+     */
+    private static void putNodeReference(Map<String, Object> rowMap, String prefix, Long nodeId,
+        Map<Long, Integer> nodeIndexes) {
+        Integer index = nodeIndexes.get(nodeId);
+        if (index != null) {
+            rowMap.put(prefix + "Index", index);
+        } else if (nodeId != null && nodeId >= 0) {
+            rowMap.put(prefix + "Id", nodeId);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.cypher.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The continuation token of a {@link KeysetPagination}: The values of the sort properties and the native id of the
+ * last entity on a page. The values are graph property values, that is, with any property converter already applied.
+ *
+ * @param values The values of all properties of the sort order, in the order of the sort clauses
+ * @param id     The native id of the last entity, used as a tie breaker
+ */
+public record Keyset(List<Object> values, long id) {
+
+    public Keyset {
+        Objects.requireNonNull(values, "Keyset values must not be null");
+        values = Collections.unmodifiableList(new ArrayList<>(values));
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.cypher.query;
+
+import java.util.List;
+
+/**
+ * A page of entities loaded with a {@link KeysetPagination}.
+ *
+ * @param content The entities on this page
+ * @param next    The keyset to continue with or {@literal null} if this page has not been full
+ * @param <T>     The type of the entities
+ */
+public record KeysetPage<T>(List<T> content, Keyset next) {
+
+    public KeysetPage {
+        content = List.copyOf(content);
+    }
+
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    /**
+     * @param pageSize The maximum number of entities on the next page
+     * @return The pagination for the page following this one
+     * @throws IllegalStateException if there is no next page
+     */
+    public KeysetPagination nextPagination(int pageSize) {
+        if (next == null) {
+            throw new IllegalStateException("There is no page after the last page");
+        }
+        return new KeysetPagination(pageSize, next);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.cypher.query;
+
+/**
+ * Keyset (or cursor) based pagination. Instead of skipping the entities of all previous pages, the query continues
+ * right after the {@link Keyset} of the last entity of the previous page, which lets the database use an index on the
+ * sort properties no matter how deep the page is. The native id is always added as last sort key to make the order
+ * total. The values of the sort properties must not be null.
+ */
+public class KeysetPagination {
+
+    private final int size;
+    private final Keyset after;
+
+    /**
+     * Creates a pagination for the first page.
+     *
+     * @param pageSize The maximum number of entities on a page
+     */
+    public KeysetPagination(int pageSize) {
+        this(pageSize, null);
+    }
+
+    /**
+     * Creates a pagination for the page after the given keyset.
+     *
+     * @param pageSize The maximum number of entities on a page
+     * @param after    The keyset of the last entity of the previous page, {@literal null} for the first page
+     */
+    public KeysetPagination(int pageSize, Keyset after) {
+
+        if (pageSize < 1) {
+            throw new RuntimeException("Page size must greater then zero");
+        }
+
+        this.size = pageSize;
+        this.after = after;
+    }
+
+    public int getPageSize() {
+        return size;
+    }
+
+    public Keyset getAfter() {
+        return after;
+    }
+
+    public String toString() {
+        return " LIMIT " + size;
+    }
+}
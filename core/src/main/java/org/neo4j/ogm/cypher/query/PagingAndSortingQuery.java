@@ -18,6 +18,7 @@
  */
 package org.neo4j.ogm.cypher.query;
 
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -31,6 +32,7 @@ import java.util.Map;
 public class PagingAndSortingQuery implements PagingAndSorting {
 
     private Pagination pagination;
+    private KeysetPagination keysetPagination;
     private SortOrder sortOrder = new SortOrder();
 
     private String matchClause;
@@ -66,12 +68,23 @@ public class PagingAndSortingQuery implements PagingAndSorting {
         StringBuilder sb = new StringBuilder();
         sb.append(matchClause);
 
-        String sorting = sortOrder().asString(variable);
-        if (!sorting.isEmpty()) {
-            sb.append(sorting);
-        }
-        if (pagination != null) {
-            sb.append(pagination);
+        if (keysetPagination != null) {
+            // All match clauses end with a WITH clause that the keyset predicate can be attached to
+            if (keysetPagination.getAfter() != null) {
+                sb.append(" WHERE ")
+                    .append(sortOrder().asKeysetPredicate(variable, keysetPagination.getAfter(), new HashMap<>()))
+                    .append(" WITH *");
+            }
+            sb.append(sortOrder().asKeysetString(variable));
+            sb.append(keysetPagination);
+        } else {
+            String sorting = sortOrder().asString(variable);
+            if (!sorting.isEmpty()) {
+                sb.append(sorting);
+            }
+            if (pagination != null) {
+                sb.append(pagination);
+            }
         }
         sb.append(this.returnClause);
         if (needsRowResult()) {
@@ -81,7 +94,8 @@ public class PagingAndSortingQuery implements PagingAndSorting {
     }
 
     public boolean needsRowResult() {
-        return (sortOrder.hasSortClauses() || (pagination != null) || hasPredicate) && returnsPath;
+        return (sortOrder.hasSortClauses() || (pagination != null) || (keysetPagination != null) || hasPredicate)
+            && returnsPath;
     }
 
     @Override
@@ -90,6 +104,18 @@ public class PagingAndSortingQuery implements PagingAndSorting {
         return this;
     }
 
+    /**
+     * Uses keyset pagination instead of an offset based {@link Pagination}. Other than the latter, the keyset
+     * pagination always orders by the native id as well.
+     *
+     * @param keysetPagination The keyset pagination, may be null
+     * @return this query
+     */
+    public PagingAndSortingQuery setKeysetPagination(KeysetPagination keysetPagination) {
+        this.keysetPagination = keysetPagination;
+        return this;
+    }
+
     @Override
     public PagingAndSortingQuery setSortOrder(SortOrder sortOrder) {
         this.sortOrder = sortOrder;
@@ -105,6 +131,11 @@ public class PagingAndSortingQuery implements PagingAndSorting {
     }
 
     public Map<String, Object> getParameters() {
-        return parameters;
+        if (keysetPagination == null || keysetPagination.getAfter() == null) {
+            return parameters;
+        }
+        Map<String, Object> parametersWithKeyset = new HashMap<>(parameters);
+        sortOrder().asKeysetPredicate(variable, keysetPagination.getAfter(), parametersWithKeyset);
+        return parametersWithKeyset;
     }
 }
@@ -52,13 +52,7 @@ public class SortClause {
 
         if (properties.length > 0) {
             for (String n : properties) {
-                if (ignoreCase) {
-                    sb.append("toLower(");
-                }
-                sb.append(variable).append(".").append(n);
-                if (ignoreCase) {
-                    sb.append(")");
-                }
+                sb.append(caseAware(variable + "." + n));
                 if (direction == SortOrder.Direction.DESC) {
                     sb.append(" DESC");
                 }
@@ -68,4 +62,16 @@ public class SortClause {
         }
         return sb.toString();
     }
+
+    boolean isDescending() {
+        return direction == SortOrder.Direction.DESC;
+    }
+
+    /**
+     * @param expression A property or parameter expression
+     * @return The expression as it is compared when sorting by this clause
+     */
+    String caseAware(String expression) {
+        return ignoreCase ? "toLower(" + expression + ")" : expression;
+    }
 }
@@ -22,6 +22,7 @@ import static org.neo4j.ogm.cypher.query.SortOrder.Direction.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Vince Bickers
@@ -160,6 +161,99 @@ public class SortOrder {
         return sb.toString();
     }
 
+    /**
+     * Renders the sort order followed by the native id as tie breaker, so that the order is total as required by
+     * {@link KeysetPagination}.
+     *
+     * @param variable The variable of the sorted entities
+     * @return An order by clause, never empty
+     */
+    String asKeysetString(String variable) {
+        String sorting = asString(variable);
+        return (sorting.isEmpty() ? " ORDER BY " : sorting + ", ") + "ID(" + variable + ")";
+    }
+
+    /**
+     * Renders a predicate that matches all entities following the given keyset in the order of
+     * {@link #asKeysetString(String)}. Row value comparisons are not available in Cypher, so the lexicographic
+     * comparison is expanded into one disjunct per sort key. The disjunction is preceded by a redundant range
+     * predicate on the first sort key, so that an index on that property can be used for a range seek starting at the
+     * keyset, instead of filtering and sorting all entities.
+     * <p>
+     * Sort keys may be {@literal null}. Cypher sorts {@literal null} last in ascending and first in descending order,
+     * and comparisons with {@literal null} are never true, so each sort key is compared with explicit
+     * {@code IS NULL} and {@code IS NOT NULL} checks wherever {@literal null} values follow the keyset.
+     *
+     * @param variable   The variable of the sorted entities
+     * @param keyset     The keyset of the last entity of the previous page
+     * @param parameters Receives the parameters used by the predicate
+     * @return The predicate without a leading {@code WHERE}
+     */
+    String asKeysetPredicate(String variable, Keyset keyset, Map<String, Object> parameters) {
+
+        List<String> equalities = new ArrayList<>();
+        StringBuilder sb = new StringBuilder();
+        String leadingRange = null;
+        int index = 0;
+        for (SortClause sortClause : sortClauses) {
+            for (String property : sortClause.getProperties()) {
+                if (index >= keyset.values().size()) {
+                    throw new IllegalArgumentException("The keyset contains fewer values than the sort order has properties");
+                }
+                Object keysetValue = keyset.values().get(index);
+                String parameter = "keyset_" + index++;
+                String expression = sortClause.caseAware(variable + "." + property);
+                if (keysetValue == null) {
+                    // Only non-null values follow a null in descending order, and nothing follows it in ascending order
+                    if (sortClause.isDescending()) {
+                        appendKeysetDisjunct(sb, equalities, expression + " IS NOT NULL");
+                    } else if (index == 1) {
+                        leadingRange = expression + " IS NULL";
+                    }
+                    equalities.add(expression + " IS NULL");
+                    continue;
+                }
+
+                parameters.put(parameter, keysetValue);
+                String value = sortClause.caseAware("$" + parameter);
+                String comparison = expression + (sortClause.isDescending() ? " < " : " > ") + value;
+                if (index == 1) {
+                    leadingRange = sortClause.isDescending()
+                        ? expression + " <= " + value
+                        : "(" + expression + " >= " + value + " OR " + expression + " IS NULL)";
+                }
+                if (sortClause.isDescending()) {
+                    appendKeysetDisjunct(sb, equalities, comparison);
+                } else {
+                    appendKeysetDisjunct(sb, equalities, comparison, expression + " IS NULL");
+                }
+                equalities.add(expression + " = " + value);
+            }
+        }
+        if (index != keyset.values().size()) {
+            throw new IllegalArgumentException("The keyset contains more values than the sort order has properties");
+        }
+
+        parameters.put("keyset_id", keyset.id());
+        appendKeysetDisjunct(sb, equalities, "ID(" + variable + ") > $keyset_id");
+        return leadingRange == null ? sb.toString() : leadingRange + " AND (" + sb + ")";
+    }
+
+    private static void appendKeysetDisjunct(StringBuilder sb, List<String> equalities, String... comparisons) {
+        if (sb.length() > 0) {
+            sb.append(" OR ");
+        }
+        sb.append("(");
+        for (String equality : equalities) {
+            sb.append(equality).append(" AND ");
+        }
+        String comparison = String.join(" OR ", comparisons);
+        if (comparisons.length > 1 && !equalities.isEmpty()) {
+            comparison = "(" + comparison + ")";
+        }
+        sb.append(comparison).append(")");
+    }
+
     public enum Direction {
         ASC, DESC
     }
@@ -25,6 +25,8 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -38,6 +40,8 @@ import org.neo4j.ogm.exception.core.MetadataException;
 import org.neo4j.ogm.id.IdStrategy;
 import org.neo4j.ogm.id.InternalIdStrategy;
 import org.neo4j.ogm.id.UuidStrategy;
+import org.neo4j.ogm.metadata.reflect.EntityAccessManager;
+import org.neo4j.ogm.metadata.reflect.RelationshipFieldCache;
 import org.neo4j.ogm.model.Node;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -97,6 +101,13 @@ public class ClassInfo {
 
     private final Map<Class, List<FieldInfo>> iterableFieldsForType = new HashMap<>();
     private final Map<FieldInfo, Field> fieldInfoFields = new ConcurrentHashMap<>();
+    private final RelationshipFieldCache relationshipFieldCache = new RelationshipFieldCache();
+    private volatile HydrationPlan[] hydrationPlans = HydrationPlan.NONE;
+    /**
+     * Guards the lazy initialization of the views below. A lock rather than the monitor of this instance, so that
+     * virtual threads initializing them are not pinned to their carrier.
+     */
+    private final Lock initializationLock = new ReentrantLock();
 
     private volatile Map<String, FieldInfo> propertyFields;
     private volatile Map<String, FieldInfo> indexFields;
@@ -111,6 +122,12 @@ public class ClassInfo {
     private volatile Set<FieldInfo> relationshipFields;
     private volatile Optional<FieldInfo> endNodeReader;
     private volatile Optional<FieldInfo> startNodeReader;
+    /**
+     * All of the above views, once this class has been sealed. The record has only final components, so it is safely
+     * published through this plain field and reading it after the domain has been created needs neither a lock nor a
+     * volatile read.
+     */
+    private ResolvedViews resolvedViews;
 
     private Class<? extends IdStrategy> idStrategyClass;
     private IdStrategy idStrategy;
@@ -181,6 +198,8 @@ public class ClassInfo {
         this.interfacesInfo.append(classInfo.interfacesInfo());
         this.fieldsInfo.append(classInfo.fieldsInfo());
         this.methodsInfo.append(classInfo.methodsInfo());
+        this.relationshipFieldCache.clear();
+        this.hydrationPlans = HydrationPlan.NONE;
     }
 
     /**
@@ -195,13 +214,78 @@ public class ClassInfo {
                     + this.className);
         }
         subclass.directSuperclass = this;
+        subclass.relationshipFieldCache.clear();
         this.directSubclasses.add(subclass);
+        unseal();
+    }
+
+    /**
+     * Resolves all lazily computed views of this class at once and publishes them as an immutable whole. Afterwards,
+     * the views are plain field reads. A class with an invalid mapping is not sealed, its views are resolved on first
+     * use and report the error there, as if sealing hasn't been tried. Sealing different classes concurrently is safe,
+     * as a view only synchronizes on its own class and the classes further down the hierarchy.
+     */
+    void seal() {
+
+        try {
+            this.resolvedViews = new ResolvedViews(staticLabels(), allSubclasses(), getOrComputeIdentityField(),
+                labelFieldOrNull(), getOrComputePropertyFields(), relationshipFields(), requiredFields(),
+                getIndexFields(), getOrComputePrimaryIndexField(), getOrComputeVersionField(),
+                Optional.ofNullable(postLoadMethodOrNull()), Optional.ofNullable(getStartNodeReader()),
+                Optional.ofNullable(getEndNodeReader()));
+        } catch (RuntimeException e) {
+            LOGGER.debug("Could not seal {}, its views will be resolved on first use", className, e);
+        }
+
+        try {
+            EntityAccessManager.precomputeRelationshipFields(this);
+        } catch (RuntimeException e) {
+            LOGGER.debug("Could not precompute the relationship fields of {}, they will be resolved on first use",
+                className, e);
+        }
+    }
+
+    /**
+     * Drops the resolved views of this class and its superclasses, as their subclasses have changed.
+     */
+    private void unseal() {
+
+        for (ClassInfo classInfo = this; classInfo != null; classInfo = classInfo.directSuperclass) {
+            classInfo.resolvedViews = null;
+            classInfo.allSubclasses = null;
+        }
     }
 
     public String name() {
         return className;
     }
 
+    HydrationPlan[] hydrationPlans() {
+        return hydrationPlans;
+    }
+
+    void addHydrationPlan(HydrationPlan plan) {
+
+        initializationLock.lock();
+        try {
+            HydrationPlan[] plans = this.hydrationPlans;
+            if (plans.length < HydrationPlan.MAX_PLANS_PER_CLASS) {
+                HydrationPlan[] newPlans = Arrays.copyOf(plans, plans.length + 1);
+                newPlans[plans.length] = plan;
+                this.hydrationPlans = newPlans;
+            }
+        } finally {
+            initializationLock.unlock();
+        }
+    }
+
+    /**
+     * @return The cache of relationship fields resolved for this class by the {@link EntityAccessManager}
+     */
+    public RelationshipFieldCache relationshipFieldCache() {
+        return relationshipFieldCache;
+    }
+
     String simpleName() {
         return deriveSimpleName(this.cls);
     }
@@ -233,14 +317,22 @@ public class ClassInfo {
      */
     public Collection<String> staticLabels() {
 
+        ResolvedViews views = this.resolvedViews;
+        if (views != null) {
+            return views.staticLabels();
+        }
+
         Collection<String> knownStaticLabels = this.staticLabels;
         if (knownStaticLabels == null) {
-            synchronized (this) {
+            initializationLock.lock();
+            try {
                 knownStaticLabels = this.staticLabels;
                 if (knownStaticLabels == null) {
                     this.staticLabels = Collections.unmodifiableCollection(collectLabels());
                     knownStaticLabels = this.staticLabels;
                 }
+            } finally {
+                initializationLock.unlock();
             }
         }
         return knownStaticLabels;
@@ -293,14 +385,22 @@ public class ClassInfo {
      */
     public Collection<ClassInfo> allSubclasses() {
 
+        ResolvedViews views = this.resolvedViews;
+        if (views != null) {
+            return views.allSubclasses();
+        }
+
         Set<ClassInfo> computedSubclasses = this.allSubclasses;
         if (computedSubclasses == null) {
-            synchronized (this) {
+            initializationLock.lock();
+            try {
                 computedSubclasses = this.allSubclasses;
                 if (computedSubclasses == null) {
                     this.allSubclasses = computeSubclasses();
                     computedSubclasses = this.allSubclasses;
                 }
+            } finally {
+                initializationLock.unlock();
             }
         }
         return computedSubclasses;
@@ -378,9 +478,15 @@ public class ClassInfo {
 
     private Optional<FieldInfo> getOrComputeIdentityField() {
 
+        ResolvedViews views = this.resolvedViews;
+        if (views != null) {
+            return views.identityField();
+        }
+
         Optional<FieldInfo> result = this.identityField;
         if (result == null) {
-            synchronized (this) {
+            initializationLock.lock();
+            try {
                 result = this.identityField;
                 if (result == null) {
                     // Didn't want to add yet another method related to determining the identy field
@@ -400,6 +506,8 @@ public class ClassInfo {
                     }
                     result = this.identityField;
                 }
+            } finally {
+                initializationLock.unlock();
             }
         }
         return result;
@@ -421,6 +529,11 @@ public class ClassInfo {
      * @return A {@link FieldInfo} object representing the label field. Optionally <code>null</code>
      */
     public FieldInfo labelFieldOrNull() {
+
+        ResolvedViews views = this.resolvedViews;
+        if (views != null) {
+            return views.labelField();
+        }
         if (labelFieldMapped) {
             return labelField;
         }
@@ -490,9 +603,15 @@ public class ClassInfo {
 
     private Map<String, FieldInfo> getOrComputePropertyFields() {
 
+        ResolvedViews views = this.resolvedViews;
+        if (views != null) {
+            return views.propertyFields();
+        }
+
         Map<String, FieldInfo> result = this.propertyFields;
         if (result == null) {
-            synchronized (this) {
+            initializationLock.lock();
+            try {
                 result = this.propertyFields;
                 if (result == null) {
                     Collection<FieldInfo> fields = fieldsInfo().fields();
@@ -524,6 +643,8 @@ public class ClassInfo {
                     this.propertyFields = Collections.unmodifiableMap(intermediateFieldMap);
                     result = this.propertyFields;
                 }
+            } finally {
+                initializationLock.unlock();
             }
         }
         return result;
@@ -552,9 +673,15 @@ public class ClassInfo {
      */
     public Collection<FieldInfo> relationshipFields() {
 
+        ResolvedViews views = this.resolvedViews;
+        if (views != null) {
+            return views.relationshipFields();
+        }
+
         Collection<FieldInfo> result = this.relationshipFields;
         if (result == null) {
-            synchronized (this) {
+            initializationLock.lock();
+            try {
                 result = this.relationshipFields;
                 if (result == null) {
                     FieldInfo optionalIdentityField = identityFieldOrNull();
@@ -573,6 +700,8 @@ public class ClassInfo {
                     this.relationshipFields = Collections.unmodifiableSet(identifiedRelationshipFields);
                     result = this.relationshipFields;
                 }
+            } finally {
+                initializationLock.unlock();
             }
         }
         return result;
@@ -873,9 +1002,15 @@ public class ClassInfo {
      */
     public Collection<FieldInfo> getIndexFields() {
 
+        ResolvedViews views = this.resolvedViews;
+        if (views != null) {
+            return views.indexFields();
+        }
+
         Map<String, FieldInfo> result = this.indexFields;
         if (result == null) {
-            synchronized (this) {
+            initializationLock.lock();
+            try {
                 result = this.indexFields;
                 if (result == null) {
                     Map<String, FieldInfo> indexes = new HashMap<>();
@@ -895,6 +1030,8 @@ public class ClassInfo {
                     this.indexFields = Collections.unmodifiableMap(indexes);
                     result = this.indexFields;
                 }
+            } finally {
+                initializationLock.unlock();
             }
         }
         return result.values();
@@ -917,9 +1054,15 @@ public class ClassInfo {
 
     private Optional<FieldInfo> getOrComputePrimaryIndexField() {
 
+        ResolvedViews views = this.resolvedViews;
+        if (views != null) {
+            return views.primaryIndexField();
+        }
+
         Optional<FieldInfo> result = this.primaryIndexField;
         if (result == null) {
-            synchronized (this) {
+            initializationLock.lock();
+            try {
                 result = this.primaryIndexField;
                 if (result == null) {
                     Optional<FieldInfo> potentialPrimaryIndexField = Optional.empty();
@@ -944,8 +1087,11 @@ public class ClassInfo {
                         }
                         potentialPrimaryIndexField = Optional.of(selectedField);
                     }
-                    result = validateIdGenerationConfigFor(potentialPrimaryIndexField);
+                    this.primaryIndexField = validateIdGenerationConfigFor(potentialPrimaryIndexField);
+                    result = this.primaryIndexField;
                 }
+            } finally {
+                initializationLock.unlock();
             }
         }
         return result;
@@ -1005,9 +1151,15 @@ public class ClassInfo {
 
     public MethodInfo postLoadMethodOrNull() {
 
+        ResolvedViews views = this.resolvedViews;
+        if (views != null) {
+            return views.postLoadMethod().orElse(null);
+        }
+
         Optional<MethodInfo> result = this.postLoadMethod;
         if (result == null) {
-            synchronized (this) {
+            initializationLock.lock();
+            try {
                 result = this.postLoadMethod;
                 if (result == null) {
                     Collection<MethodInfo> possiblePostLoadMethods = methodsInfo
@@ -1021,6 +1173,8 @@ public class ClassInfo {
                     this.postLoadMethod = possiblePostLoadMethods.stream().findFirst();
                     result = this.postLoadMethod;
                 }
+            } finally {
+                initializationLock.unlock();
             }
         }
 
@@ -1049,9 +1203,15 @@ public class ClassInfo {
      */
     public FieldInfo getEndNodeReader() {
 
+        ResolvedViews views = this.resolvedViews;
+        if (views != null) {
+            return views.endNodeReader().orElse(null);
+        }
+
         Optional<FieldInfo> result = this.endNodeReader;
         if (result == null) {
-            synchronized (this) {
+            initializationLock.lock();
+            try {
                 result = this.endNodeReader;
                 if (result == null) {
                     if (isRelationshipEntity()) {
@@ -1066,6 +1226,8 @@ public class ClassInfo {
                     }
                     result = this.endNodeReader;
                 }
+            } finally {
+                initializationLock.unlock();
             }
         }
 
@@ -1079,9 +1241,15 @@ public class ClassInfo {
      */
     public FieldInfo getStartNodeReader() {
 
+        ResolvedViews views = this.resolvedViews;
+        if (views != null) {
+            return views.startNodeReader().orElse(null);
+        }
+
         Optional<FieldInfo> result = this.startNodeReader;
         if (result == null) {
-            synchronized (this) {
+            initializationLock.lock();
+            try {
                 result = this.startNodeReader;
                 if (result == null) {
                     if (isRelationshipEntity()) {
@@ -1097,6 +1265,8 @@ public class ClassInfo {
                     }
                     result = this.startNodeReader;
                 }
+            } finally {
+                initializationLock.unlock();
             }
         }
 
@@ -1111,16 +1281,24 @@ public class ClassInfo {
     }
 
     public Collection<FieldInfo> requiredFields() {
-        if (requiredFields == null) {
-            requiredFields = new ArrayList<>();
 
+        ResolvedViews views = this.resolvedViews;
+        if (views != null) {
+            return views.requiredFields();
+        }
+
+        Collection<FieldInfo> result = this.requiredFields;
+        if (result == null) {
+            List<FieldInfo> fields = new ArrayList<>();
             for (FieldInfo fieldInfo : propertyFields()) {
                 if (fieldInfo.getAnnotations().has(Required.class)) {
-                    requiredFields.add(fieldInfo);
+                    fields.add(fieldInfo);
                 }
             }
+            this.requiredFields = Collections.unmodifiableList(fields);
+            result = this.requiredFields;
         }
-        return requiredFields;
+        return result;
     }
 
     public boolean hasVersionField() {
@@ -1133,9 +1311,15 @@ public class ClassInfo {
 
     private Optional<FieldInfo> getOrComputeVersionField() {
 
+        ResolvedViews views = this.resolvedViews;
+        if (views != null) {
+            return views.versionField();
+        }
+
         Optional<FieldInfo> result = this.versionField;
         if (result == null) {
-            synchronized (this) {
+            initializationLock.lock();
+            try {
                 result = this.versionField;
                 if (result == null) {
                     Collection<FieldInfo> fields = getFieldInfos(FieldInfo::isVersionField);
@@ -1153,6 +1337,8 @@ public class ClassInfo {
                     }
                     result = this.versionField;
                 }
+            } finally {
+                initializationLock.unlock();
             }
         }
         return result;
@@ -1234,4 +1420,21 @@ public class ClassInfo {
     public int hashCode() {
         return Objects.hash(className, isInterface, isAbstract, isEnum);
     }
+
+    private record ResolvedViews(
+        Collection<String> staticLabels,
+        Collection<ClassInfo> allSubclasses,
+        Optional<FieldInfo> identityField,
+        FieldInfo labelField,
+        Map<String, FieldInfo> propertyFields,
+        Collection<FieldInfo> relationshipFields,
+        Collection<FieldInfo> requiredFields,
+        Collection<FieldInfo> indexFields,
+        Optional<FieldInfo> primaryIndexField,
+        Optional<FieldInfo> versionField,
+        Optional<MethodInfo> postLoadMethod,
+        Optional<FieldInfo> startNodeReader,
+        Optional<FieldInfo> endNodeReader
+    ) {
+    }
 }
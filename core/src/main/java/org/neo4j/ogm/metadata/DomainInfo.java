@@ -25,8 +25,8 @@ import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ScanResult;
 
 import java.io.BufferedReader;
-import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.net.URL;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
@@ -78,10 +78,33 @@ public class DomainInfo {
     }
 
     public static DomainInfo create(TypeSystem typeSystem, String... packages) {
+        return create(typeSystem, false, packages);
+    }
+
+    /**
+     * Creates the domain for the given packages. In parallel mode, the classes are loaded, introspected and sealed on
+     * the common fork-join pool.
+     *
+     * @param typeSystem The type system in use
+     * @param parallel   Flag, whether to load and resolve the classes in parallel
+     * @param packages   The packages to scan
+     * @return A new, finished domain
+     */
+    public static DomainInfo create(TypeSystem typeSystem, boolean parallel, String... packages) {
+        return create(typeSystem, findClasses(packages), parallel);
+    }
+
+    /**
+     * Creates the domain from a known list of classes without scanning any packages.
+     *
+     * @param typeSystem The type system in use
+     * @param classNames The names of the classes to add
+     * @param parallel   Flag, whether to load and resolve the classes in parallel
+     * @return A new, finished domain
+     */
+    private static DomainInfo create(TypeSystem typeSystem, Collection<String> classNames, boolean parallel) {
 
         DomainInfo domainInfo = new DomainInfo(typeSystem);
-        Predicate<Class<?>> classIsMappable = clazz -> !(clazz.isAnnotation() || clazz.isAnonymousClass() || clazz
-            .equals(Object.class));
 
         // We only use ClassGraph for scanning classes and than use our default class loader to load them.
         // There's some chance that our configuration might not be able to find or load the classes.
@@ -89,34 +112,59 @@ public class DomainInfo {
         // when classes have been loaded from class graph, they would work with Spring Boot devtools.
         ClassLoader classLoader = Configuration.getDefaultClassLoader();
         try {
-            for (String className : findClasses(packages)) {
-                try {
-                    Class<?> clazz = Class.forName(className, false, classLoader);
-                    if (!classIsMappable.test(clazz)) {
-                        continue;
-                    }
-                    domainInfo.addClass(clazz);
-                } catch (ClassNotFoundException | NoClassDefFoundError | UnsatisfiedLinkError e) {
-                    // NCDEFE and ULE usually when _all_ packages are scanned in Quarkus
-                    LOGGER.warn("Could not load class {}", className);
+            if (parallel) {
+                // Loading and introspecting a class doesn't depend on other classes, registering it does.
+                List<ClassInfo> introspectedClasses = classNames.parallelStream()
+                    .map(className -> loadMappableClass(className, classLoader))
+                    .flatMap(Optional::stream)
+                    .map(clazz -> new ClassInfo(clazz, typeSystem))
+                    .toList();
+                introspectedClasses.forEach(
+                    classInfo -> domainInfo.classNameToClassInfo.putIfAbsent(classInfo.name(), classInfo));
+                introspectedClasses.forEach(classInfo -> domainInfo.addClass(classInfo.getUnderlyingClass()));
+            } else {
+                for (String className : classNames) {
+                    loadMappableClass(className, classLoader).ifPresent(domainInfo::addClass);
                 }
             }
         } finally {
             domainInfo.finish();
         }
+
+        // Sealing resolves all views eagerly, so that no lookup needs to synchronize after the domain has been created.
+        Collection<ClassInfo> classInfos = domainInfo.classNameToClassInfo.values();
+        (parallel ? classInfos.parallelStream() : classInfos.stream()).forEach(ClassInfo::seal);
         return domainInfo;
     }
 
+    private static Optional<Class<?>> loadMappableClass(String className, ClassLoader classLoader) {
+
+        try {
+            Class<?> clazz = Class.forName(className, false, classLoader);
+            if (clazz.isAnnotation() || clazz.isAnonymousClass() || clazz.equals(Object.class)) {
+                return Optional.empty();
+            }
+            return Optional.of(clazz);
+        } catch (ClassNotFoundException | NoClassDefFoundError | UnsatisfiedLinkError e) {
+            // NCDEFE and ULE usually when _all_ packages are scanned in Quarkus
+            LOGGER.warn("Could not load class {}", className);
+            return Optional.empty();
+        }
+    }
+
     private static Collection<String> findClasses(String[] packagesOrClasses) {
 
-        // Try to find an index first
-        Set<String> classes = new HashSet<>();
+        // Try to find an index first. If every requested package has been indexed at build time in every class path
+        // entry containing it, for example by the annotation processor, there's no need to scan the class path.
+        IndexedClasses indexedClasses = tryIndexes(packagesOrClasses);
+        if (indexedClasses != null && indexedClasses.complete() && packagesOrClasses.length > 0) {
+            return new LinkedHashSet<>(indexedClasses.classes());
+        }
 
-        List<String> indexedClasses = tryIndexes(packagesOrClasses);
+        Set<String> classes = new HashSet<>();
         if (indexedClasses != null) {
-            classes.addAll(indexedClasses);
+            classes.addAll(indexedClasses.classes());
         }
-
         List<String> dynamicallyLoaded = useClassgraph(packagesOrClasses);
         if (dynamicallyLoaded != null) {
             classes.addAll(dynamicallyLoaded);
@@ -137,30 +185,86 @@ public class DomainInfo {
         }
     }
 
-    private static List<String> tryIndexes(String[] packagesOrClasses) {
+    /**
+     * The classes listed in the indexes of the requested packages.
+     *
+     * @param classes  The indexed classes
+     * @param complete Flag, whether every class path entry containing one of the packages has an index for it
+     */
+    private record IndexedClasses(List<String> classes, boolean complete) {
+    }
+
+    private static IndexedClasses tryIndexes(String[] packagesOrClasses) {
 
+        ClassLoader classLoader = Configuration.getDefaultClassLoader();
         List<String> classes = new ArrayList<>();
+        boolean complete = true;
         for (String possiblePackageName : packagesOrClasses) {
-            String indexFile = "/META-INF/resources/" + possiblePackageName.replaceAll("\\.", "/") + "/neo4j-ogm.index";
-
-            InputStream storedIndex = DomainInfo.class.getResourceAsStream(indexFile);
-            if (storedIndex == null) {
-                LOGGER.debug("No index for package " + possiblePackageName + ", aborting index scan.");
-                return null;
-            } else {
-                try (BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(storedIndex))) {
-                    bufferedReader.lines()
-                        .map(String::trim)
-                        .filter(s -> !(s.isEmpty() || s.startsWith("#")))
-                        .forEach(classes::add);
-                } catch (Exception e) {
-                    LOGGER.debug("Could not read stored index for package " + possiblePackageName + ", aborting index scan.");
+            String packageDirectory = possiblePackageName.replace('.', '/');
+            String indexFile = "META-INF/resources/" + packageDirectory + "/neo4j-ogm.index";
+
+            try {
+                // A package split over several class path entries has one index per entry
+                List<URL> storedIndexes = Collections.list(classLoader.getResources(indexFile));
+                if (storedIndexes.isEmpty()) {
+                    LOGGER.debug("No index for package " + possiblePackageName + ", aborting index scan.");
                     return null;
                 }
+                for (URL storedIndex : storedIndexes) {
+                    try (BufferedReader bufferedReader = new BufferedReader(
+                        new InputStreamReader(storedIndex.openStream()))) {
+                        bufferedReader.lines()
+                            .map(String::trim)
+                            .filter(s -> !(s.isEmpty() || s.startsWith("#")))
+                            .forEach(classes::add);
+                    }
+                }
+
+                Set<String> indexedEntries = classPathEntries(storedIndexes, indexFile);
+                for (String entry : classPathEntries(Collections.list(classLoader.getResources(packageDirectory)),
+                    packageDirectory)) {
+                    if (!indexedEntries.contains(entry)) {
+                        LOGGER.debug("Package {} is not indexed in {}, scanning the class path as well.",
+                            possiblePackageName, entry);
+                        complete = false;
+                    }
+                }
+            } catch (Exception e) {
+                LOGGER.debug("Could not read stored index for package " + possiblePackageName + ", aborting index scan.");
+                return null;
             }
         }
 
-        return classes;
+        // An index that is out of date with the compiled classes may miss classes as well
+        for (String className : classes) {
+            if (classLoader.getResource(className.replace('.', '/') + ".class") == null) {
+                LOGGER.warn("Class {} is listed in an index but could not be found, scanning the class path instead. "
+                    + "Rebuild the project to update the index.", className);
+                return null;
+            }
+        }
+
+        return new IndexedClasses(classes, complete);
+    }
+
+    /**
+     * @param resources The urls of a resource in all class path entries containing it
+     * @param name      The name of the resource
+     * @return The urls of the class path entries, that is, the resource urls without the name of the resource
+     */
+    private static Set<String> classPathEntries(List<URL> resources, String name) {
+
+        Set<String> entries = new HashSet<>();
+        for (URL resource : resources) {
+            String url = resource.toExternalForm();
+            if (url.endsWith("/")) {
+                url = url.substring(0, url.length() - 1);
+            }
+            if (url.endsWith(name)) {
+                entries.add(url.substring(0, url.length() - name.length()));
+            }
+        }
+        return entries;
     }
 
     /**
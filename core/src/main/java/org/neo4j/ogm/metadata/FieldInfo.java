@@ -30,6 +30,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
 
 import org.neo4j.ogm.annotation.GeneratedValue;
@@ -93,6 +95,11 @@ public class FieldInfo {
      */
     private volatile Optional<String> relationshipType = Optional.empty();
 
+    /**
+     * Guards the lazy computation of the two fields above.
+     */
+    private final Lock initializationLock = new ReentrantLock();
+
     private final boolean readOnly;
 
     /**
@@ -184,12 +191,15 @@ public class FieldInfo {
     public String relationship() {
         Optional<String> localRelationshipType = relationshipType;
         if (!localRelationshipType.isPresent()) {
-            synchronized (this) {
+            initializationLock.lock();
+            try {
                 localRelationshipType = relationshipType;
                 if (!localRelationshipType.isPresent()) {
                     localRelationshipType = initRelationship();
                     relationshipType = localRelationshipType;
                 }
+            } finally {
+                initializationLock.unlock();
             }
         }
         return localRelationshipType.orElse(null);
@@ -359,12 +369,15 @@ public class FieldInfo {
 
         Optional<Class<?>> loadedConvertedType = this.convertedType;
         if (!loadedConvertedType.isPresent()) {
-            synchronized (this) {
+            initializationLock.lock();
+            try {
                 loadedConvertedType = this.convertedType;
                 if (!loadedConvertedType.isPresent()) {
                     this.convertedType = computeConvertedType();
                     loadedConvertedType = this.convertedType;
                 }
+            } finally {
+                initializationLock.unlock();
             }
         }
         return loadedConvertedType.orElse(null);
@@ -484,7 +497,7 @@ public class FieldInfo {
     }
 
     public Object read(Object instance) {
-        return read(containingClassInfo.getField(this), getInstanceOrDelegate(instance, delegateHolder));
+        return read(field, getInstanceOrDelegate(instance, delegateHolder));
     }
 
     public Object readProperty(Object instance) {
@@ -492,7 +505,7 @@ public class FieldInfo {
             throw new IllegalStateException(
                 "The readComposite method should be used for fields with a CompositeAttributeConverter");
         }
-        Object value = read(containingClassInfo.getField(this), getInstanceOrDelegate(instance, delegateHolder));
+        Object value = read(instance);
         if (hasPropertyConverter()) {
             value = getPropertyConverter().toGraphProperty(value);
         }
@@ -504,7 +517,7 @@ public class FieldInfo {
             throw new IllegalStateException(
                 "readComposite should only be used when a field is annotated with a CompositeAttributeConverter");
         }
-        Object value = read(containingClassInfo.getField(this), getInstanceOrDelegate(instance, delegateHolder));
+        Object value = read(instance);
         return getCompositeConverter().toGraphProperties(value);
     }
 
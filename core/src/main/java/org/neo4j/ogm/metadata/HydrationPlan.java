@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.metadata;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.neo4j.ogm.metadata.reflect.EntityAccessManager;
+import org.neo4j.ogm.model.Property;
+import org.neo4j.ogm.typeconversion.CompositeAttributeConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A hydration plan binds the keys of a property list to the fields of a class once, so that hydrating an instance from
+ * a property list with the same keys in the same order is a plain loop over the bound fields. Plans are cached per
+ * {@link ClassInfo} for a limited number of distinct property key lists.
+ */
+public final class HydrationPlan {
+
+    static final int MAX_PLANS_PER_CLASS = 16;
+
+    static final HydrationPlan[] NONE = new HydrationPlan[0];
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HydrationPlan.class);
+
+    private final ClassInfo classInfo;
+    private final String[] keys;
+    private final FieldInfo[] writers;
+    /**
+     * The element type of an array or iterable field, {@literal null} for scalar fields.
+     */
+    private final Class<?>[] elementTypes;
+    private final boolean[] multiValued;
+    private final FieldInfo[] compositeFields;
+
+    /**
+     * Returns the plan for hydrating instances of the given class from a list of properties, compiling and caching it
+     * if needed.
+     *
+     * @param classInfo    The class to be hydrated
+     * @param propertyList The properties to hydrate from
+     * @return A plan for all property lists having the same keys in the same order
+     */
+    public static HydrationPlan of(ClassInfo classInfo, List<? extends Property<String, ?>> propertyList) {
+
+        for (HydrationPlan plan : classInfo.hydrationPlans()) {
+            if (plan.matches(propertyList)) {
+                return plan;
+            }
+        }
+
+        HydrationPlan plan = new HydrationPlan(classInfo, propertyList);
+        classInfo.addHydrationPlan(plan);
+        return plan;
+    }
+
+    private HydrationPlan(ClassInfo classInfo, List<? extends Property<String, ?>> propertyList) {
+
+        this.classInfo = classInfo;
+
+        int size = propertyList.size();
+        this.keys = new String[size];
+        this.writers = new FieldInfo[size];
+        this.elementTypes = new Class<?>[size];
+        this.multiValued = new boolean[size];
+
+        for (int i = 0; i < size; ++i) {
+            String key = propertyList.get(i).getKey();
+            FieldInfo writer = classInfo.getFieldInfo(key);
+
+            this.keys[i] = key;
+            this.writers[i] = writer;
+            if (writer != null && !writer.isComposite()) {
+                Class<?> type = writer.type();
+                this.multiValued[i] = type.isArray() || Iterable.class.isAssignableFrom(type);
+                this.elementTypes[i] = this.multiValued[i] ? elementType(classInfo, key) : null;
+            }
+        }
+
+        this.compositeFields = classInfo.fieldsInfo().compositeFields().toArray(new FieldInfo[0]);
+    }
+
+    /**
+     * Same lookup as {@code MappingSupport#convertValue} uses for the element type.
+     */
+    private static Class<?> elementType(ClassInfo classInfo, String propertyName) {
+
+        FieldInfo labelField = classInfo.labelFieldOrNull();
+        FieldInfo fieldInfo = labelField != null && labelField.getName().equalsIgnoreCase(propertyName) ?
+            labelField : classInfo.propertyField(propertyName);
+        return fieldInfo == null ? null : DescriptorMappings.getType(fieldInfo.getTypeDescriptor());
+    }
+
+    boolean matches(List<? extends Property<String, ?>> propertyList) {
+
+        if (propertyList.size() != keys.length) {
+            return false;
+        }
+        for (int i = 0; i < keys.length; ++i) {
+            if (!keys[i].equals(propertyList.get(i).getKey())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return {@literal true} if the class has fields using a {@link CompositeAttributeConverter}
+     */
+    public boolean hasCompositeFields() {
+        return compositeFields.length > 0;
+    }
+
+    /**
+     * Builds the values of all composite fields from the given properties.
+     *
+     * @param propertyList The properties to convert from, must match this plan
+     * @return The converted values, indexed by field. Never null.
+     */
+    public Map<FieldInfo, Object> compositeValues(List<? extends Property<String, ?>> propertyList) {
+
+        if (compositeFields.length == 0) {
+            return Map.of();
+        }
+
+        Map<String, Object> propertyMap = new HashMap<>();
+        for (Property<String, ?> property : propertyList) {
+            propertyMap.put(property.getKey(), property.getValue());
+        }
+
+        Map<FieldInfo, Object> compositeValues = new HashMap<>();
+        for (FieldInfo field : compositeFields) {
+            CompositeAttributeConverter<?> converter = field.getCompositeConverter();
+            compositeValues.put(field, converter.toEntityAttribute(propertyMap));
+        }
+        return compositeValues;
+    }
+
+    /**
+     * Writes the given properties and the already converted composite values onto the instance.
+     *
+     * @param instance        The instance to hydrate
+     * @param propertyList    The properties to write, must match this plan
+     * @param compositeValues The values of the composite fields as returned by {@link #compositeValues(List)}
+     */
+    public void apply(Object instance, List<? extends Property<String, ?>> propertyList,
+        Map<FieldInfo, Object> compositeValues) {
+
+        compositeValues.forEach((field, v) -> field.write(instance, v));
+
+        for (int i = 0; i < keys.length; ++i) {
+            FieldInfo writer = writers[i];
+            if (writer == null) {
+                LOGGER.debug("Unable to find property: {} on class: {} for writing", keys[i], classInfo.name());
+            } else if (writer.isComposite()) {
+                LOGGER.info("Property {} is already handled by a CompositeAttributeConverter", keys[i]);
+            } else {
+                Object value = propertyList.get(i).getValue();
+                if (multiValued[i]) {
+                    // merge iterable / arrays and co-erce to the correct attribute type
+                    Class<?> type = writer.type();
+                    value = type.isArray() ?
+                        EntityAccessManager.merge(type, value, new Object[] {}, elementTypes[i]) :
+                        EntityAccessManager.merge(type, value, Collections.emptyList(), elementTypes[i]);
+                }
+                writer.write(instance, value);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "HydrationPlan{" + classInfo.name() + ", keys=" + Arrays.toString(keys) + '}';
+    }
+}
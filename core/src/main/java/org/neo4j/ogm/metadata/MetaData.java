@@ -24,7 +24,9 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.neo4j.ogm.annotation.NodeEntity;
@@ -46,14 +48,38 @@ public class MetaData {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MetaData.class);
 
+    private static final int MAX_CACHED_TAXA = 1024;
+
     private final DomainInfo domainInfo;
     private final Schema schema;
 
+    /**
+     * Caches the class info of a class, including the fact that a class is not mapped at all. Replaced as a whole
+     * when a class is registered after the domain has been created.
+     */
+    private volatile ClassValue<Optional<ClassInfo>> classInfoByClass = newClassInfoCache();
+    /**
+     * Caches the base classes resolved for the labels of nodes, bound to {@link #MAX_CACHED_TAXA} different sets of
+     * labels.
+     */
+    private final Map<List<String>, Optional<ClassInfo>> resolvedTaxa = new ConcurrentHashMap<>();
+
     public MetaData(String... packages) {
         this(TypeSystem.NoNativeTypes.INSTANCE, packages);
     }
 
     public MetaData(TypeSystem typeSystem, String... packages) {
+        this(typeSystem, false, packages);
+    }
+
+    /**
+     * Creates the metadata for the given packages.
+     *
+     * @param typeSystem The type system in use
+     * @param parallel   Flag, whether to load the classes and resolve their metadata in parallel
+     * @param packages   The packages to scan
+     */
+    public MetaData(TypeSystem typeSystem, boolean parallel, String... packages) {
 
         if (containsRootPackage(packages)) {
             LOGGER.warn(""
@@ -63,7 +89,7 @@ public class MetaData {
                 + "Please have a look at the configuration of your SessionFactory.");
         }
 
-        this.domainInfo = DomainInfo.create(typeSystem, packages);
+        this.domainInfo = DomainInfo.create(typeSystem, parallel, packages);
         this.schema = new DomainInfoSchemaBuilder(domainInfo).build();
     }
 
@@ -104,7 +130,7 @@ public class MetaData {
      * @return A ClassInfo matching the supplied object's class, or null if it doesn't exist
      */
     public ClassInfo classInfo(Class<?> clazz) {
-        return classInfo(clazz.getName());
+        return classInfoByClass.get(clazz).orElse(null);
     }
 
     /**
@@ -114,7 +140,16 @@ public class MetaData {
      * @return A ClassInfo matching the supplied object's class, or null if it doesn't exist
      */
     public ClassInfo classInfo(Object object) {
-        return classInfo(object.getClass().getName());
+        return classInfo(object.getClass());
+    }
+
+    private ClassValue<Optional<ClassInfo>> newClassInfoCache() {
+        return new ClassValue<>() {
+            @Override
+            protected Optional<ClassInfo> computeValue(Class<?> type) {
+                return Optional.ofNullable(classInfo(type.getName()));
+            }
+        };
     }
 
     private ClassInfo _classInfo(String name, Class<?> nodeEntityAnnotation) {
@@ -146,6 +181,22 @@ public class MetaData {
      */
     public ClassInfo resolve(String... taxa) {
 
+        List<String> key = List.of(taxa);
+        Optional<ClassInfo> cachedClassInfo = resolvedTaxa.get(key);
+        if (cachedClassInfo != null) {
+            return cachedClassInfo.orElse(null);
+        }
+
+        // Ambiguous taxa are not cached, the exception is thrown for every attempt to resolve them.
+        ClassInfo classInfo = resolveUncached(taxa);
+        if (resolvedTaxa.size() < MAX_CACHED_TAXA) {
+            resolvedTaxa.put(key, Optional.ofNullable(classInfo));
+        }
+        return classInfo;
+    }
+
+    private ClassInfo resolveUncached(String... taxa) {
+
         if (taxa.length > 0) {
 
             Set<ClassInfo> resolved = new HashSet<>();
@@ -312,6 +363,10 @@ public class MetaData {
     }
 
     public <T> ClassInfo register(Class<T> clazz) {
-        return domainInfo.addClass(clazz);
+
+        ClassInfo classInfo = domainInfo.addClass(clazz);
+        this.classInfoByClass = newClassInfoCache();
+        this.resolvedTaxa.clear();
+        return classInfo;
     }
 }
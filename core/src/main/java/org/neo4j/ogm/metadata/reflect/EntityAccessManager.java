@@ -22,13 +22,10 @@ import static org.neo4j.ogm.support.ClassUtils.*;
 
 import java.lang.reflect.Array;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.neo4j.ogm.annotation.Relationship;
 import org.neo4j.ogm.annotation.Relationship.Direction;
-import org.neo4j.ogm.context.DirectedRelationship;
-import org.neo4j.ogm.context.DirectedRelationshipForType;
 import org.neo4j.ogm.metadata.AnnotationInfo;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.DescriptorMappings;
@@ -284,10 +281,6 @@ public class EntityAccessManager {
         return value;
     }
 
-    private static Map<ClassInfo, Map<DirectedRelationship, FieldInfo>> relationalReaderCache = new ConcurrentHashMap<>();
-    private static Map<ClassInfo, Map<DirectedRelationshipForType, FieldInfo>> relationalWriterCache = new ConcurrentHashMap<>();
-    private static Map<ClassInfo, Map<DirectedRelationshipForType, FieldInfo>> iterableWriterCache = new ConcurrentHashMap<>();
-
     private static final boolean STRICT_MODE = true; //strict mode for matching readers and writers, will only look for explicit annotations
     private static final boolean INFERRED_MODE = false; //inferred mode for matching readers and writers, will infer the relationship type from the getter/setter
 
@@ -317,14 +310,17 @@ public class EntityAccessManager {
     public static FieldInfo getRelationalWriter(ClassInfo classInfo, String relationshipType,
         Direction relationshipDirection, Class<?> objectType) {
 
-        final DirectedRelationshipForType directedRelationship = new DirectedRelationshipForType(relationshipType,
-            relationshipDirection, objectType);
-        final Map<DirectedRelationshipForType, FieldInfo> typeFieldInfoMap = relationalWriterCache
-            .computeIfAbsent(classInfo, key -> new ConcurrentHashMap<>());
-
-        if (typeFieldInfoMap.containsKey(directedRelationship)) {
-            return typeFieldInfoMap.get(directedRelationship);
+        RelationshipFieldCache cache = classInfo.relationshipFieldCache();
+        FieldInfo cachedFieldInfo = cache.getWriter(relationshipType, relationshipDirection, objectType);
+        if (cachedFieldInfo != null || cache.containsWriter(relationshipType, relationshipDirection, objectType)) {
+            return cachedFieldInfo;
         }
+        return cache.putWriter(relationshipType, relationshipDirection, objectType,
+            findRelationalWriter(classInfo, relationshipType, relationshipDirection, objectType));
+    }
+
+    private static FieldInfo findRelationalWriter(ClassInfo classInfo, String relationshipType,
+        Direction relationshipDirection, Class<?> objectType) {
 
         while (classInfo != null) {
 
@@ -335,7 +331,6 @@ public class EntityAccessManager {
                     if (fieldInfo.isTypeOf(objectType) ||
                         fieldInfo.isParameterisedTypeOf(objectType) ||
                         fieldInfo.isArrayOf(objectType)) {
-                        typeFieldInfoMap.put(directedRelationship, fieldInfo);
                         return fieldInfo;
                     }
                 }
@@ -353,7 +348,6 @@ public class EntityAccessManager {
                         if (fieldInfo.isTypeOf(objectType) ||
                             fieldInfo.isParameterisedTypeOf(objectType) ||
                             fieldInfo.isArrayOf(objectType)) {
-                            typeFieldInfoMap.put(directedRelationship, fieldInfo);
                             return fieldInfo;
                         }
                     }
@@ -365,7 +359,6 @@ public class EntityAccessManager {
                         if (fieldInfo.isTypeOf(objectType) ||
                             fieldInfo.isParameterisedTypeOf(objectType) ||
                             fieldInfo.isArrayOf(objectType)) {
-                            typeFieldInfoMap.put(directedRelationship, fieldInfo);
                             return fieldInfo;
                         }
                     }
@@ -379,7 +372,6 @@ public class EntityAccessManager {
                     if (candidateField.relationshipDirectionOrDefault(Direction.UNDIRECTED) != Direction.INCOMING) {
 
                         if (candidateField.relationshipTypeAnnotation() == null) {
-                            typeFieldInfoMap.put(directedRelationship, candidateField);
                             return candidateField;
                         }
                     }
@@ -402,20 +394,22 @@ public class EntityAccessManager {
     public static FieldInfo getRelationalReader(ClassInfo classInfo, String relationshipType,
         Direction relationshipDirection) {
 
-        final DirectedRelationship directedRelationship = new DirectedRelationship(relationshipType,
-            relationshipDirection);
-        final Map<DirectedRelationship, FieldInfo> relationshipFieldInfoMap = relationalReaderCache
-            .computeIfAbsent(classInfo, key -> new ConcurrentHashMap<>());
-
-        if (relationshipFieldInfoMap.containsKey(directedRelationship)) {
-            return relationshipFieldInfoMap.get(directedRelationship);
+        RelationshipFieldCache cache = classInfo.relationshipFieldCache();
+        FieldInfo cachedFieldInfo = cache.getReader(relationshipType, relationshipDirection);
+        if (cachedFieldInfo != null || cache.containsReader(relationshipType, relationshipDirection)) {
+            return cachedFieldInfo;
         }
+        return cache.putReader(relationshipType, relationshipDirection,
+            findRelationalReader(classInfo, relationshipType, relationshipDirection));
+    }
+
+    private static FieldInfo findRelationalReader(ClassInfo classInfo, String relationshipType,
+        Direction relationshipDirection) {
 
         while (classInfo != null) {
             // 1st, try to find a field explicitly annotated with the neo4j relationship type and direction
             FieldInfo fieldInfo = classInfo.relationshipField(relationshipType, relationshipDirection, STRICT_MODE);
             if (fieldInfo != null && !fieldInfo.getAnnotations().isEmpty()) {
-                relationshipFieldInfoMap.put(directedRelationship, fieldInfo);
                 return fieldInfo;
             }
 
@@ -426,13 +420,11 @@ public class EntityAccessManager {
                 // 3rd, try to find a field  annotated with the neo4j relationship type and direction, allowing for implied relationships
                 fieldInfo = classInfo.relationshipField(relationshipType, relationshipDirection, INFERRED_MODE);
                 if (fieldInfo != null && !fieldInfo.getAnnotations().isEmpty()) {
-                    relationshipFieldInfoMap.put(directedRelationship, fieldInfo);
                     return fieldInfo;
                 }
 
                 // 4th, try to find a "XYZ" field name where XYZ is derived from the relationship type
                 if (fieldInfo != null) {
-                    relationshipFieldInfoMap.put(directedRelationship, fieldInfo);
                     return fieldInfo;
                 }
             }
@@ -453,16 +445,17 @@ public class EntityAccessManager {
     public static FieldInfo getIterableField(ClassInfo classInfo, Class<?> parameterType, String relationshipType,
         Direction relationshipDirection) {
 
-        final ClassInfo lookupClassInfo = classInfo;
-        final DirectedRelationshipForType directedRelationshipForType = new DirectedRelationshipForType(
-            relationshipType,
-            relationshipDirection, parameterType);
-        final Map<DirectedRelationshipForType, FieldInfo> typeFieldInfoMap = iterableWriterCache
-            .computeIfAbsent(lookupClassInfo, key -> new ConcurrentHashMap<>());
-
-        if (typeFieldInfoMap.containsKey(directedRelationshipForType)) {
-            return typeFieldInfoMap.get(directedRelationshipForType);
+        RelationshipFieldCache cache = classInfo.relationshipFieldCache();
+        FieldInfo cachedFieldInfo = cache.getIterableField(relationshipType, relationshipDirection, parameterType);
+        if (cachedFieldInfo != null || cache.containsIterableField(relationshipType, relationshipDirection, parameterType)) {
+            return cachedFieldInfo;
         }
+        return cache.putIterableField(relationshipType, relationshipDirection, parameterType,
+            findIterableField(classInfo, parameterType, relationshipType, relationshipDirection));
+    }
+
+    private static FieldInfo findIterableField(ClassInfo classInfo, Class<?> parameterType, String relationshipType,
+        Direction relationshipDirection) {
 
         while (classInfo != null) {
 
@@ -470,8 +463,6 @@ public class EntityAccessManager {
             FieldInfo fieldInfo = getIterableFieldInfo(classInfo, parameterType, relationshipType,
                 relationshipDirection, STRICT_MODE);
             if (fieldInfo != null) {
-                cacheIterableFieldWriter(lookupClassInfo, parameterType, relationshipType, relationshipDirection,
-                    directedRelationshipForType, fieldInfo, fieldInfo);
                 return fieldInfo;
             }
 
@@ -483,8 +474,6 @@ public class EntityAccessManager {
                 fieldInfo = getIterableFieldInfo(classInfo, parameterType, relationshipType, relationshipDirection,
                     INFERRED_MODE);
                 if (fieldInfo != null) {
-                    cacheIterableFieldWriter(lookupClassInfo, parameterType, relationshipType, relationshipDirection,
-                        directedRelationshipForType, fieldInfo, fieldInfo);
                     return fieldInfo;
                 }
             }
@@ -493,6 +482,35 @@ public class EntityAccessManager {
         return null;
     }
 
+    /**
+     * Resolves the readers and writers of all relationship fields of a ClassInfo for the relationship type, direction
+     * and element type they are declared with, so that mapping a graph onto instances of that class finds them cached.
+     *
+     * @param classInfo the ClassInfo whose relationship fields are resolved
+     */
+    public static void precomputeRelationshipFields(ClassInfo classInfo) {
+
+        for (FieldInfo fieldInfo : classInfo.relationshipFields()) {
+            String relationshipType = fieldInfo.relationship();
+            Class<?> type = DescriptorMappings.getType(fieldInfo.getTypeDescriptor());
+            if (relationshipType == null || type == null) {
+                continue;
+            }
+            Class<?> elementType = fieldInfo.isArray() ? type.getComponentType() : type;
+            Direction declaredDirection = fieldInfo.relationshipDirectionOrDefault(Direction.OUTGOING);
+            for (Direction direction : Direction.values()) {
+                if (direction == Direction.UNDIRECTED || declaredDirection != Direction.UNDIRECTED && direction != declaredDirection) {
+                    continue;
+                }
+                getRelationalReader(classInfo, relationshipType, direction);
+                getRelationalWriter(classInfo, relationshipType, direction, elementType);
+                if (fieldInfo.isArray() || fieldInfo.isIterable()) {
+                    getIterableField(classInfo, elementType, relationshipType, direction);
+                }
+            }
+        }
+    }
+
     // TODO: lookup via classinfo hierarchy
     private static FieldInfo getIterableFieldInfo(ClassInfo classInfo, Class<?> parameterType, String relationshipType,
         Direction relationshipDirection, boolean strict) {
@@ -531,15 +549,4 @@ public class EntityAccessManager {
 
             return null;
     }
-
-    private static void cacheIterableFieldWriter(ClassInfo classInfo, Class<?> parameterType, String relationshipType,
-        Direction relationshipDirection, DirectedRelationshipForType directedRelationshipForType, FieldInfo fieldInfo,
-        FieldInfo fieldAccessor) {
-        if (fieldInfo.isParameterisedTypeOf(parameterType)) {
-            // Cache the writer for the superclass used in the type param
-            directedRelationshipForType = new DirectedRelationshipForType(relationshipType, relationshipDirection,
-                DescriptorMappings.getType(fieldInfo.getTypeDescriptor()));
-        }
-        iterableWriterCache.get(classInfo).put(directedRelationshipForType, fieldAccessor);
-    }
 }
@@ -18,7 +18,11 @@
  */
 package org.neo4j.ogm.metadata.reflect;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InaccessibleObjectException;
 import java.lang.reflect.Parameter;
 import java.util.Arrays;
 import java.util.Collection;
@@ -26,7 +30,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.neo4j.ogm.annotation.GeneratedValue;
 import org.neo4j.ogm.context.MappingSupport;
@@ -46,8 +52,26 @@ import org.neo4j.ogm.session.EntityInstantiator;
  */
 public class ReflectionEntityInstantiator implements EntityInstantiator {
 
+    /**
+     * Upper bound of the number of different sets of available properties for which the constructor binding of a
+     * single class is cached.
+     */
+    private static final int MAX_CACHED_PROPERTY_SETS_PER_CLASS = 64;
+
+    private static final MethodType DEFAULT_CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
     private final MetaData metadata;
 
+    /**
+     * Handles of the default constructors per class, empty for classes without a usable default constructor.
+     */
+    private final Map<Class<?>, Optional<MethodHandle>> defaultConstructors = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor bindings per class and set of available properties.
+     */
+    private final Map<Class<?>, Map<Set<String>, ConstructorBinding>> constructorBindings = new ConcurrentHashMap<>();
+
     public ReflectionEntityInstantiator(MetaData metadata) {
         this.metadata = metadata;
     }
@@ -57,66 +81,136 @@ public class ReflectionEntityInstantiator implements EntityInstantiator {
      */
     @Override
     public <T> T createInstance(Class<T> clazz, Map<String, Object> propertyValues) {
+        Optional<MethodHandle> defaultConstructor = defaultConstructors
+            .computeIfAbsent(clazz, ReflectionEntityInstantiator::findDefaultConstructor);
         try {
-            Constructor<T> defaultConstructor = clazz.getDeclaredConstructor();
-            defaultConstructor.setAccessible(true);
-            return defaultConstructor.newInstance();
-        } catch (SecurityException | IllegalArgumentException | ReflectiveOperationException e) {
-            if (clazz.isRecord()) {
-                return createInstanceWithConstructorArgs(clazz, propertyValues);
+            if (defaultConstructor.isPresent()) {
+                return clazz.cast((Object) defaultConstructor.get().invokeExact());
+            }
+        } catch (Throwable e) {
+            if (!clazz.isRecord()) {
+                throw new MappingException("Unable to find default constructor to instantiate " + clazz,
+                    asException(e));
             }
-            throw new MappingException("Unable to find default constructor to instantiate " + clazz, e);
         }
+        if (clazz.isRecord()) {
+            return createInstanceWithConstructorArgs(clazz, propertyValues);
+        }
+        throw new MappingException("Unable to find default constructor to instantiate " + clazz);
     }
 
     @Override
     public <T> T createInstanceWithConstructorArgs(Class<T> clazz, Map<String, Object> propertyValues) {
-        try {
-            ClassInfo classInfo = metadata.classInfo(clazz);
-            if (classInfo == null) {
-                classInfo = Objects.requireNonNull(metadata.register(clazz),
-                    "Could not register " + clazz + " after the fact");
+        ClassInfo classInfo = metadata.classInfo(clazz);
+        if (classInfo == null) {
+            classInfo = Objects.requireNonNull(metadata.register(clazz),
+                "Could not register " + clazz + " after the fact");
+        }
+
+        ConstructorBinding binding = constructorBindingFor(clazz, classInfo, propertyValues.keySet());
+
+        String[] parameterNames = binding.parameterNames();
+        FieldInfo[] parameterFields = binding.parameterFields();
+        Object[] values = new Object[parameterNames.length];
+        FieldInfo identityField = classInfo.identityFieldOrNull();
+        FieldInfo labelFieldInfo = classInfo.labelFieldOrNull();
+        for (int i = 0; i < parameterNames.length; i++) {
+            String parameterName = parameterNames[i];
+            FieldInfo fieldInfo = parameterFields[i];
+            if (fieldInfo.equals(identityField) && fieldInfo.hasAnnotation(GeneratedValue.class) && propertyValues.get(EntityInstantiator.NEO4J_INTERNAL_NODE_MODEL) instanceof PropertyContainer container) {
+                values[i] = container.getId();
+            } else if (fieldInfo.equals(labelFieldInfo) && propertyValues.get(
+                EntityInstantiator.NEO4J_INTERNAL_NODE_MODEL) instanceof Node nodeModel) {
+                var dynamicLabels = classInfo.dynamicLabelsFrom(nodeModel);
+                var property = PropertyModel.with(labelFieldInfo.getName(), dynamicLabels);
+                values[i] = MappingSupport.convertValue(classInfo, property.getKey(), property.getValue(),
+                    labelFieldInfo);
+            } else {
+                values[i] = MappingSupport.convertValue(classInfo, parameterName,
+                    fieldInfo.convert(propertyValues.get(parameterName)), fieldInfo);
             }
+            propertyValues.remove(parameterName);
+        }
 
-            Constructor<T> instantiatingConstructor = determineConstructor(clazz, propertyValues);
-            instantiatingConstructor.setAccessible(true);
+        try {
+            return clazz.cast((Object) binding.invoker().invokeExact(values));
+        } catch (Throwable e) {
+            throw new MappingException("Unable to find default constructor to instantiate " + clazz, asException(e));
+        }
+    }
 
-            Parameter[] parameters = instantiatingConstructor.getParameters();
-            if (parameters.length == 0) {
-                return instantiatingConstructor.newInstance();
-            }
-            Object[] values = new Object[parameters.length];
-            FieldInfo identityField = classInfo.identityFieldOrNull();
-            FieldInfo labelFieldInfo = classInfo.labelFieldOrNull();
-            for (int i = 0; i < parameters.length; i++) {
-                Parameter parameter = parameters[i];
-                String parameterName = parameter.getName();
-                FieldInfo fieldInfo = classInfo.getFieldInfo(parameterName);
-                if (fieldInfo.equals(identityField) && fieldInfo.hasAnnotation(GeneratedValue.class) && propertyValues.get(EntityInstantiator.NEO4J_INTERNAL_NODE_MODEL) instanceof PropertyContainer container) {
-                    values[i] = container.getId();
-                } else if (fieldInfo.equals(labelFieldInfo) && propertyValues.get(
-                    EntityInstantiator.NEO4J_INTERNAL_NODE_MODEL) instanceof Node nodeModel) {
-                    var dynamicLabels = classInfo.dynamicLabelsFrom(nodeModel);
-                    var property = PropertyModel.with(labelFieldInfo.getName(), dynamicLabels);
-                    values[i] = MappingSupport.convertValue(classInfo, property.getKey(), property.getValue(),
-                        labelFieldInfo);
-                } else {
-                    values[i] = MappingSupport.convertValue(classInfo, parameterName,
-                        fieldInfo.convert(propertyValues.get(parameterName)), fieldInfo);
-                }
-                propertyValues.remove(parameterName);
+    /**
+     * Constructors invoked through method handles throw their exceptions directly and not wrapped into an
+     * {@link java.lang.reflect.InvocationTargetException}, including errors.
+     */
+    private static Exception asException(Throwable e) {
+        return e instanceof Exception exception ? exception : new RuntimeException(e);
+    }
+
+    /**
+     * Looks up the constructor binding for the given set of available properties. The lookup uses the key set of the
+     * property values as is, only a binding that is not cached yet requires a copy of it.
+     */
+    private ConstructorBinding constructorBindingFor(Class<?> clazz, ClassInfo classInfo,
+        Set<String> availableProperties) {
+
+        Map<Set<String>, ConstructorBinding> bindingsOfClass = constructorBindings
+            .computeIfAbsent(clazz, k -> new ConcurrentHashMap<>());
+        ConstructorBinding binding = bindingsOfClass.get(availableProperties);
+        if (binding == null) {
+            binding = bind(clazz, classInfo, determineConstructor(clazz, availableProperties));
+            if (bindingsOfClass.size() < MAX_CACHED_PROPERTY_SETS_PER_CLASS) {
+                bindingsOfClass.putIfAbsent(Set.copyOf(availableProperties), binding);
             }
-            return instantiatingConstructor.newInstance(values);
+        }
+        return binding;
+    }
 
-        } catch (SecurityException | IllegalArgumentException | ReflectiveOperationException e) {
+    private static ConstructorBinding bind(Class<?> clazz, ClassInfo classInfo, Constructor<?> constructor) {
+        if (constructor == null) {
+            throw new MappingException("Unable to find a public constructor to instantiate " + clazz);
+        }
+
+        Parameter[] parameters = constructor.getParameters();
+        String[] parameterNames = new String[parameters.length];
+        FieldInfo[] parameterFields = new FieldInfo[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            parameterNames[i] = parameters[i].getName();
+            parameterFields[i] = classInfo.getFieldInfo(parameterNames[i]);
+        }
+
+        try {
+            MethodHandle invoker = unreflect(constructor)
+                .asType(MethodType.methodType(Object.class, constructor.getParameterTypes()))
+                .asSpreader(Object[].class, parameters.length);
+            return new ConstructorBinding(invoker, parameterNames, parameterFields);
+        } catch (SecurityException | IllegalAccessException e) {
             throw new MappingException("Unable to find default constructor to instantiate " + clazz, e);
         }
     }
 
-    private <T> Constructor<T> determineConstructor(Class<T> clazz, Map<String, Object> propertyValue) {
+    private static Optional<MethodHandle> findDefaultConstructor(Class<?> clazz) {
+        try {
+            return Optional.of(unreflect(clazz.getDeclaredConstructor()).asType(DEFAULT_CONSTRUCTOR_TYPE));
+        } catch (SecurityException | InaccessibleObjectException | ReflectiveOperationException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static MethodHandle unreflect(Constructor<?> constructor) throws IllegalAccessException {
+        try {
+            return MethodHandles.privateLookupIn(constructor.getDeclaringClass(), MethodHandles.lookup())
+                .unreflectConstructor(constructor);
+        } catch (IllegalAccessException e) {
+            // Either the declaring module is not open to us or the constructor needs to be made accessible
+            constructor.setAccessible(true);
+            return MethodHandles.lookup().unreflectConstructor(constructor);
+        }
+    }
+
+    private static <T> Constructor<T> determineConstructor(Class<T> clazz, Set<String> availableProperties) {
         Constructor<T>[] constructors = (Constructor<T>[]) clazz.getConstructors();
         Constructor<T> instantiatingConstructorCandidate = null;
-        Set<String> availableProperties = propertyValue.keySet();
 
         int parameterMatchCount = -1;
 
@@ -139,7 +233,7 @@ public class ReflectionEntityInstantiator implements EntityInstantiator {
         return instantiatingConstructorCandidate;
     }
 
-    private int calculateIntersectionAmount(Collection<String> constructorParameterNames, Collection<String> availableProperties) {
+    private static int calculateIntersectionAmount(Collection<String> constructorParameterNames, Collection<String> availableProperties) {
         Collection<String> availablePropertiesCopy = new HashSet<>(availableProperties);
         int existingPropertiesAmount = availablePropertiesCopy.size();
         availablePropertiesCopy.removeAll(constructorParameterNames);
@@ -148,4 +242,11 @@ public class ReflectionEntityInstantiator implements EntityInstantiator {
         return existingPropertiesAmount - leftOverPropertiesAmount;
 
     }
+
+    /**
+     * The constructor chosen for a set of available properties, together with the fields bound to its parameters and
+     * a handle invoking it with an array of arguments.
+     */
+    private record ConstructorBinding(MethodHandle invoker, String[] parameterNames, FieldInfo[] parameterFields) {
+    }
 }
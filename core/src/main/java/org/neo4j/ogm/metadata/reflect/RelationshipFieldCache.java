@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.metadata.reflect;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.neo4j.ogm.annotation.Relationship.Direction;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+
+/**
+ * Caches the relationship fields the {@link EntityAccessManager} resolved for a single {@link ClassInfo}. The cache is
+ * owned by the class info and therefore lives exactly as long as the metadata it belongs to.
+ * <p>
+ * Entries are organized by relationship type, direction and target type, so that a lookup doesn't need to allocate a
+ * composite key. Unsuccessful lookups are cached as well. As the getters return {@literal null} for them, callers
+ * distinguish them from entries that haven't been cached with the corresponding {@code contains} method. The number of
+ * entries is bounded, lookups beyond that bound are resolved every time.
+ */
+public final class RelationshipFieldCache {
+
+    static final int MAX_ENTRIES = 512;
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final Map<String, Entries> entriesByRelationshipType = new ConcurrentHashMap<>();
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Drops all cached entries.
+     */
+    public void clear() {
+        entriesByRelationshipType.clear();
+        size.set(0);
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    /**
+     * @return The cached reader or {@literal null} if there is none or if nothing is cached
+     */
+    FieldInfo getReader(String relationshipType, Direction direction) {
+        return unwrap(reader(relationshipType, direction));
+    }
+
+    /**
+     * @return {@literal true} if a reader or the absence of one has been cached
+     */
+    boolean containsReader(String relationshipType, Direction direction) {
+        return reader(relationshipType, direction) != null;
+    }
+
+    private Optional<FieldInfo> reader(String relationshipType, Direction direction) {
+        Entries entries = entriesByRelationshipType.get(relationshipType);
+        return entries == null ? null : entries.readers.get(direction.ordinal());
+    }
+
+    FieldInfo putReader(String relationshipType, Direction direction, FieldInfo fieldInfo) {
+        if (reserve() && !entries(relationshipType).readers
+            .compareAndSet(direction.ordinal(), null, Optional.ofNullable(fieldInfo))) {
+            size.decrementAndGet();
+        }
+        return fieldInfo;
+    }
+
+    /**
+     * @return The cached writer or {@literal null} if there is none or if nothing is cached
+     */
+    FieldInfo getWriter(String relationshipType, Direction direction, Class<?> objectType) {
+        return unwrap(writer(relationshipType, direction, objectType));
+    }
+
+    /**
+     * @return {@literal true} if a writer or the absence of one has been cached
+     */
+    boolean containsWriter(String relationshipType, Direction direction, Class<?> objectType) {
+        return writer(relationshipType, direction, objectType) != null;
+    }
+
+    private Optional<FieldInfo> writer(String relationshipType, Direction direction, Class<?> objectType) {
+        Entries entries = entriesByRelationshipType.get(relationshipType);
+        return entries == null ? null : entries.writers.get(direction).get(objectType);
+    }
+
+    FieldInfo putWriter(String relationshipType, Direction direction, Class<?> objectType, FieldInfo fieldInfo) {
+        if (reserve() && entries(relationshipType).writers.get(direction)
+            .putIfAbsent(objectType, Optional.ofNullable(fieldInfo)) != null) {
+            size.decrementAndGet();
+        }
+        return fieldInfo;
+    }
+
+    /**
+     * @return The cached iterable field or {@literal null} if there is none or if nothing is cached
+     */
+    FieldInfo getIterableField(String relationshipType, Direction direction, Class<?> parameterType) {
+        return unwrap(iterableField(relationshipType, direction, parameterType));
+    }
+
+    /**
+     * @return {@literal true} if an iterable field or the absence of one has been cached
+     */
+    boolean containsIterableField(String relationshipType, Direction direction, Class<?> parameterType) {
+        return iterableField(relationshipType, direction, parameterType) != null;
+    }
+
+    private Optional<FieldInfo> iterableField(String relationshipType, Direction direction, Class<?> parameterType) {
+        Entries entries = entriesByRelationshipType.get(relationshipType);
+        return entries == null ? null : entries.iterableFields.get(direction).get(parameterType);
+    }
+
+    FieldInfo putIterableField(String relationshipType, Direction direction, Class<?> parameterType,
+        FieldInfo fieldInfo) {
+        if (reserve() && entries(relationshipType).iterableFields.get(direction)
+            .putIfAbsent(parameterType, Optional.ofNullable(fieldInfo)) != null) {
+            size.decrementAndGet();
+        }
+        return fieldInfo;
+    }
+
+    private static FieldInfo unwrap(Optional<FieldInfo> entry) {
+        return entry == null ? null : entry.orElse(null);
+    }
+
+    private boolean reserve() {
+        if (size.incrementAndGet() > MAX_ENTRIES) {
+            size.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    private Entries entries(String relationshipType) {
+        Entries entries = entriesByRelationshipType.get(relationshipType);
+        return entries != null ? entries : entriesByRelationshipType.computeIfAbsent(relationshipType, k -> new Entries());
+    }
+
+    private static final class Entries {
+
+        final AtomicReferenceArray<Optional<FieldInfo>> readers = new AtomicReferenceArray<>(DIRECTIONS.length);
+        final Map<Direction, Map<Class<?>, Optional<FieldInfo>>> writers = perDirection();
+        final Map<Direction, Map<Class<?>, Optional<FieldInfo>>> iterableFields = perDirection();
+
+        private static Map<Direction, Map<Class<?>, Optional<FieldInfo>>> perDirection() {
+            Map<Direction, Map<Class<?>, Optional<FieldInfo>>> result = new EnumMap<>(Direction.class);
+            for (Direction direction : DIRECTIONS) {
+                result.put(direction, new ConcurrentHashMap<>());
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.model.Result;
+
+/**
+ * Convenience wrapper running the operations of a {@link Session} on an {@link Executor}. This is not a reactive
+ * session: Entities are still loaded and mapped by the blocking request path and the driver's async API is not used.
+ * Every operation is submitted to the executor the session has been opened with and returns immediately. Operations
+ * of the same async session run one after another in the order they have been submitted, as the underlying session is
+ * not thread-safe, while operations of different async sessions run concurrently. Each operation runs in its own
+ * transaction, unless it is part of a unit of work passed to {@link #withSession(Function)}.
+ * <p>
+ * As every running operation blocks a thread of the executor while it waits for the database, this wrapper is meant
+ * to be used with an executor creating a virtual thread per task on JDK 21 and later, which keeps blocking cheap. It
+ * frees the caller from waiting, but it doesn't reduce the number of threads waiting for the database otherwise.
+ *
+ * @see SessionFactory#openAsyncSession(Executor)
+ */
+public interface AsyncSession {
+
+    /**
+     * The default time after which a published stream is closed, when its subscriber has neither requested more
+     * elements nor cancelled the subscription.
+     */
+    Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(1);
+
+    /**
+     * @see Session#load(Class, Serializable)
+     */
+    <T, ID extends Serializable> CompletionStage<T> load(Class<T> type, ID id);
+
+    /**
+     * @see Session#load(Class, Serializable, int)
+     */
+    <T, ID extends Serializable> CompletionStage<T> load(Class<T> type, ID id, int depth);
+
+    /**
+     * @see Session#loadAll(Class)
+     */
+    <T> CompletionStage<Collection<T>> loadAll(Class<T> type);
+
+    /**
+     * @see Session#loadAll(Class, Filters, int)
+     */
+    <T> CompletionStage<Collection<T>> loadAll(Class<T> type, Filters filters, int depth);
+
+    /**
+     * Publishes all entities of type, filtered by filters. The entities are mapped one result record at a time and only
+     * as far as the subscriber has requested them, so a slow subscriber never causes more entities to be mapped than
+     * it can take. The publisher supports a single subscriber.
+     * <p>
+     * Nothing is queried before the first request. Every request schedules an operation that delivers the requested
+     * entities in turn with the other operations of this async session, so no thread is occupied while the subscriber
+     * doesn't request anything, and other operations run in between outside of the transaction of the stream.
+     * {@code onNext} may request more entities and submit further operations, but it must not wait for the results of
+     * operations of the same async session, as they only run after the current delivery.
+     * <p>
+     * The stream and its transaction stay open while the subscriber doesn't request anything. If the subscriber neither
+     * requests more entities nor cancels within the idle timeout of this async session, the stream is closed and the
+     * subscriber is notified with a {@link java.util.concurrent.TimeoutException}.
+     *
+     * @param type      type of entities
+     * @param filters   filters, may be null
+     * @param sortOrder sort order
+     * @param depth     depth
+     * @param <T>       type of entities
+     * @return a publisher of the entities
+     * @see Session#stream(Class, Filters, SortOrder, int)
+     */
+    <T> Flow.Publisher<T> stream(Class<T> type, Filters filters, SortOrder sortOrder, int depth);
+
+    /**
+     * @see Session#query(Class, String, Map)
+     */
+    <T> CompletionStage<Iterable<T>> query(Class<T> objectType, String cypher, Map<String, ?> parameters);
+
+    /**
+     * @see Session#query(String, Map, boolean)
+     */
+    CompletionStage<Result> query(String cypher, Map<String, ?> parameters, boolean readOnly);
+
+    /**
+     * Same as {@link #query(Class, String, Map)}, but the domain objects or scalars are published as described in
+     * {@link #stream(Class, Filters, SortOrder, int)}.
+     *
+     * @param objectType The type that should be returned from the query.
+     * @param cypher     The parameterizable cypher to execute.
+     * @param parameters Any parameters to attach to the cypher.
+     * @param <T>        A domain object or scalar.
+     * @return a publisher of the domain objects or scalars
+     * @see Session#streamQuery(Class, String, Map)
+     */
+    <T> Flow.Publisher<T> streamQuery(Class<T> objectType, String cypher, Map<String, ?> parameters);
+
+    /**
+     * @see Session#save(Object)
+     */
+    <T> CompletionStage<Void> save(T object);
+
+    /**
+     * @see Session#save(Object, int)
+     */
+    <T> CompletionStage<Void> save(T object, int depth);
+
+    /**
+     * @see Session#delete(Object)
+     */
+    <T> CompletionStage<Void> delete(T object);
+
+    /**
+     * Runs a unit of work with the underlying session in turn with the other operations of this async session. This
+     * gives access to all operations of {@link Session}. Transactions begun by the unit of work must be committed or
+     * rolled back before it returns, as the following operations, including deliveries of published streams, would
+     * otherwise run in them.
+     *
+     * @param unitOfWork The work to do with the session
+     * @param <R>        The type of the result
+     * @return the result of the unit of work
+     */
+    <R> CompletionStage<R> withSession(Function<Session, R> unitOfWork);
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session;
+
+/**
+ * Options for {@link Session#saveAll(Iterable, BulkSaveOptions)}. The entities are saved in batches of
+ * {@link #getBatchSize()} entities, each batch being mapped and compiled on its own, and the transaction is committed
+ * after every {@link #getBatchesPerTransaction()} batches. This keeps the size of the query parameters, the compile
+ * state and the transaction state bounded, no matter how many entities are saved.
+ */
+public final class BulkSaveOptions {
+
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    public static final int DEFAULT_BATCHES_PER_TRANSACTION = 10;
+
+    private final int batchSize;
+    private final int batchesPerTransaction;
+    private final int depth;
+    private final boolean detachSavedEntities;
+
+    BulkSaveOptions(Builder builder) {
+        this.batchSize = builder.batchSize;
+        this.batchesPerTransaction = builder.batchesPerTransaction;
+        this.depth = builder.depth;
+        this.detachSavedEntities = builder.detachSavedEntities;
+    }
+
+    /**
+     * @return options with a batch size of {@value #DEFAULT_BATCH_SIZE}, committing every
+     * {@value #DEFAULT_BATCHES_PER_TRANSACTION} batches and saving the full tree of changed objects
+     */
+    public static BulkSaveOptions defaults() {
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getBatchesPerTransaction() {
+        return batchesPerTransaction;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public boolean isDetachSavedEntities() {
+        return detachSavedEntities;
+    }
+
+    /**
+     * Builder for {@link BulkSaveOptions}.
+     */
+    @SuppressWarnings("HiddenField")
+    public static final class Builder {
+
+        private int batchSize = DEFAULT_BATCH_SIZE;
+        private int batchesPerTransaction = DEFAULT_BATCHES_PER_TRANSACTION;
+        private int depth = -1;
+        private boolean detachSavedEntities;
+
+        private Builder() {
+        }
+
+        /**
+         * @param batchSize The number of entities mapped and written together
+         * @return the changed builder
+         */
+        public Builder batchSize(int batchSize) {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("The batch size must be greater than zero");
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Configures after how many batches the transaction is committed. Has no effect when the entities are saved
+         * within a transaction that has been started by the caller, which is never committed by the bulk save.
+         *
+         * @param batchesPerTransaction The number of batches written per transaction
+         * @return the changed builder
+         */
+        public Builder batchesPerTransaction(int batchesPerTransaction) {
+            if (batchesPerTransaction < 1) {
+                throw new IllegalArgumentException("The number of batches per transaction must be greater than zero");
+            }
+            this.batchesPerTransaction = batchesPerTransaction;
+            return this;
+        }
+
+        /**
+         * @param depth The depth up to which each entity is saved, -1 for the full tree of changed objects
+         * @return the changed builder
+         */
+        public Builder depth(int depth) {
+            this.depth = depth;
+            return this;
+        }
+
+        /**
+         * Configures whether the entities written by a batch are detached from the session once the batch has been
+         * saved, so that the session doesn't grow with the number of saved entities. Detached entities keep their ids
+         * and are treated as changed when they are saved again.
+         *
+         * @param detachSavedEntities Flag, whether to detach saved entities, defaults to false
+         * @return the changed builder
+         */
+        public Builder detachSavedEntities(boolean detachSavedEntities) {
+            this.detachSavedEntities = detachSavedEntities;
+            return this;
+        }
+
+        public BulkSaveOptions build() {
+            return new BulkSaveOptions(this);
+        }
+    }
+}
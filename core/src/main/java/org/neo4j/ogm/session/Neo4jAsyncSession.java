@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.model.Result;
+
+/**
+ * {@link AsyncSession} running the operations of a {@link Session} on an {@link Executor}, strictly one after another.
+ */
+final class Neo4jAsyncSession implements AsyncSession {
+
+    private final Session session;
+    private final Executor executor;
+    private final Duration idleTimeout;
+
+    private final Lock lock = new ReentrantLock();
+
+    // completes when the operation submitted last has finished, regardless of its outcome
+    private CompletableFuture<?> lastOperation = CompletableFuture.completedFuture(null);
+
+    Neo4jAsyncSession(Session session, Executor executor) {
+        this(session, executor, DEFAULT_IDLE_TIMEOUT);
+    }
+
+    Neo4jAsyncSession(Session session, Executor executor, Duration idleTimeout) {
+        this.session = session;
+        this.executor = executor;
+        this.idleTimeout = idleTimeout;
+    }
+
+    @Override
+    public <T, ID extends Serializable> CompletionStage<T> load(Class<T> type, ID id) {
+        return withSession(s -> s.load(type, id));
+    }
+
+    @Override
+    public <T, ID extends Serializable> CompletionStage<T> load(Class<T> type, ID id, int depth) {
+        return withSession(s -> s.load(type, id, depth));
+    }
+
+    @Override
+    public <T> CompletionStage<Collection<T>> loadAll(Class<T> type) {
+        return withSession(s -> s.loadAll(type));
+    }
+
+    @Override
+    public <T> CompletionStage<Collection<T>> loadAll(Class<T> type, Filters filters, int depth) {
+        return withSession(s -> s.loadAll(type, filters, depth));
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> stream(Class<T> type, Filters filters, SortOrder sortOrder, int depth) {
+        return new StreamPublisher<>(this, idleTimeout, s -> s.stream(type, filters, sortOrder, depth));
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> query(Class<T> objectType, String cypher, Map<String, ?> parameters) {
+        return withSession(s -> s.query(objectType, cypher, parameters));
+    }
+
+    @Override
+    public CompletionStage<Result> query(String cypher, Map<String, ?> parameters, boolean readOnly) {
+        return withSession(s -> s.query(cypher, parameters, readOnly));
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> streamQuery(Class<T> objectType, String cypher, Map<String, ?> parameters) {
+        return new StreamPublisher<>(this, idleTimeout, s -> s.streamQuery(objectType, cypher, parameters));
+    }
+
+    @Override
+    public <T> CompletionStage<Void> save(T object) {
+        return withSession(s -> {
+            s.save(object);
+            return null;
+        });
+    }
+
+    @Override
+    public <T> CompletionStage<Void> save(T object, int depth) {
+        return withSession(s -> {
+            s.save(object, depth);
+            return null;
+        });
+    }
+
+    @Override
+    public <T> CompletionStage<Void> delete(T object) {
+        return withSession(s -> {
+            s.delete(object);
+            return null;
+        });
+    }
+
+    @Override
+    public <R> CompletionStage<R> withSession(Function<Session, R> unitOfWork) {
+        CompletableFuture<R> operation;
+        lock.lock();
+        try {
+            operation = lastOperation
+                .handle((ignoredResult, ignoredException) -> null)
+                .thenApplyAsync(ignored -> unitOfWork.apply(session), executor);
+            lastOperation = operation;
+        } finally {
+            lock.unlock();
+        }
+        // Callers must not be able to complete the operation and thus start the next one early
+        return operation.copy();
+    }
+}
@@ -27,13 +27,22 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.neo4j.ogm.config.Configuration;
 import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.context.SecondLevelCache;
 import org.neo4j.ogm.context.WriteProtectionTarget;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.KeysetPage;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.driver.Driver;
@@ -84,6 +93,7 @@ public class Neo4jSession implements Session {
 
     private final MetaData metaData;
     private final MappingContext mappingContext;
+    private final SecondLevelCache secondLevelCache;
     private final TransactionManager txManager;
 
     private final LoadOneDelegate loadOneHandler = new LoadOneDelegate(this);
@@ -110,6 +120,10 @@ public class Neo4jSession implements Session {
 
     private final boolean useStrictQuerying;
 
+    private final boolean singleRoundTripSave;
+
+    private final int maxRowsPerStatement;
+
     public Neo4jSession(
         MetaData metaData,
         boolean useStrictQuerying,
@@ -124,7 +138,8 @@ public class Neo4jSession implements Session {
         Driver driver,
         BiFunction<Driver, Session, TransactionManager> transactionManagerFactory
     ) {
-        this(metaData, useStrictQuerying, driver, null, null, null, transactionManagerFactory);
+        this(metaData, useStrictQuerying, driver, null, null, null, transactionManagerFactory, new MappingContext(metaData),
+            null);
     }
 
     Neo4jSession(
@@ -134,12 +149,21 @@ public class Neo4jSession implements Session {
         List<EventListener> eventListeners,
         LoadStrategy loadStrategy,
         EntityInstantiator entityInstantiator,
-        BiFunction<Driver, Session, TransactionManager> transactionManagerFactory
+        BiFunction<Driver, Session, TransactionManager> transactionManagerFactory,
+        MappingContext mappingContext,
+        SecondLevelCache secondLevelCache
     ) {
         this.metaData = metaData;
         this.useStrictQuerying = useStrictQuerying;
         this.driver = driver;
-        this.mappingContext = new MappingContext(metaData);
+        this.singleRoundTripSave = Optional.ofNullable(driver.getConfiguration())
+            .map(Configuration::getSingleRoundTripSave)
+            .orElse(false);
+        this.maxRowsPerStatement = Optional.ofNullable(driver.getConfiguration())
+            .map(Configuration::getMaxRowsPerStatement)
+            .orElse(Integer.MAX_VALUE);
+        this.mappingContext = mappingContext;
+        this.secondLevelCache = secondLevelCache;
         this.txManager = transactionManagerFactory.apply(driver, this);
         this.loadStrategy = loadStrategy == null ? LoadStrategy.PATH_LOAD_STRATEGY : loadStrategy;
         this.entityInstantiator = entityInstantiator == null ? new ReflectionEntityInstantiator(metaData) : entityInstantiator;
@@ -321,6 +345,17 @@ public class Neo4jSession implements Session {
         return loadByTypeHandler.loadAll(type, filters, sortOrder, pagination, depth);
     }
 
+    @Override
+    public <T> KeysetPage<T> loadPage(Class<T> type, Filters filters, SortOrder sortOrder,
+        KeysetPagination pagination, int depth) {
+        return loadByTypeHandler.loadPage(type, filters, sortOrder, pagination, depth);
+    }
+
+    @Override
+    public <T> Stream<T> stream(Class<T> type, Filters filters, SortOrder sortOrder, int depth) {
+        return loadByTypeHandler.stream(type, filters, sortOrder, depth);
+    }
+
     /*
      *----------------------------------------------------------------------------------------------------------
      * loadByIdsHandler (no filters yet)
@@ -430,6 +465,11 @@ public class Neo4jSession implements Session {
         return executeQueriesDelegate.query(type, cypher, parameters);
     }
 
+    @Override
+    public <T> Stream<T> streamQuery(Class<T> type, String cypher, Map<String, ?> parameters) {
+        return executeQueriesDelegate.streamQuery(type, cypher, parameters);
+    }
+
     @Override
     public Result query(String cypher, Map<String, ?> parameters) {
         return query(cypher, parameters, false);
@@ -462,21 +502,25 @@ public class Neo4jSession implements Session {
     */
     @Override
     public void purgeDatabase() {
+        assertWritable("purge the database");
         deleteDelegate.purgeDatabase();
     }
 
     @Override
     public <T> void delete(T object) {
+        assertWritable("delete entities");
         deleteDelegate.delete(object);
     }
 
     @Override
     public <T> void deleteAll(Class<T> type) {
+        assertWritable("delete entities");
         deleteDelegate.deleteAll(type);
     }
 
     @Override
     public <T> Object delete(Class<T> type, Iterable<Filter> filters, boolean listResults) {
+        assertWritable("delete entities");
         return deleteDelegate.delete(type, filters, listResults);
     }
 
@@ -487,14 +531,38 @@ public class Neo4jSession implements Session {
     */
     @Override
     public <T> void save(T object) {
+        assertWritable("save entities");
         saveDelegate.save(object);
     }
 
     @Override
     public <T> void save(T object, int depth) {
+        assertWritable("save entities");
         saveDelegate.save(object, depth);
     }
 
+    @Override
+    public <T> void saveAll(Iterable<T> objects, BulkSaveOptions options) {
+        assertWritable("save entities");
+        saveDelegate.saveAll(objects, options);
+    }
+
+    @Override
+    public void markDirty(Object entity) {
+        mappingContext.markDirty(entity);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return mappingContext.isReadOnly();
+    }
+
+    private void assertWritable(String operation) {
+        if (isReadOnly()) {
+            throw new UnsupportedOperationException("Cannot " + operation + " in a read-only session");
+        }
+    }
+
     // Not part of {@link Session} interface on purpose for the time being
 
     /**
@@ -585,6 +653,25 @@ public class Neo4jSession implements Session {
      * @return The result of the transaction function.
      */
     public <T> T doInTransaction(TransactionalUnitOfWork<T> function, boolean forceTx, Transaction.Type txType) {
+        return doInTransaction(function, forceTx, txType, emptySet());
+    }
+
+    /**
+     * For internal use only. Same as {@link #doInTransaction(TransactionalUnitOfWork, boolean, Transaction.Type)}, but
+     * a new transaction will be opened with the given bookmarks.
+     *
+     * @param function  The callback to execute.
+     * @param <T>       The result type.
+     * @param txType    Transaction type, readonly or not.
+     * @param bookmarks Bookmarks a newly opened transaction has to wait for.
+     * @return The result of the transaction function.
+     */
+    public <T> T doInTransaction(TransactionalUnitOfWork<T> function, Transaction.Type txType, Iterable<String> bookmarks) {
+        return doInTransaction(function, false, txType, bookmarks);
+    }
+
+    private <T> T doInTransaction(TransactionalUnitOfWork<T> function, boolean forceTx, Transaction.Type txType,
+        Iterable<String> bookmarks) {
 
         Transaction transaction = txManager.getCurrentTransaction();
 
@@ -593,7 +680,7 @@ public class Neo4jSession implements Session {
         boolean newTransaction = false;
         try {
             if (forceTx || (driver.requiresTransaction() && transaction == null)) {
-                transaction = beginTransaction(txType);
+                transaction = beginTransaction(txType, bookmarks);
                 newTransaction = true;
             }
 
@@ -622,6 +709,96 @@ public class Neo4jSession implements Session {
         }
     }
 
+    /**
+     * For internal use only. Same as {@link #doInTransaction(TransactionalUnitOfWork, Transaction.Type)}, but for
+     * units of work returning a lazily evaluated stream: A transaction opened for the unit of work is finished and
+     * closed when the stream is closed and not when the unit of work returns. It is committed only if the stream has
+     * been consumed completely, otherwise, for example when the consumer failed or stopped early, it is rolled back.
+     *
+     * @param function The callback creating the stream.
+     * @param <T>      The type of the stream elements.
+     * @param txType   Transaction type, readonly or not.
+     * @return The stream created by the callback, taking care of the transaction on close.
+     */
+    public <T> Stream<T> streamInTransaction(TransactionalUnitOfWork<Stream<T>> function, Transaction.Type txType) {
+
+        Transaction transaction = txManager.getCurrentTransaction();
+        if (!driver.requiresTransaction() || transaction != null) {
+            return doInTransaction(function, txType);
+        }
+
+        Transaction newTransaction = beginTransaction(txType);
+        try {
+            Stream<T> stream = function.doInTransaction();
+            Spliterator<T> elements = stream.spliterator();
+            boolean[] consumed = { false };
+            Spliterator<T> trackingElements = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                elements.characteristics() & ~Spliterator.SIZED) {
+
+                @Override
+                public boolean tryAdvance(Consumer<? super T> action) {
+                    boolean advanced = elements.tryAdvance(action);
+                    consumed[0] = !advanced;
+                    return advanced;
+                }
+            };
+            return StreamSupport.stream(trackingElements, false).onClose(() -> {
+                try {
+                    stream.close();
+                } finally {
+                    if (consumed[0] && newTransaction.canCommit()) {
+                        newTransaction.commit();
+                    } else if (!consumed[0] && newTransaction.canRollback()) {
+                        logger.debug("Stream has been closed before it has been consumed. Rolling back transaction.");
+                        newTransaction.rollback();
+                    }
+                    if (!newTransaction.status().equals(Transaction.Status.CLOSED)) {
+                        newTransaction.close();
+                    }
+                }
+            });
+        } catch (Throwable e) {
+            if (newTransaction.canRollback()) {
+                logger.warn("Error executing query : {}. Rolling back transaction.", e.getMessage());
+                newTransaction.rollback();
+            }
+            if (!newTransaction.status().equals(Transaction.Status.CLOSED)) {
+                newTransaction.close();
+            }
+            throw e instanceof CypherException cypherException
+                ? cypherException
+                : driver.getExceptionTranslator().translateExceptionIfPossible(e);
+        }
+    }
+
+    /**
+     * @return The second level cache shared by all sessions of the session factory that opened this session, or
+     * {@literal null} if there is none.
+     */
+    public SecondLevelCache getSecondLevelCache() {
+        return secondLevelCache;
+    }
+
+    /**
+     * Invalidates the nodes with the given ids in the second level cache, if any.
+     *
+     * @param nodeIds The native ids of nodes written by this session
+     */
+    public void invalidateCachedNodes(Collection<Long> nodeIds) {
+        if (secondLevelCache != null && !nodeIds.isEmpty()) {
+            secondLevelCache.invalidate(getTransaction(), nodeIds);
+        }
+    }
+
+    /**
+     * Invalidates the whole second level cache, if any. To be used after writes whose effects are unknown.
+     */
+    public void invalidateSecondLevelCache() {
+        if (secondLevelCache != null) {
+            secondLevelCache.invalidateAll(getTransaction());
+        }
+    }
+
     @Override
     public Transaction getTransaction() {
         return txManager.getCurrentTransaction();
@@ -662,7 +839,7 @@ public class Neo4jSession implements Session {
     // These helper methods for the delegates are deliberately NOT defined on the Session interface
     //
     public <T, ID extends Serializable> QueryStatements<ID> queryStatementsFor(Class<T> type, int depth) {
-        final FieldInfo fieldInfo = metaData.classInfo(type.getName()).primaryIndexField();
+        final FieldInfo fieldInfo = metaData.classInfo(type).primaryIndexField();
         String primaryIdName = fieldInfo != null ? fieldInfo.property() : null;
         if (metaData.isRelationshipEntity(type.getName())) {
             return new RelationshipQueryStatements<>(primaryIdName, loadRelationshipClauseBuilder(depth));
@@ -702,6 +879,22 @@ public class Neo4jSession implements Session {
         return mappingContext;
     }
 
+    /**
+     * @return True if new nodes and the new relationships between them are created in a single round trip
+     * @see Configuration.Builder#singleRoundTripSave(boolean)
+     */
+    public boolean useSingleRoundTripSave() {
+        return singleRoundTripSave;
+    }
+
+    /**
+     * @return The maximum number of rows passed to a single write statement
+     * @see Configuration.Builder#maxRowsPerStatement(Integer)
+     */
+    public int maxRowsPerStatement() {
+        return maxRowsPerStatement;
+    }
+
     public OptimisticLockingChecker optimisticLockingChecker() {
         return new OptimisticLockingChecker(this);
     }
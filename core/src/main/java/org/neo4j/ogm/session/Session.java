@@ -22,9 +22,13 @@ import java.io.Serializable;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.KeysetPage;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.model.QueryStatistics;
@@ -487,6 +491,51 @@ public interface Session {
      */
     <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination, int depth);
 
+    /**
+     * Load a page of entities of type, filtered by filters, with keyset pagination. Other than with offset based
+     * {@link Pagination}, the page starts right after the keyset of the pagination, so loading deep pages does not get
+     * slower. The sort order may only refer to simple properties of the type, and the native id is always used as last
+     * sort key.
+     *
+     * @param type       type of entities
+     * @param filters    filters, may be null
+     * @param sortOrder  sort order, may be null
+     * @param pagination keyset pagination
+     * @param depth      depth
+     * @param <T>        type of entities
+     * @return a page of entities, containing the keyset for the next page
+     * @throws UnsupportedOperationException if the session does not support keyset pagination
+     */
+    default <T> KeysetPage<T> loadPage(Class<T> type, Filters filters, SortOrder sortOrder,
+        KeysetPagination pagination, int depth) {
+        throw new UnsupportedOperationException("Keyset pagination is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Streams all entities of type, filtered by filters. Other than the {@code loadAll} methods, the entities are
+     * mapped one result record at a time while the stream is consumed. Each entity is returned once, and methods
+     * annotated with {@link org.neo4j.ogm.annotation.PostLoad} are called once per entity: Right before an entity is
+     * returned or, for related entities that are not returned, after the last record has been mapped.
+     * <p>
+     * If there is no ongoing transaction, a new read-only one is opened and kept open until the stream is closed, so
+     * the stream must be closed, preferably in a try-with-resources block. That transaction is committed if the stream
+     * has been consumed completely and rolled back otherwise. As it is read-only, entities can't be saved or deleted
+     * through the same session while the stream is open. Begin a transaction before opening the stream to do so.
+     * <p>
+     * Entities loaded through the stream are still registered with the session, so a long running stream should be
+     * consumed by a read-only session or a session with a bounded mapping context.
+     *
+     * @param type      type of entities
+     * @param filters   filters, may be null
+     * @param sortOrder sort order
+     * @param depth     depth
+     * @param <T>       type of entities
+     * @return a sequential stream of entities that must be closed after use
+     */
+    default <T> Stream<T> stream(Class<T> type, Filters filters, SortOrder sortOrder, int depth) {
+        return loadAll(type, filters == null ? new Filters() : filters, sortOrder, depth).stream();
+    }
+
     /**
      * Load single entity instance of type, with default depth = 1
      *
@@ -521,6 +570,37 @@ public interface Session {
      */
     <T> void save(T object, int depth);
 
+    /**
+     * Saves a potentially large number of entities in batches. Each batch is mapped and written on its own and the
+     * transaction is committed periodically, so that memory usage doesn't grow with the number of entities. When
+     * called within a transaction, all batches are written in that transaction and it is not committed.
+     * Entities saved by batches that have been committed stay in the database if a later batch fails.
+     * <p>
+     * The default implementation does not batch: It saves the entities one by one with {@link #save(Object, int)},
+     * using only the depth of the options.
+     *
+     * @param objects entities to save, only iterated once
+     * @param options batch size, commit interval, depth and whether to detach saved entities
+     * @see BulkSaveOptions
+     */
+    default <T> void saveAll(Iterable<T> objects, BulkSaveOptions options) {
+        for (T object : objects) {
+            save(object, options.getDepth());
+        }
+    }
+
+    /**
+     * Marks a loaded entity as modified. If dirty tracking is enabled in the configuration, saves of unlimited depth
+     * only traverse into the entities that have been loaded or saved before, when they have been marked since or when
+     * the related entities of one of their relationship fields have changed. Other changes to unmarked entities are not
+     * written then. Marking a relationship entity marks its start and end node as well. Does nothing if dirty tracking
+     * is disabled or not supported by the session.
+     *
+     * @param entity the entity whose properties or relationships have been modified
+     */
+    default void markDirty(Object entity) {
+    }
+
     /**
      * Delete entity (or entities)
      *
@@ -557,6 +637,17 @@ public interface Session {
      */
     void clear();
 
+    /**
+     * A read-only session maps entities without remembering their state and without registering the relationships
+     * between them. Any attempt to save or delete entities through such a session fails.
+     *
+     * @return True if this session has been opened for reading only
+     * @see SessionFactory#openReadOnlySession()
+     */
+    default boolean isReadOnly() {
+        return false;
+    }
+
     /**
      * Get the existing transaction if available
      *
@@ -625,6 +716,26 @@ public interface Session {
      */
     <T> Iterable<T> query(Class<T> objectType, String cypher, Map<String, ?> parameters);
 
+    /**
+     * Same as {@link #query(Class, String, Map)}, but the domain objects or scalars are mapped one result record at a
+     * time while the returned stream is consumed. Domain objects are returned and post processed once, as described
+     * for {@link #stream(Class, Filters, SortOrder, int)}. An entity whose relationships are spread over several
+     * records is returned with the relationships of the records mapped so far.
+     * <p>
+     * If there is no ongoing transaction, a new one is opened and kept open until the stream is closed, so the stream
+     * must be closed, preferably in a try-with-resources block. That transaction is committed if the stream has been
+     * consumed completely and rolled back otherwise, discarding all changes made by the query.
+     *
+     * @param objectType The type that should be returned from the query.
+     * @param cypher     The parameterizable cypher to execute.
+     * @param parameters Any parameters to attach to the cypher.
+     * @param <T>        A domain object or scalar.
+     * @return A sequential stream of domain objects or scalars that must be closed after use.
+     */
+    default <T> Stream<T> streamQuery(Class<T> objectType, String cypher, Map<String, ?> parameters) {
+        return StreamSupport.stream(query(objectType, cypher, parameters).spliterator(), false);
+    }
+
     /**
      * a cypher statement this method will return a Result object containing a collection of Map's which represent Neo4j
      * objects as properties, along with query statistics if applicable.
@@ -19,13 +19,17 @@
 package org.neo4j.ogm.session;
 
 import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 
 import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.context.SecondLevelCache;
 import org.neo4j.ogm.driver.Driver;
 import org.neo4j.ogm.exception.core.ConfigurationException;
 import org.neo4j.ogm.id.IdStrategy;
@@ -34,6 +38,7 @@ import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.metadata.reflect.ReflectionEntityInstantiator;
 import org.neo4j.ogm.session.event.EventListener;
 import org.neo4j.ogm.session.transaction.DefaultTransactionManager;
+import org.neo4j.ogm.session.transaction.SessionBoundTransactionManager;
 import org.neo4j.ogm.transaction.TransactionManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,9 +61,12 @@ public class SessionFactory {
     private final Driver driver;
     private final List<EventListener> eventListeners;
     private final boolean useStrictQuerying;
+    private final boolean dirtyTracking;
 
     private LoadStrategy loadStrategy = LoadStrategy.SCHEMA_LOAD_STRATEGY;
     private EntityInstantiator entityInstantiator;
+    private int mappingContextCapacity = MappingContext.UNBOUNDED;
+    private SecondLevelCache secondLevelCache;
 
     private BiFunction<Driver, Session, TransactionManager> transactionManagerFactory = DefaultTransactionManager::new;
 
@@ -112,9 +120,14 @@ public class SessionFactory {
      */
     public SessionFactory(Driver driver, boolean useStrictQuerying, String... packages) {
 
-        this.metaData = new MetaData(driver.getTypeSystem(), packages);
+        Optional<Configuration> configuration = Optional.ofNullable(driver.getConfiguration());
+        boolean parallelMetaDataResolution = configuration
+            .map(Configuration::getParallelMetaDataResolution)
+            .orElse(false);
+        this.metaData = new MetaData(driver.getTypeSystem(), parallelMetaDataResolution, packages);
         this.driver = driver;
         this.useStrictQuerying = useStrictQuerying;
+        this.dirtyTracking = configuration.map(Configuration::getDirtyTracking).orElse(false);
         this.eventListeners = new CopyOnWriteArrayList<>();
         this.entityInstantiator = new ReflectionEntityInstantiator(metaData);
     }
@@ -136,7 +149,63 @@ public class SessionFactory {
      * @return A new {@link Session}
      */
     public Session openSession() {
-        return new Neo4jSession(metaData, useStrictQuerying, driver, eventListeners, loadStrategy, entityInstantiator, transactionManagerFactory);
+        return newSession(false);
+    }
+
+    /**
+     * Opens a new session that can only be used for reading. Entities loaded through such a session are neither
+     * hashed nor snapshotted for dirty checking and the relationships between them are not tracked, which saves both
+     * time and memory when loading large amounts of entities that will never be written back. Calls to
+     * {@link Session#save(Object)} and any of the delete operations will fail with an {@link UnsupportedOperationException}.
+     *
+     * @return a new read-only {@link Session}
+     */
+    public Session openReadOnlySession() {
+        return newSession(true);
+    }
+
+    /**
+     * Opens a new session whose operations don't block the caller. They are run on the given executor, one after
+     * another, and their results are completed asynchronously. As consecutive operations may run on different threads,
+     * the transactions of the session are bound to the session itself and not to a thread, regardless of the
+     * {@link #setTransactionManagerFactory(BiFunction) transaction manager factory} of this session factory.
+     * <p>
+     * The operations still block a thread of the executor while they run, see {@link AsyncSession}. Published streams
+     * are closed after {@link AsyncSession#DEFAULT_IDLE_TIMEOUT} without demand.
+     *
+     * @param executor The executor running the operations of the session, must not be null
+     * @return a new {@link AsyncSession}
+     */
+    public AsyncSession openAsyncSession(Executor executor) {
+        return openAsyncSession(executor, AsyncSession.DEFAULT_IDLE_TIMEOUT);
+    }
+
+    /**
+     * Opens a new async session like {@link #openAsyncSession(Executor)}, closing published streams whose subscribers
+     * have neither requested more elements nor cancelled within the given idle timeout.
+     *
+     * @param executor    The executor running the operations of the session, must not be null
+     * @param idleTimeout The time after which an idle stream and its transaction are closed, must be positive
+     * @return a new {@link AsyncSession}
+     */
+    public AsyncSession openAsyncSession(Executor executor, Duration idleTimeout) {
+        Objects.requireNonNull(executor, "The executor of an async session must not be null");
+        Objects.requireNonNull(idleTimeout, "The idle timeout of an async session must not be null");
+        if (idleTimeout.isNegative() || idleTimeout.isZero()) {
+            throw new IllegalArgumentException("The idle timeout of an async session must be positive");
+        }
+        return new Neo4jAsyncSession(newSession(false, SessionBoundTransactionManager::new), executor, idleTimeout);
+    }
+
+    private Session newSession(boolean readOnly) {
+        return newSession(readOnly, transactionManagerFactory);
+    }
+
+    private Session newSession(boolean readOnly,
+        BiFunction<Driver, Session, TransactionManager> sessionTransactionManagerFactory) {
+        return new Neo4jSession(metaData, useStrictQuerying, driver, eventListeners, loadStrategy, entityInstantiator,
+            sessionTransactionManagerFactory,
+            new MappingContext(metaData, readOnly, mappingContextCapacity, dirtyTracking), secondLevelCache);
     }
 
     /**
@@ -180,6 +249,50 @@ public class SessionFactory {
         this.loadStrategy = loadStrategy;
     }
 
+    /**
+     * @return The maximum number of node entities per session or {@link MappingContext#UNBOUNDED}
+     */
+    public int getMappingContextCapacity() {
+        return mappingContextCapacity;
+    }
+
+    /**
+     * Bounds the number of node entities kept by the mapping context of each session opened afterwards. Once the
+     * capacity is exceeded, the least recently used entities that are neither dirty nor have been written in the
+     * ongoing transaction are evicted from the session as if they had been detached. This allows long-running sessions
+     * to stream through large graphs without running out of memory.
+     *
+     * @param mappingContextCapacity The maximum number of node entities per session or {@link MappingContext#UNBOUNDED}
+     */
+    public void setMappingContextCapacity(int mappingContextCapacity) {
+        if (mappingContextCapacity < 0) {
+            throw new IllegalArgumentException("The capacity of a mapping context must not be negative");
+        }
+        this.mappingContextCapacity = mappingContextCapacity;
+    }
+
+    /**
+     * Enables a second level cache shared by all sessions opened afterwards. Sessions will serve loads of single
+     * entities or entities by their ids with depth 0 from that cache, instead of reading them from the database.
+     * This is meant for reference data that is read often and written rarely. The cache is invalidated by all writes
+     * through sessions of this factory, but it is not aware of writes by any other means.
+     *
+     * @param cacheableTypes The node entity types to cache, including their subtypes. All node entities will be cached
+     *                       if none are given.
+     * @return The second level cache
+     */
+    public SecondLevelCache enableSecondLevelCache(Class<?>... cacheableTypes) {
+        this.secondLevelCache = new SecondLevelCache(List.of(cacheableTypes));
+        return this.secondLevelCache;
+    }
+
+    /**
+     * @return The second level cache or {@literal null} if it has not been enabled
+     */
+    public SecondLevelCache getSecondLevelCache() {
+        return secondLevelCache;
+    }
+
     /**
      * @return True if this instance uses strict querying or not.
      */
@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.neo4j.ogm.session.transaction.SessionBoundTransactionManager;
+import org.neo4j.ogm.transaction.Transaction;
+
+/**
+ * Publishes the elements of a lazily mapped {@link Stream} of a session. Elements are only pulled from the stream when
+ * the subscriber has requested them: Every request schedules an operation of the {@link AsyncSession} that delivers
+ * as many elements as have been requested until then and returns. No thread waits for demand in between, so other
+ * operations of the async session run between those deliveries.
+ * <p>
+ * The stream stays open between deliveries. If the session binds its transactions to itself, the transaction of the
+ * stream is suspended in between, so that the other operations don't run in it. A subscriber that neither requests
+ * more elements nor cancels within the idle timeout would keep both open forever, so the stream is closed then and the
+ * subscriber is notified with a {@link TimeoutException}.
+ *
+ * @param <T> The type of the published elements
+ */
+final class StreamPublisher<T> implements Flow.Publisher<T> {
+
+    private final AsyncSession asyncSession;
+    private final Duration idleTimeout;
+    private final Function<Session, Stream<T>> streamFactory;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    StreamPublisher(AsyncSession asyncSession, Duration idleTimeout, Function<Session, Stream<T>> streamFactory) {
+        this.asyncSession = asyncSession;
+        this.idleTimeout = idleTimeout;
+        this.streamFactory = streamFactory;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber must not be null");
+        }
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("This publisher supports only one subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(new StreamSubscription(subscriber));
+    }
+
+    private final class StreamSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> subscriber;
+
+        private final Lock lock = new ReentrantLock();
+
+        // guarded by the lock
+        private long demand;
+        private boolean cancelled;
+        private boolean terminated;
+        private boolean deliveryScheduled;
+        private boolean timedOut;
+        private long idlePeriods;
+        private Throwable invalidRequest;
+
+        // only used by the deliveries, which run one after another
+        private Stream<T> stream;
+        private Iterator<T> elements;
+        private Transaction suspendedTransaction;
+
+        StreamSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            lock.lock();
+            try {
+                if (n <= 0) {
+                    invalidRequest = new IllegalArgumentException("The number of requested elements must be positive");
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+            } finally {
+                lock.unlock();
+            }
+            scheduleDelivery();
+        }
+
+        @Override
+        public void cancel() {
+            lock.lock();
+            try {
+                cancelled = true;
+            } finally {
+                lock.unlock();
+            }
+            scheduleDelivery();
+        }
+
+        /**
+         * Schedules a delivery unless one is already scheduled or running. A running delivery picks up demand that
+         * arrives while it runs, including demand signalled from within {@code onNext}.
+         */
+        private void scheduleDelivery() {
+            lock.lock();
+            try {
+                if (terminated || deliveryScheduled) {
+                    return;
+                }
+                deliveryScheduled = true;
+            } finally {
+                lock.unlock();
+            }
+            asyncSession.withSession(session -> {
+                deliver(session);
+                return null;
+            });
+        }
+
+        private void deliver(Session session) {
+            try {
+                resumeTransaction(session);
+                while (takeDemand()) {
+                    if (elements == null) {
+                        stream = streamFactory.apply(session);
+                        elements = stream.iterator();
+                    }
+                    if (!elements.hasNext()) {
+                        closeStream();
+                        finish(null);
+                        return;
+                    }
+                    subscriber.onNext(elements.next());
+                }
+
+                boolean stopped;
+                Throwable stopCause;
+                lock.lock();
+                try {
+                    stopped = terminated || cancelled || timedOut || invalidRequest != null;
+                    stopCause = terminated || cancelled ? null
+                        : invalidRequest != null || !timedOut ? invalidRequest
+                        : new TimeoutException(
+                            "No elements have been requested within " + idleTimeout + ", the stream has been closed");
+                } finally {
+                    lock.unlock();
+                }
+                if (stopped) {
+                    closeStream();
+                    finish(stopCause);
+                } else {
+                    // Waiting for demand without holding a thread, the next request schedules a new delivery
+                    suspendTransaction(session);
+                    if (stream != null) {
+                        startIdleTimeout();
+                    }
+                }
+            } catch (Throwable e) {
+                try {
+                    closeStream();
+                } catch (Throwable suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                finish(e);
+            }
+        }
+
+        /**
+         * Takes one element from the demand.
+         *
+         * @return false if nothing has been requested, in which case the next request schedules a new delivery, or if
+         * the subscription has been terminated, cancelled or an invalid number of elements has been requested
+         */
+        private boolean takeDemand() {
+            lock.lock();
+            try {
+                if (terminated || cancelled || timedOut || invalidRequest != null) {
+                    return false;
+                }
+                if (demand == 0) {
+                    deliveryScheduled = false;
+                    return false;
+                }
+                if (demand != Long.MAX_VALUE) {
+                    --demand;
+                }
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void startIdleTimeout() {
+            long idlePeriod;
+            lock.lock();
+            try {
+                idlePeriod = ++idlePeriods;
+            } finally {
+                lock.unlock();
+            }
+            CompletableFuture.delayedExecutor(idleTimeout.toNanos(), TimeUnit.NANOSECONDS)
+                .execute(() -> timeOut(idlePeriod));
+        }
+
+        /**
+         * Closes the stream, unless it has been delivered from or terminated since the given idle period started.
+         */
+        private void timeOut(long idlePeriod) {
+            lock.lock();
+            try {
+                if (terminated || cancelled || deliveryScheduled || idlePeriod != idlePeriods) {
+                    return;
+                }
+                timedOut = true;
+            } finally {
+                lock.unlock();
+            }
+            scheduleDelivery();
+        }
+
+        /**
+         * Terminates the subscription and signals completion or the given error, unless the subscription has been
+         * terminated or cancelled before.
+         */
+        private void finish(Throwable cause) {
+            boolean signal;
+            lock.lock();
+            try {
+                signal = !(terminated || cancelled);
+                terminated = true;
+            } finally {
+                lock.unlock();
+            }
+            if (!signal) {
+                return;
+            }
+            if (cause == null) {
+                subscriber.onComplete();
+            } else {
+                subscriber.onError(cause);
+            }
+        }
+
+        private void closeStream() {
+            if (stream != null) {
+                Stream<T> openStream = stream;
+                stream = null;
+                elements = null;
+                openStream.close();
+            }
+        }
+
+        private void resumeTransaction(Session session) {
+            if (suspendedTransaction != null) {
+                Transaction transaction = suspendedTransaction;
+                suspendedTransaction = null;
+                sessionBoundTransactionManager(session).resume(transaction);
+            }
+        }
+
+        private void suspendTransaction(Session session) {
+            SessionBoundTransactionManager transactionManager = sessionBoundTransactionManager(session);
+            if (stream != null && transactionManager != null) {
+                suspendedTransaction = transactionManager.suspend();
+            }
+        }
+
+        private SessionBoundTransactionManager sessionBoundTransactionManager(Session session) {
+            return session instanceof Neo4jSession neo4jSession
+                && neo4jSession.getTransactionManager() instanceof SessionBoundTransactionManager transactionManager
+                ? transactionManager : null;
+        }
+    }
+}
@@ -70,7 +70,7 @@ public class DeleteDelegate extends SessionDelegate {
      * @param <T>  The type to work with
      */
     public <T> void deleteAll(Class<T> type) {
-        ClassInfo classInfo = session.metaData().classInfo(type.getName());
+        ClassInfo classInfo = session.metaData().classInfo(type);
         if (classInfo != null) {
             String entityLabel = classInfo.neo4jName();
             if (entityLabel == null) {
@@ -84,6 +84,7 @@ public class DeleteDelegate extends SessionDelegate {
             session.notifyListeners(new PersistenceEvent(type, Event.TYPE.PRE_DELETE));
             session.doInTransaction(() -> {
                 try (Response<RowModel> ignored = session.requestHandler().execute(query)) {
+                    session.invalidateSecondLevelCache();
                     session.context().removeType(type);
                     if (session.eventsEnabled()) {
                         session.notifyListeners(new PersistenceEvent(type, Event.TYPE.POST_DELETE));
@@ -97,7 +98,7 @@ public class DeleteDelegate extends SessionDelegate {
 
     public <T> Object delete(Class<T> clazz, Iterable<Filter> filters, boolean listResults) {
 
-        ClassInfo classInfo = session.metaData().classInfo(clazz.getName());
+        ClassInfo classInfo = session.metaData().classInfo(clazz);
 
         if (classInfo != null) {
 
@@ -132,6 +133,7 @@ public class DeleteDelegate extends SessionDelegate {
         RowModelRequest query = new DefaultRowModelRequest(stmt.getStatement(), stmt.getParameters());
         session.doInTransaction(() -> {
             session.requestHandler().execute(query).close();
+            session.invalidateSecondLevelCache();
         }, Transaction.Type.READ_WRITE);
         session.context().clear();
     }
@@ -222,6 +224,7 @@ public class DeleteDelegate extends SessionDelegate {
                             if (metaData.isRelationshipEntity(classInfo.name())) {
                                 session.detachRelationshipEntity(id);
                             } else {
+                                session.invalidateCachedNodes(List.of(id));
                                 session.detachNodeEntity(id);
                             }
 
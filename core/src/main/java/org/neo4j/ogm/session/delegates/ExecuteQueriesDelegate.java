@@ -25,10 +25,12 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.neo4j.ogm.annotation.EndNode;
 import org.neo4j.ogm.annotation.StartNode;
@@ -128,6 +130,33 @@ public class ExecuteQueriesDelegate extends SessionDelegate {
         return executeAndMap(type, cypher, parameters);
     }
 
+    public <T> Stream<T> streamQuery(Class<T> type, String cypher, Map<String, ?> parameters) {
+        validateQuery(cypher, parameters, false); //we'll allow modifying statements
+        if (type == null || VOID_TYPES.contains(type)) {
+            throw new RuntimeException("Supplied type must not be null or void.");
+        }
+
+        return session.streamInTransaction(() -> {
+
+            if (mayBeReadWrite(cypher)) {
+                session.clear();
+                session.invalidateSecondLevelCache();
+            }
+
+            if (session.metaData().classInfo(type) != null) {
+                GraphModelRequest request = new DefaultGraphModelRequest(cypher, parameters);
+                return new GraphRowModelMapper(session.metaData(), session.context(), session.getEntityInstantiator())
+                    .stream(type, session.requestHandler().execute(request));
+            } else {
+                RowModelRequest request = new DefaultRowModelRequest(cypher, parameters);
+                Response<RowModel> response = session.requestHandler().execute(request);
+                return Stream.iterate(response.next(), Objects::nonNull, previous -> response.next())
+                    .map(model -> extractColumnValue(type, model))
+                    .onClose(response::close);
+            }
+        }, Transaction.Type.READ_WRITE);
+    }
+
     public Result query(String cypher, Map<String, ?> parameters, boolean readOnly) {
 
         validateQuery(cypher, parameters, readOnly);
@@ -144,6 +173,10 @@ public class ExecuteQueriesDelegate extends SessionDelegate {
 
         return session.doInTransaction(() -> {
 
+            if (mayBeReadWrite(cypher)) {
+                session.invalidateSecondLevelCache();
+            }
+
             try (Response<RestModel> response = session.requestHandler().execute(request)) {
                 RestStatisticsModel restStatisticsModel = mapper.map(response);
 
@@ -189,9 +222,10 @@ public class ExecuteQueriesDelegate extends SessionDelegate {
             // to modify all entities in the context, so we must flush it either way.
             if (mayBeReadWrite(cypher)) {
                 session.clear();
+                session.invalidateSecondLevelCache();
             }
 
-            if (type != null && session.metaData().classInfo(type.getName()) != null) {
+            if (type != null && session.metaData().classInfo(type) != null) {
 
                 // Things that can be mapped to entities
                 GraphModelRequest request = new DefaultGraphModelRequest(cypher, parameters);
@@ -242,7 +276,7 @@ public class ExecuteQueriesDelegate extends SessionDelegate {
 
     public long countEntitiesOfType(Class<?> entity) {
 
-        ClassInfo classInfo = session.metaData().classInfo(entity.getName());
+        ClassInfo classInfo = session.metaData().classInfo(entity);
         if (classInfo == null) {
             return 0;
         }
@@ -287,7 +321,7 @@ public class ExecuteQueriesDelegate extends SessionDelegate {
 
     public long count(Class<?> clazz, Iterable<Filter> filters) {
 
-        ClassInfo classInfo = session.metaData().classInfo(clazz.getName());
+        ClassInfo classInfo = session.metaData().classInfo(clazz);
 
         if (classInfo != null) {
 
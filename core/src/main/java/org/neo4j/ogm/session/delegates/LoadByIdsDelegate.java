@@ -19,26 +19,31 @@
 package org.neo4j.ogm.session.delegates;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 
 import org.neo4j.ogm.context.GraphRowModelMapper;
+import org.neo4j.ogm.context.SecondLevelCache;
 import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
 import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.Node;
 import org.neo4j.ogm.request.GraphModelRequest;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
+import org.neo4j.ogm.session.transaction.support.TransactionalUnitOfWork;
 import org.neo4j.ogm.transaction.Transaction;
 import org.neo4j.ogm.utils.EntityUtils;
 import org.slf4j.Logger;
@@ -68,18 +73,38 @@ public class LoadByIdsDelegate extends SessionDelegate {
             return Collections.emptyList();
         }
 
+        ClassInfo classInfo = session.metaData().classInfo(type);
+
+        // Only complete, unsorted and unpaged results can be served from the second level cache
+        SecondLevelCache secondLevelCache = session.getSecondLevelCache();
+        boolean cacheable = secondLevelCache != null && depth == 0 && secondLevelCache.isCacheable(classInfo);
+        if (cacheable && sortOrder.sortClauses().isEmpty() && pagination == null) {
+            Optional<GraphModel> cachedGraph = secondLevelCache.get(classInfo, ids);
+            if (cachedGraph.isPresent()) {
+                return sortResultsByIds(type, ids, mapCachedGraph(type, cachedGraph.get()));
+            }
+        }
+
         QueryStatements<ID> queryStatements = session.queryStatementsFor(type, depth);
 
-        ClassInfo classInfo = session.metaData().classInfo(type.getName());
         PagingAndSortingQuery qry = queryStatements.findAllByType(labelsOrType.get(), convertIfNeeded(classInfo, ids), depth)
             .setSortOrder(sortOrder)
             .setPagination(pagination);
 
         GraphModelRequest request = new DefaultGraphModelRequest(qry.getStatement(), qry.getParameters());
-        return session.doInTransaction(() -> {
+
+        // Only nodes read in a transaction of their own are known to be committed and can be shared with other sessions
+        boolean populateCache = cacheable && session.getTransaction() == null;
+        long generation = populateCache ? secondLevelCache.generation() : 0;
+        List<Node> nodes = new ArrayList<>();
+
+        TransactionalUnitOfWork<Collection<T>> work = () -> {
             try (Response<GraphModel> response = session.requestHandler().execute(request)) {
                 Iterable<T> mapped = new GraphRowModelMapper(session.metaData(), session.context(),
-                    session.getEntityInstantiator()).map(type, response);
+                    session.getEntityInstantiator()).map(type, populateCache ? collectingNodes(response, nodes) : response);
+                if (populateCache) {
+                    populateSecondLevelCache(secondLevelCache, generation, nodes);
+                }
 
                 if (sortOrder.sortClauses().isEmpty()) {
                     return sortResultsByIds(type, ids, mapped);
@@ -92,13 +117,16 @@ public class LoadByIdsDelegate extends SessionDelegate {
                 }
                 return results;
             }
-        }, Transaction.Type.READ_ONLY);
+        };
+        return populateCache
+            ? session.doInTransaction(work, Transaction.Type.READ_ONLY, secondLevelCache.bookmarks())
+            : session.doInTransaction(work, Transaction.Type.READ_ONLY);
     }
 
     private <T, ID extends Serializable> Set<T> sortResultsByIds(Class<T> type, Collection<ID> ids,
         Iterable<T> mapped) {
         Map<ID, T> items = new HashMap<>();
-        ClassInfo classInfo = session.metaData().classInfo(type.getName());
+        ClassInfo classInfo = session.metaData().classInfo(type);
 
         Function<Object, Optional<Object>> primaryIndexOrIdReader
             = classInfo.getPrimaryIndexOrIdReader();
@@ -18,9 +18,12 @@
  */
 package org.neo4j.ogm.session.delegates;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.neo4j.ogm.context.GraphRowListModelMapper;
 import org.neo4j.ogm.context.GraphRowModelMapper;
@@ -28,9 +31,15 @@ import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
 import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
 import org.neo4j.ogm.cypher.query.DefaultGraphRowListModelRequest;
+import org.neo4j.ogm.cypher.query.Keyset;
+import org.neo4j.ogm.cypher.query.KeysetPage;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
+import org.neo4j.ogm.cypher.query.SortClause;
 import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
 import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.model.GraphRowListModel;
 import org.neo4j.ogm.request.GraphModelRequest;
@@ -70,27 +79,61 @@ public class LoadByTypeDelegate extends SessionDelegate {
     public <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination,
         int depth) {
 
-        Optional<String> labelsOrType = session.determineLabelsOrTypeForLoading(type);
-        if (!labelsOrType.isPresent()) {
-            LOG.warn("Unable to find database label for entity " + type.getName()
-                + " : no results will be returned. Make sure the class is registered, "
-                + "and not abstract without @NodeEntity annotation");
+        Optional<PagingAndSortingQuery> optionalQuery = findByType(type, filters, sortOrder, pagination, depth);
+        if (optionalQuery.isEmpty()) {
             return Collections.emptyList();
         }
-        QueryStatements queryStatements = session.queryStatementsFor(type, depth);
+        return loadAll(type, optionalQuery.get());
+    }
 
-        SortOrder sortOrderWithResolvedProperties = sortOrderWithResolvedProperties(type, sortOrder);
+    /**
+     * Loads a page of objects of a given {@code type} with keyset pagination. The page continues after the keyset of
+     * the pagination and ends with the keyset to continue with, if the page has been full.
+     *
+     * @param type       The type of objects to load.
+     * @param filters    Additional filters to reduce the number of objects loaded, may be null or empty.
+     * @param sortOrder  Sort order to be passed on to the database, may only refer to properties of the type
+     * @param pagination The keyset pagination
+     * @param depth      Depth of relationships to load
+     * @param <T>        Returned type
+     * @return A page of objects with the requested type
+     */
+    public <T> KeysetPage<T> loadPage(Class<T> type, Filters filters, SortOrder sortOrder,
+        KeysetPagination pagination, int depth) {
 
-        PagingAndSortingQuery query;
-        if (filters == null || filters.isEmpty()) {
-            query = queryStatements.findByType(labelsOrType.get(), depth);
-        } else {
-            resolvePropertyAnnotations(type, filters);
-            query = queryStatements.findByType(labelsOrType.get(), filters, depth);
+        SortOrder sortOrderOrDefault = sortOrder == null ? new SortOrder() : sortOrder;
+        Optional<PagingAndSortingQuery> optionalQuery = findByType(type, filters, sortOrderOrDefault, null, depth);
+        if (optionalQuery.isEmpty()) {
+            return new KeysetPage<>(Collections.emptyList(), null);
         }
 
-        query.setSortOrder(sortOrderWithResolvedProperties)
-            .setPagination(pagination);
+        List<T> content = new ArrayList<>(loadAll(type, optionalQuery.get().setKeysetPagination(pagination)));
+        Keyset next = null;
+        if (!content.isEmpty() && content.size() >= pagination.getPageSize()) {
+            next = keysetOf(type, sortOrderOrDefault, content.get(content.size() - 1));
+        }
+        return new KeysetPage<>(content, next);
+    }
+
+    private Keyset keysetOf(Class<?> type, SortOrder sortOrder, Object entity) {
+
+        ClassInfo classInfo = session.metaData().classInfo(type);
+        List<Object> values = new ArrayList<>();
+        for (SortClause sortClause : sortOrder.sortClauses()) {
+            for (String property : sortClause.getProperties()) {
+                FieldInfo fieldInfo = classInfo.propertyFieldByName(property);
+                if (fieldInfo == null || fieldInfo.hasCompositeConverter()) {
+                    throw new IllegalArgumentException(
+                        "Keyset pagination requires sorting by simple properties of " + type.getName()
+                            + ", but " + property + " is not one.");
+                }
+                values.add(fieldInfo.readProperty(entity));
+            }
+        }
+        return new Keyset(values, session.context().nativeId(entity));
+    }
+
+    private <T> Collection<T> loadAll(Class<T> type, PagingAndSortingQuery query) {
 
         return session.doInTransaction(() -> {
             if (query.needsRowResult()) {
@@ -111,6 +154,70 @@ public class LoadByTypeDelegate extends SessionDelegate {
         }, Transaction.Type.READ_WRITE);
     }
 
+    /**
+     * Streams all objects of a given {@code type}, using the same query as
+     * {@link #loadAll(Class, Filters, SortOrder, Pagination, int)}. The result records are mapped while the stream is
+     * consumed and a transaction opened for the query stays open until the stream is closed.
+     *
+     * @param type      The type of objects to load.
+     * @param filters   Additional filters to reduce the number of objects loaded, may be null or empty.
+     * @param sortOrder Sort order to be passed on to the database
+     * @param depth     Depth of relationships to load
+     * @param <T>       Returned type
+     * @return A stream of objects with the requested type that must be closed after use
+     */
+    public <T> Stream<T> stream(Class<T> type, Filters filters, SortOrder sortOrder, int depth) {
+
+        Optional<PagingAndSortingQuery> optionalQuery = findByType(type, filters,
+            sortOrder == null ? new SortOrder() : sortOrder, null, depth);
+        if (optionalQuery.isEmpty()) {
+            return Stream.empty();
+        }
+        PagingAndSortingQuery query = optionalQuery.get();
+
+        return session.streamInTransaction(() -> {
+            if (query.needsRowResult()) {
+                DefaultGraphRowListModelRequest graphRowListModelRequest = new DefaultGraphRowListModelRequest(
+                    query.getStatement(), query.getParameters());
+                return new GraphRowListModelMapper(session.metaData(), session.context(),
+                    session.getEntityInstantiator())
+                    .stream(type, session.requestHandler().execute(graphRowListModelRequest));
+            } else {
+                GraphModelRequest request = new DefaultGraphModelRequest(query.getStatement(), query.getParameters());
+                return new GraphRowModelMapper(session.metaData(), session.context(),
+                    session.getEntityInstantiator())
+                    .stream(type, session.requestHandler().execute(request));
+            }
+        }, Transaction.Type.READ_ONLY);
+    }
+
+    private Optional<PagingAndSortingQuery> findByType(Class<?> type, Filters filters, SortOrder sortOrder,
+        Pagination pagination, int depth) {
+
+        Optional<String> labelsOrType = session.determineLabelsOrTypeForLoading(type);
+        if (!labelsOrType.isPresent()) {
+            LOG.warn("Unable to find database label for entity " + type.getName()
+                + " : no results will be returned. Make sure the class is registered, "
+                + "and not abstract without @NodeEntity annotation");
+            return Optional.empty();
+        }
+        QueryStatements queryStatements = session.queryStatementsFor(type, depth);
+
+        SortOrder sortOrderWithResolvedProperties = sortOrderWithResolvedProperties(type, sortOrder);
+
+        PagingAndSortingQuery query;
+        if (filters == null || filters.isEmpty()) {
+            query = queryStatements.findByType(labelsOrType.get(), depth);
+        } else {
+            resolvePropertyAnnotations(type, filters);
+            query = queryStatements.findByType(labelsOrType.get(), filters, depth);
+        }
+
+        query.setSortOrder(sortOrderWithResolvedProperties)
+            .setPagination(pagination);
+        return Optional.of(query);
+    }
+
     public <T> Collection<T> loadAll(Class<T> type) {
         return loadAll(type, new Filters(), new SortOrder(), null, 1);
     }
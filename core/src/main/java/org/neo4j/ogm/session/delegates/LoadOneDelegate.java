@@ -19,20 +19,25 @@
 package org.neo4j.ogm.session.delegates;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 
 import org.neo4j.ogm.annotation.RelationshipEntity;
 import org.neo4j.ogm.context.GraphRowModelMapper;
+import org.neo4j.ogm.context.SecondLevelCache;
 import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
 import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
 import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.Node;
 import org.neo4j.ogm.request.GraphModelRequest;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
+import org.neo4j.ogm.session.transaction.support.TransactionalUnitOfWork;
 import org.neo4j.ogm.transaction.Transaction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,7 +61,7 @@ public class LoadOneDelegate extends SessionDelegate {
 
     public <T, ID extends Serializable> T load(Class<T> type, ID id, int depth) {
 
-        ClassInfo classInfo = session.metaData().classInfo(type.getName());
+        ClassInfo classInfo = session.metaData().classInfo(type);
         if (classInfo == null) {
             throw new IllegalArgumentException(type + " is not a managed entity.");
         }
@@ -79,29 +84,50 @@ public class LoadOneDelegate extends SessionDelegate {
             return null;
         }
 
+        SecondLevelCache secondLevelCache = session.getSecondLevelCache();
+        boolean cacheable = secondLevelCache != null && depth == 0 && secondLevelCache.isCacheable(classInfo);
+        if (cacheable) {
+            Optional<GraphModel> cachedGraph = secondLevelCache.get(classInfo, List.of(id));
+            if (cachedGraph.isPresent()) {
+                mapCachedGraph(type, cachedGraph.get());
+                return lookup(type, id);
+            }
+        }
+
         QueryStatements<ID> queryStatements = session.queryStatementsFor(type, depth);
 
         PagingAndSortingQuery qry = queryStatements.findOneByType(labelsOrType.get(), convertIfNeeded(classInfo, id), depth);
 
         GraphModelRequest request = new DefaultGraphModelRequest(qry.getStatement(), qry.getParameters());
 
-        return session.doInTransaction(() -> {
+        // Only nodes read in a transaction of their own are known to be committed and can be shared with other sessions
+        boolean populateCache = cacheable && session.getTransaction() == null;
+        long generation = populateCache ? secondLevelCache.generation() : 0;
+        List<Node> nodes = new ArrayList<>();
+
+        TransactionalUnitOfWork<T> work = () -> {
             try (Response<GraphModel> response = session.requestHandler().execute(request)) {
                 new GraphRowModelMapper(session.metaData(), session.context(), session.getEntityInstantiator())
-                    .map(type, response);
+                    .map(type, populateCache ? collectingNodes(response, nodes) : response);
+                if (populateCache) {
+                    populateSecondLevelCache(secondLevelCache, generation, nodes);
+                }
                 return lookup(type, id);
             }
-        }, Transaction.Type.READ_ONLY);
+        };
+        return populateCache
+            ? session.doInTransaction(work, Transaction.Type.READ_ONLY, secondLevelCache.bookmarks())
+            : session.doInTransaction(work, Transaction.Type.READ_ONLY);
     }
 
     private <T, U> T lookup(Class<T> type, U id) {
         Object ref;
-        ClassInfo typeInfo = session.metaData().classInfo(type.getName());
+        ClassInfo typeInfo = session.metaData().classInfo(type);
 
         FieldInfo primaryIndex = typeInfo.primaryIndexField();
         if (typeInfo.annotationsInfo().get(RelationshipEntity.class) == null) {
             if (primaryIndex == null) {
-                ref = session.context().getNodeEntity((Long) id);
+                ref = session.context().lookupNodeEntity((Long) id);
             } else {
                 ref = session.context().getNodeEntityById(typeInfo, id);
             }
@@ -21,14 +21,20 @@ package org.neo4j.ogm.session.delegates;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.function.Predicate;
 
 import org.neo4j.ogm.context.EntityGraphMapper;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.context.TransientRelationship;
 import org.neo4j.ogm.context.WriteProtectionTarget;
+import org.neo4j.ogm.cypher.compiler.CompileContext;
+import org.neo4j.ogm.session.BulkSaveOptions;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.WriteProtectionStrategy;
 import org.neo4j.ogm.session.request.RequestExecutor;
+import org.neo4j.ogm.transaction.Transaction;
 
 /**
  * @author Vince Bickers
@@ -53,13 +59,6 @@ public class SaveDelegate extends SessionDelegate {
 
     public <T> void save(T object, int depth) {
 
-        SaveEventDelegate eventsDelegate = new SaveEventDelegate(session);
-
-        EntityGraphMapper entityGraphMapper = new EntityGraphMapper(session.metaData(), session.context());
-        if (this.writeProtectionStrategy != null) {
-            entityGraphMapper.addWriteProtection(this.writeProtectionStrategy.get());
-        }
-
         Iterable<T> objects;
         if (object.getClass().isArray()) {
             int length = Array.getLength(object);
@@ -78,16 +77,72 @@ public class SaveDelegate extends SessionDelegate {
                 + "Please check the entity mapping.");
         }
 
+        saveObjects(objects, depth);
+    }
+
+    public <T> void saveAll(Iterable<T> objects, BulkSaveOptions options) {
+
+        Iterator<T> iterator = objects.iterator();
+        // A transaction started by the caller is used for all batches and must not be committed by us
+        boolean commitPeriodically = session.getTransaction() == null;
+
+        while (iterator.hasNext()) {
+            session.doInTransaction(() -> {
+                int batches = 0;
+                while (iterator.hasNext() && (!commitPeriodically || batches++ < options.getBatchesPerTransaction())) {
+                    List<T> batch = new ArrayList<>(options.getBatchSize());
+                    while (iterator.hasNext() && batch.size() < options.getBatchSize()) {
+                        batch.add(iterator.next());
+                    }
+                    CompileContext compileContext = saveObjects(batch, options.getDepth());
+                    if (options.isDetachSavedEntities()) {
+                        detach(compileContext);
+                    }
+                }
+            }, commitPeriodically, Transaction.Type.READ_WRITE);
+        }
+    }
+
+    private <T> CompileContext saveObjects(Iterable<T> objects, int depth) {
+
+        EntityGraphMapper entityGraphMapper = new EntityGraphMapper(session.metaData(), session.context());
+        if (this.writeProtectionStrategy != null) {
+            entityGraphMapper.addWriteProtection(this.writeProtectionStrategy.get());
+        }
+
         if (session.eventsEnabled()) {
+            SaveEventDelegate eventsDelegate = new SaveEventDelegate(session);
             objects.forEach(item -> {
                 eventsDelegate.preSave(item);
                 entityGraphMapper.map(item, depth);
             });
             requestExecutor.executeSave(entityGraphMapper.compileContext());
+            entityGraphMapper.rememberMappedRelationships();
             eventsDelegate.postSave();
         } else {
             objects.forEach(item -> entityGraphMapper.map(item, depth));
             requestExecutor.executeSave(entityGraphMapper.compileContext());
+            entityGraphMapper.rememberMappedRelationships();
+        }
+        return entityGraphMapper.compileContext();
+    }
+
+    /**
+     * Removes all entities written with the given context from the mapping context.
+     */
+    private void detach(CompileContext compileContext) {
+        MappingContext mappingContext = session.context();
+        for (Object entity : compileContext.registry()) {
+            if (entity instanceof TransientRelationship) {
+                continue;
+            }
+            mappingContext.optionalNativeId(entity).filter(id -> id >= 0).ifPresent(id -> {
+                if (session.metaData().isRelationshipEntity(entity.getClass().getName())) {
+                    mappingContext.detachRelationshipEntity(id);
+                } else {
+                    mappingContext.detachNodeEntity(id);
+                }
+            });
         }
     }
 
@@ -20,6 +20,7 @@ package org.neo4j.ogm.session.delegates;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -29,6 +30,8 @@ import org.neo4j.ogm.annotation.Property;
 import org.neo4j.ogm.annotation.Relationship;
 import org.neo4j.ogm.annotation.Relationship.Direction;
 import org.neo4j.ogm.annotation.StartNode;
+import org.neo4j.ogm.context.GraphRowModelMapper;
+import org.neo4j.ogm.context.SecondLevelCache;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.FilterWithRelationship;
 import org.neo4j.ogm.cypher.query.SortClause;
@@ -37,6 +40,9 @@ import org.neo4j.ogm.internal.SchemaNames;
 import org.neo4j.ogm.metadata.AnnotationInfo;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.utils.RelationshipUtils;
 
@@ -52,6 +58,69 @@ abstract class SessionDelegate {
         this.session = session;
     }
 
+    /**
+     * Maps a graph model served from the second level cache the same way as if it had been read from the database.
+     */
+    <T> Iterable<T> mapCachedGraph(Class<T> type, GraphModel graphModel) {
+        Iterator<GraphModel> graphModels = List.of(graphModel).iterator();
+        Response<GraphModel> response = new Response<>() {
+            @Override
+            public GraphModel next() {
+                return graphModels.hasNext() ? graphModels.next() : null;
+            }
+
+            @Override
+            public void close() {
+            }
+
+            @Override
+            public String[] columns() {
+                return new String[0];
+            }
+        };
+        return new GraphRowModelMapper(session.metaData(), session.context(), session.getEntityInstantiator())
+            .map(type, response);
+    }
+
+    /**
+     * Decorates the response so that all nodes read through it are collected into the given list.
+     */
+    static Response<GraphModel> collectingNodes(Response<GraphModel> response, List<Node> nodes) {
+        return new Response<>() {
+            @Override
+            public GraphModel next() {
+                GraphModel graphModel = response.next();
+                if (graphModel != null) {
+                    nodes.addAll(graphModel.getNodes());
+                }
+                return graphModel;
+            }
+
+            @Override
+            public void close() {
+                response.close();
+            }
+
+            @Override
+            public String[] columns() {
+                return response.columns();
+            }
+        };
+    }
+
+    /**
+     * Adds all nodes that have been mapped to cacheable entities to the second level cache.
+     */
+    void populateSecondLevelCache(SecondLevelCache secondLevelCache, long generation, List<Node> nodes) {
+        for (Node node : nodes) {
+            Object entity = session.context().getNodeEntity(node.getId());
+            ClassInfo classInfo = entity == null ? null : session.metaData().classInfo(entity);
+            if (secondLevelCache.isCacheable(classInfo)) {
+                secondLevelCache.put(generation, node, classInfo, classInfo.readPrimaryIndexValueOf(entity));
+            }
+        }
+    }
+
     SortOrder sortOrderWithResolvedProperties(Class<?> entityType, SortOrder sortOrder) {
         return SortOrder.fromSortClauses(sortClausesWithResolvedProperties(entityType, sortOrder));
     }
@@ -64,7 +133,7 @@ abstract class SessionDelegate {
             String propertyName = resolvePropertyName(filter.getOwnerEntityType(), filter.getPropertyName());
             Filter.setNameFromProperty(filter, propertyName);
 
-            ClassInfo classInfo = session.metaData().classInfo(entityType.getName());
+            ClassInfo classInfo = session.metaData().classInfo(entityType);
             FieldInfo fieldInfo = classInfo.getFieldInfo(filter.getPropertyName());
             if (fieldInfo != null) {
                 filter.setPropertyConverter(fieldInfo.getPropertyConverter());
@@ -72,7 +141,7 @@ abstract class SessionDelegate {
 
             if (filter.isNested()) {
                 resolveRelationshipType(filter);
-                ClassInfo nestedClassInfo = session.metaData().classInfo(filter.getNestedPropertyType().getName());
+                ClassInfo nestedClassInfo = session.metaData().classInfo(filter.getNestedPropertyType());
                 filter.setNestedEntityTypeLabel(session.metaData().entityType(nestedClassInfo.name()));
                 if (session.metaData().isRelationshipEntity(nestedClassInfo.name())) {
                     filter.setNestedRelationshipEntity(true);
@@ -82,7 +151,7 @@ abstract class SessionDelegate {
                 for (Filter.NestedPathSegment nestedPathSegment : filter.getNestedPath()) {
                     resolveRelationshipType(parentOwnerType, nestedPathSegment);
                     ClassInfo nestedClassInfo = session.metaData()
-                        .classInfo(nestedPathSegment.getPropertyType().getName());
+                        .classInfo(nestedPathSegment.getPropertyType());
                     nestedPathSegment.setNestedEntityTypeLabel(session.metaData().entityType(nestedClassInfo.name()));
                     if (session.metaData().isRelationshipEntity(nestedClassInfo.name())) {
                         nestedPathSegment.setNestedRelationshipEntity(true);
@@ -122,7 +191,7 @@ abstract class SessionDelegate {
     }
 
     private void resolveRelationshipType(Filter filter) {
-        ClassInfo classInfo = session.metaData().classInfo(filter.getOwnerEntityType().getName());
+        ClassInfo classInfo = session.metaData().classInfo(filter.getOwnerEntityType());
         FieldInfo fieldInfo = classInfo.relationshipFieldByName(filter.getNestedPropertyName());
 
         String defaultRelationshipType = RelationshipUtils.inferRelationshipType(filter.getNestedPropertyName());
@@ -130,7 +199,7 @@ abstract class SessionDelegate {
     }
 
     private void resolveRelationshipType(Class<?> parentOwnerType, Filter.NestedPathSegment segment) {
-        ClassInfo classInfo = session.metaData().classInfo(parentOwnerType.getName());
+        ClassInfo classInfo = session.metaData().classInfo(parentOwnerType);
         FieldInfo fieldInfo = classInfo.relationshipFieldByName(segment.getPropertyName());
 
         String defaultRelationshipType = RelationshipUtils.inferRelationshipType(segment.getPropertyName());
@@ -180,7 +249,7 @@ abstract class SessionDelegate {
     }
 
     private String resolvePropertyName(Class<?> entityType, String propertyName) {
-        ClassInfo classInfo = session.metaData().classInfo(entityType.getName());
+        ClassInfo classInfo = session.metaData().classInfo(entityType);
         FieldInfo fieldInfo = classInfo.propertyFieldByName(propertyName);
         if (fieldInfo != null && fieldInfo.getAnnotations() != null) {
             AnnotationInfo annotation = fieldInfo.getAnnotations().get(Property.class);
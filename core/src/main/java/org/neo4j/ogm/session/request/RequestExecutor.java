@@ -68,6 +68,7 @@ public class RequestExecutor {
 
         Compiler compiler = context.getCompiler();
         compiler.useStatementFactory(new RowStatementFactory());
+        compiler.useMaxRowsPerStatement(session.maxRowsPerStatement());
 
         List<ReferenceMapping> entityReferenceMappings = new ArrayList<>();
         List<ReferenceMapping> relReferenceMappings = new ArrayList<>();
@@ -79,9 +80,22 @@ public class RequestExecutor {
 
         session.doInTransaction(() -> {
 
-            //If there are statements that depend on new nodes i.e. relationships created between new nodes,
-            //we must create the new nodes first, and then use their node IDs when creating relationships between them
-            if (compiler.hasStatementsDependentOnNewNodes()) {
+            List<Statement> subgraphStatements = session.useSingleRoundTripSave()
+                && compiler.hasStatementsDependentOnNewNodes() ? compiler.createSubgraphStatements() : List.of();
+
+            //If requested, new nodes and the relationships between them are created together, with the relationships
+            //referring to the new nodes by their position instead of by the ids the database assigns to them
+            if (!subgraphStatements.isEmpty()) {
+                List<Statement> statements = new ArrayList<>(subgraphStatements);
+                statements.addAll(compiler.updateNodesStatements());
+                statements.addAll(compiler.updateRelationshipStatements());
+                statements.addAll(compiler.deleteRelationshipStatements());
+                statements.addAll(compiler.deleteRelationshipEntityStatements());
+
+                executeStatements(context, entityReferenceMappings, relReferenceMappings, statements);
+            } else if (compiler.hasStatementsDependentOnNewNodes()) {
+                //If there are statements that depend on new nodes i.e. relationships created between new nodes,
+                //we must create the new nodes first, and then use their node IDs when creating relationships between them
                 // execute the statements to create new nodes. The ids will be returned
                 // and will be used in subsequent statements that refer to these new nodes.
                 executeStatements(context, entityReferenceMappings, relReferenceMappings,
@@ -100,6 +114,9 @@ public class RequestExecutor {
                 executeStatements(context, entityReferenceMappings, relReferenceMappings, statements);
             }
 
+            // Nodes written by this request must not be served from the second level cache anymore
+            session.invalidateCachedNodes(entityReferenceMappings.stream().map(mapping -> mapping.id).toList());
+
         }, forceTx, Transaction.Type.READ_WRITE);
 
         //Update the mapping context now that the request is successful
@@ -319,6 +336,9 @@ public class RequestExecutor {
     }
 
     private void registerEntity(MappingContext mappingContext, ClassInfo classInfo, Long identity, Object entity) {
+        if (session.getTransaction() != null) {
+            mappingContext.retainForTransaction(entity);
+        }
         // ensure the newly created domain object is added into the mapping context
         if (classInfo.annotationsInfo().get(RelationshipEntity.class) == null) {
             mappingContext.replaceNodeEntity(entity, identity);      // force the node entity object to be overwritten
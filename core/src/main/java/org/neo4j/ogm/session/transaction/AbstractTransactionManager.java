@@ -115,6 +115,14 @@ public abstract class AbstractTransactionManager implements TransactionManager {
                     var mappingContext = ((Neo4jSession) session).context();
                     entities.forEach(mappingContext::reset);
                 }
+                if (session instanceof Neo4jSession neo4jSession) {
+                    neo4jSession.context().releaseTransactionalEntities();
+                    var secondLevelCache = neo4jSession.getSecondLevelCache();
+                    if (secondLevelCache != null) {
+                        secondLevelCache.transactionClosed(transaction, status == Transaction.Status.COMMITTED,
+                            session.getLastBookmark());
+                    }
+                }
             });
         });
     }
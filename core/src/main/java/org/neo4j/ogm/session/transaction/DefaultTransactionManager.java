@@ -27,6 +27,11 @@ import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.transaction.Transaction;
 
 /**
+ * Binds the current transaction to the thread that began it. Virtual threads have thread locals of their own, so a
+ * session may be used by one virtual thread at a time just like by a platform thread. Binding to a task instead of a
+ * thread needs a custom transaction manager, see
+ * {@link org.neo4j.ogm.session.SessionFactory#setTransactionManagerFactory}.
+ *
  * @author Vince Bickers
  * @author Luanne Misquitta
  * @author Michael J. Simons
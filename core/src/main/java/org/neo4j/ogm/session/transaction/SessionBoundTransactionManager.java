@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.transaction;
+
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import org.neo4j.ogm.driver.Driver;
+import org.neo4j.ogm.exception.core.TransactionManagerException;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.transaction.Transaction;
+
+/**
+ * Binds the current transaction to the session instead of a thread. This is only correct for sessions that are never
+ * used by several threads at the same time, like the session of an {@link org.neo4j.ogm.session.AsyncSession}, whose
+ * operations run one after another, but possibly on different threads.
+ * <p>
+ * The current transaction can be suspended and resumed later on, so that other operations of the session can run in
+ * transactions of their own in between.
+ */
+public final class SessionBoundTransactionManager extends AbstractTransactionManager {
+
+    private volatile Transaction currentTransaction;
+
+    public SessionBoundTransactionManager(Driver driver, Session session) {
+        super(driver, session);
+    }
+
+    /**
+     * Returns the current transaction of the session, or null if none exists
+     *
+     * @return the session's transaction
+     */
+    public Transaction getCurrentTransaction() {
+        return currentTransaction;
+    }
+
+    /**
+     * Detaches the current transaction from the session without finishing it.
+     *
+     * @return The detached transaction, or null if there was none
+     */
+    public Transaction suspend() {
+        Transaction suspended = currentTransaction;
+        currentTransaction = null;
+        return suspended;
+    }
+
+    /**
+     * Makes a transaction detached by {@link #suspend()} the current transaction again.
+     *
+     * @param transaction The transaction to resume
+     * @throws TransactionManagerException if another transaction has been begun since and is still open
+     */
+    public void resume(Transaction transaction) {
+        Transaction current = currentTransaction;
+        if (current != null && current != transaction) {
+            throw new TransactionManagerException("Cannot resume a transaction while another one is current");
+        }
+        currentTransaction = transaction;
+    }
+
+    @Override
+    protected Transaction openOrExtend(Supplier<Transaction> opener, UnaryOperator<Transaction> extender) {
+        var current = getCurrentTransaction();
+        if (current == null) {
+            var newTransaction = opener.get();
+            currentTransaction = newTransaction;
+            return newTransaction;
+        } else {
+            return extender.apply(current);
+        }
+    }
+
+    @Override
+    protected void removeIfCurrent(Transaction transaction, Runnable action) {
+        if (transaction != getCurrentTransaction()) {
+            throw new TransactionManagerException("Transaction is not current for this session");
+        }
+
+        action.run();
+        currentTransaction = null;
+    }
+}
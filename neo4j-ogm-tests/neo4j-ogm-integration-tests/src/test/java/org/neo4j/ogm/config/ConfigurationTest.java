@@ -275,6 +275,50 @@ public class ConfigurationTest {
             .containsExactlyInAnyOrder("a", "b", "c");
     }
 
+    @Test
+    void shouldParseStatementPipelining() {
+        Properties properties = new Properties();
+        properties.setProperty("statement.pipelining", "true");
+
+        Configuration configuration = new Configuration.Builder(() -> properties).build();
+        assertThat(configuration.getStatementPipelining()).isTrue();
+        assertThat(new Configuration.Builder().build().getStatementPipelining()).isFalse();
+    }
+
+    @Test
+    void shouldParseSingleRoundTripSave() {
+        Properties properties = new Properties();
+        properties.setProperty("save.single-round-trip", "true");
+
+        Configuration configuration = new Configuration.Builder(() -> properties).build();
+        assertThat(configuration.getSingleRoundTripSave()).isTrue();
+        assertThat(new Configuration.Builder().build().getSingleRoundTripSave()).isFalse();
+    }
+
+    @Test
+    void shouldParseMaxRowsPerStatement() {
+        Properties properties = new Properties();
+        properties.setProperty("statement.max-rows", "5000");
+
+        Configuration configuration = new Configuration.Builder(() -> properties).build();
+        assertThat(configuration.getMaxRowsPerStatement()).isEqualTo(5000);
+        assertThat(new Configuration.Builder().build().getMaxRowsPerStatement()).isNull();
+        assertThatIllegalArgumentException().isThrownBy(() -> new Configuration.Builder().maxRowsPerStatement(0));
+
+        properties.setProperty("statement.max-rows", "0");
+        assertThatIllegalArgumentException().isThrownBy(() -> new Configuration.Builder(() -> properties));
+    }
+
+    @Test
+    void shouldParseDirtyTracking() {
+        Properties properties = new Properties();
+        properties.setProperty("save.dirty-tracking", "true");
+
+        Configuration configuration = new Configuration.Builder(() -> properties).build();
+        assertThat(configuration.getDirtyTracking()).isTrue();
+        assertThat(new Configuration.Builder().build().getDirtyTracking()).isFalse();
+    }
+
     @Test
     void mergeBasePackagesShouldWorkWithNullBase() {
         Configuration configuration = new Configuration.Builder().build();
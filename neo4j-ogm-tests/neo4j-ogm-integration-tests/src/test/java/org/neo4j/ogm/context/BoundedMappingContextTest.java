@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.context;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.ogm.domain.gh640.MyNodeWithAssignedId;
+import org.neo4j.ogm.domain.policy.Person;
+import org.neo4j.ogm.domain.policy.Policy;
+import org.neo4j.ogm.metadata.MetaData;
+
+/**
+ * Tests for the eviction of entities from a {@link MappingContext} with a bounded capacity.
+ */
+class BoundedMappingContextTest {
+
+    private MetaData metaData;
+
+    private MappingContext mappingContext;
+
+    @BeforeEach
+    void setUp() {
+        this.metaData = new MetaData("org.neo4j.ogm.domain.policy");
+        this.mappingContext = new MappingContext(metaData, false, 2);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntities() {
+
+        Person a = person(1L, "a");
+        Person b = person(2L, "b");
+        Person c = person(3L, "c");
+
+        mappingContext.addNodeEntity(a);
+        mappingContext.addNodeEntity(b);
+        assertThat(mappingContext.lookupNodeEntity(1L)).isSameAs(a);
+        mappingContext.addNodeEntity(c);
+
+        assertThat(mappingContext.lookupNodeEntity(1L)).isSameAs(a);
+        assertThat(mappingContext.lookupNodeEntity(2L)).isNull();
+        assertThat(mappingContext.lookupNodeEntity(3L)).isSameAs(c);
+        assertThat(mappingContext.isDirty(b)).isTrue();
+
+        MappingContext.Statistics statistics = mappingContext.getStatistics();
+        assertThat(statistics.nodeEntities()).isEqualTo(2);
+        assertThat(statistics.hits()).isEqualTo(3);
+        assertThat(statistics.misses()).isEqualTo(1);
+        assertThat(statistics.evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void internalLookupsShouldNeitherCountNorChangeTheOrderOfEviction() {
+
+        Person a = person(1L, "a");
+        Person b = person(2L, "b");
+
+        mappingContext.addNodeEntity(a);
+        mappingContext.addNodeEntity(b);
+        assertThat(mappingContext.getNodeEntity(1L)).isSameAs(a);
+        assertThat(mappingContext.getNodeEntity(4L)).isNull();
+        mappingContext.addNodeEntity(person(3L, "c"));
+
+        assertThat(mappingContext.getNodeEntity(1L)).isNull();
+        assertThat(mappingContext.getNodeEntity(2L)).isSameAs(b);
+        assertThat(mappingContext.getStatistics().hits()).isZero();
+        assertThat(mappingContext.getStatistics().misses()).isZero();
+    }
+
+    @Test
+    void shouldNotEvictDirtyEntities() {
+
+        Person a = person(1L, "a");
+        Person b = person(2L, "b");
+
+        mappingContext.addNodeEntity(a);
+        mappingContext.addNodeEntity(b);
+        a.setName("changed");
+        b.setName("changed");
+        mappingContext.addNodeEntity(person(3L, "c"));
+
+        assertThat(mappingContext.getNodeEntity(1L)).isSameAs(a);
+        assertThat(mappingContext.getNodeEntity(2L)).isSameAs(b);
+        assertThat(mappingContext.getStatistics().nodeEntities()).isEqualTo(3);
+        assertThat(mappingContext.getStatistics().evictions()).isZero();
+    }
+
+    @Test
+    void shouldDeferEvictionUntilTheLastLoadHasFinished() {
+
+        mappingContext.startLoad();
+        mappingContext.startLoad();
+        mappingContext.addNodeEntity(person(1L, "a"));
+        mappingContext.addNodeEntity(person(2L, "b"));
+        mappingContext.addNodeEntity(person(3L, "c"));
+        mappingContext.addNodeEntity(person(4L, "d"));
+        mappingContext.finishLoad();
+
+        assertThat(mappingContext.getStatistics().nodeEntities()).isEqualTo(4);
+
+        mappingContext.finishLoad();
+
+        assertThat(mappingContext.getNodeEntity(1L)).isNull();
+        assertThat(mappingContext.getNodeEntity(2L)).isNull();
+        assertThat(mappingContext.getStatistics().nodeEntities()).isEqualTo(2);
+        assertThat(mappingContext.getStatistics().evictions()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotEvictEntitiesOfTheOngoingTransaction() {
+
+        Person a = person(1L, "a");
+        mappingContext.addNodeEntity(a);
+        mappingContext.retainForTransaction(a);
+        mappingContext.addNodeEntity(person(2L, "b"));
+        mappingContext.addNodeEntity(person(3L, "c"));
+
+        assertThat(mappingContext.lookupNodeEntity(1L)).isSameAs(a);
+        assertThat(mappingContext.getNodeEntity(2L)).isNull();
+
+        mappingContext.releaseTransactionalEntities();
+        mappingContext.addNodeEntity(person(4L, "d"));
+
+        assertThat(mappingContext.getNodeEntity(3L)).isNull();
+        assertThat(mappingContext.getNodeEntity(1L)).isSameAs(a);
+    }
+
+    @Test
+    void shouldEvictRelationshipsAlongWithTheirNodes() {
+
+        Person jim = person(1L, "jim");
+        Policy policy = new Policy("healthcare");
+        policy.setId(2L);
+
+        mappingContext.addNodeEntity(jim);
+        mappingContext.addNodeEntity(policy);
+        MappedRelationship influences = new MappedRelationship(1L, "INFLUENCES", 2L, null, Person.class, Policy.class);
+        mappingContext.addRelationship(influences);
+
+        mappingContext.lookupNodeEntity(2L);
+        mappingContext.addNodeEntity(person(3L, "jane"));
+
+        // The policy is still known, so the relationship must be kept to detect its removal from the policy
+        assertThat(mappingContext.getNodeEntity(1L)).isNull();
+        assertThat(mappingContext.containsRelationship(influences)).isTrue();
+        assertThat(mappingContext.neighbours(policy)).isEmpty();
+
+        mappingContext.addNodeEntity(person(4L, "john"));
+
+        assertThat(mappingContext.getNodeEntity(2L)).isNull();
+        assertThat(mappingContext.containsRelationship(influences)).isFalse();
+        assertThat(mappingContext.getRelationshipsOf(1L)).isEmpty();
+    }
+
+    @Test
+    void shouldForgetPrimaryIdsOfEvictedEntities() {
+
+        MappingContext context = new MappingContext(new MetaData("org.neo4j.ogm.domain.gh640"), false, 2);
+        List<MyNodeWithAssignedId> nodes = new ArrayList<>();
+        for (long id = 0; id < 100; ++id) {
+            MyNodeWithAssignedId node = new MyNodeWithAssignedId("n" + id);
+            nodes.add(node);
+            context.addNodeEntity(node, id);
+        }
+
+        assertThat(nodes).filteredOn(node -> context.optionalNativeId(node).isPresent())
+            .extracting(MyNodeWithAssignedId::getName)
+            .containsExactly("n98", "n99");
+        assertThat(context.getStatistics().evictions()).isEqualTo(98);
+    }
+
+    @Test
+    void shouldNotEvictAnythingWhenUnbounded() {
+
+        MappingContext unbounded = new MappingContext(metaData);
+        for (long id = 0; id < 100; ++id) {
+            unbounded.addNodeEntity(person(id, "p" + id));
+        }
+
+        assertThat(unbounded.getStatistics().nodeEntities()).isEqualTo(100);
+        assertThat(unbounded.getStatistics().evictions()).isZero();
+        assertThatIllegalArgumentException().isThrownBy(() -> new MappingContext(metaData, false, -1));
+    }
+
+    private static Person person(Long id, String name) {
+        Person person = new Person(name);
+        person.setId(id);
+        return person;
+    }
+}
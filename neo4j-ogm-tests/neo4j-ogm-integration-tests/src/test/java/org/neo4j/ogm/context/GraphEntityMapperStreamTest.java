@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.context;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.ogm.domain.postload.User;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.metadata.reflect.ReflectionEntityInstantiator;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.response.model.DefaultGraphModel;
+import org.neo4j.ogm.response.model.DefaultGraphRowListModel;
+import org.neo4j.ogm.response.model.DefaultGraphRowModel;
+import org.neo4j.ogm.response.model.NodeModel;
+import org.neo4j.ogm.response.model.RelationshipModel;
+import org.neo4j.ogm.session.EntityInstantiator;
+
+/**
+ * Tests for mapping responses lazily into streams of entities. The graph consists of three users, with the second one
+ * being a friend of both others.
+ */
+class GraphEntityMapperStreamTest {
+
+    private MetaData metaData;
+
+    private MappingContext mappingContext;
+
+    private EntityInstantiator entityInstantiator;
+
+    @BeforeEach
+    void setUp() {
+        this.metaData = new MetaData("org.neo4j.ogm.domain.postload");
+        this.mappingContext = new MappingContext(metaData);
+        this.entityInstantiator = new ReflectionEntityInstantiator(metaData);
+        User.resetPostLoadCount();
+    }
+
+    @Test
+    void shouldReturnAndPostProcessEntitiesOfSeveralRowsOnce() {
+
+        // One row per user, containing the user and its friends, as loaded with depth 1
+        DefaultGraphRowListModel rows = new DefaultGraphRowListModel();
+        rows.add(new DefaultGraphRowModel(graph(1L, 2L), new Object[] { 1L }));
+        rows.add(new DefaultGraphRowModel(graph(2L, 1L, 3L), new Object[] { 2L }));
+        rows.add(new DefaultGraphRowModel(graph(3L, 2L), new Object[] { 3L }));
+
+        GraphRowListModelMapper mapper = new GraphRowListModelMapper(metaData, mappingContext, entityInstantiator);
+        try (Stream<User> users = mapper.stream(User.class, responseOf(rows))) {
+            Iterator<User> iterator = users.iterator();
+
+            User first = iterator.next();
+            assertThat(first.getId()).isEqualTo(1L);
+            // The friend in the first row is not returned yet and hasn't been post processed
+            assertThat(User.getPostLoadCount()).isEqualTo(1);
+
+            User second = iterator.next();
+            assertThat(second.getId()).isEqualTo(2L);
+            assertThat(User.getPostLoadCount()).isEqualTo(2);
+
+            User third = iterator.next();
+            assertThat(third.getId()).isEqualTo(3L);
+            assertThat(iterator.hasNext()).isFalse();
+            assertThat(User.getPostLoadCount()).isEqualTo(3);
+            assertThat(second.getFriends()).containsExactlyInAnyOrder(first, third);
+        }
+    }
+
+    @Test
+    void shouldPostProcessEntitiesNotReturnedAfterTheLastRow() {
+
+        DefaultGraphRowListModel rows = new DefaultGraphRowListModel();
+        rows.add(new DefaultGraphRowModel(graph(1L, 2L), new Object[] { 1L }));
+        rows.add(new DefaultGraphRowModel(graph(3L, 2L), new Object[] { 3L }));
+
+        GraphRowListModelMapper mapper = new GraphRowListModelMapper(metaData, mappingContext, entityInstantiator);
+        try (Stream<User> users = mapper.stream(User.class, responseOf(rows))) {
+            assertThat(users).extracting(User::getId).containsExactly(1L, 3L);
+        }
+
+        assertThat(User.getPostLoadCount()).isEqualTo(3);
+        assertThat(((User) mappingContext.getNodeEntity(2L)).getFriends()).hasSize(2);
+    }
+
+    @Test
+    void shouldReturnEntitiesOfSeveralGraphModelsOnce() {
+
+        GraphRowModelMapper mapper = new GraphRowModelMapper(metaData, mappingContext, entityInstantiator);
+        try (Stream<User> users = mapper.stream(User.class, responseOf(graph(1L, 2L), graph(2L, 3L)))) {
+            assertThat(users).extracting(User::getId).containsExactly(1L, 2L, 3L);
+        }
+
+        assertThat(User.getPostLoadCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRememberRelationshipsOfStreamedEntitiesForDirtyTracking() {
+
+        this.mappingContext = new MappingContext(metaData, false, MappingContext.UNBOUNDED, true);
+
+        GraphRowModelMapper mapper = new GraphRowModelMapper(metaData, mappingContext, entityInstantiator);
+        try (Stream<User> users = mapper.stream(User.class, responseOf(graph(1L, 2L), graph(2L, 3L)))) {
+            assertThat(users).allSatisfy(user -> assertThat(mappingContext.haveRelationshipsChanged(user)).isFalse());
+        }
+
+        User second = (User) mappingContext.getNodeEntity(2L);
+        second.getFriends().add(new User());
+        assertThat(mappingContext.haveRelationshipsChanged(second)).isTrue();
+    }
+
+    /**
+     * Creates a graph model with the given user, which is a friend of all other given users.
+     */
+    private static DefaultGraphModel graph(Long user, Long... friends) {
+
+        DefaultGraphModel graphModel = new DefaultGraphModel();
+        graphModel.addNode(user(user));
+        for (Long friend : friends) {
+            graphModel.addNode(user(friend));
+
+            // The relationships always point from the user with the lower id to the other one
+            RelationshipModel friendOf = new RelationshipModel();
+            friendOf.setId(Math.min(user, friend) * 10 + Math.max(user, friend));
+            friendOf.setType("FRIEND_OF");
+            friendOf.setStartNode(Math.min(user, friend));
+            friendOf.setEndNode(Math.max(user, friend));
+            graphModel.addRelationship(friendOf);
+        }
+        return graphModel;
+    }
+
+    private static NodeModel user(Long id) {
+        NodeModel nodeModel = new NodeModel(id);
+        nodeModel.setLabels(new String[] { "User" });
+        return nodeModel;
+    }
+
+    private static Response<GraphRowListModel> responseOf(GraphRowListModel graphRowListModel) {
+        return new TestResponse<>(List.of(graphRowListModel));
+    }
+
+    private static Response<GraphModel> responseOf(GraphModel... graphModels) {
+        return new TestResponse<>(Arrays.asList(graphModels));
+    }
+
+    private static class TestResponse<T> implements Response<T> {
+
+        private final Deque<T> models;
+
+        TestResponse(List<T> models) {
+            this.models = new ArrayDeque<>(models);
+        }
+
+        @Override
+        public T next() {
+            return models.poll();
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String[] columns() {
+            return new String[0];
+        }
+    }
+}
@@ -61,6 +61,17 @@ public class IdentityMapTest {
         assertThat(mappingContext.isDirty(teacher)).isTrue();
     }
 
+    @Test
+    void testChangedPropertyWithSameHashCodeDetected() {
+        Teacher teacher = new Teacher("Aa");
+
+        teacher.setId(115L);
+        mappingContext.addNodeEntity(teacher);
+
+        teacher.setName("BB"); // "Aa" and "BB" have the same hash code
+        assertThat(mappingContext.isDirty(teacher)).isTrue();
+    }
+
     @Test
     void testRelatedObjectChangeDoesNotAffectNodeMemoisation() {
         Teacher teacher = new Teacher("Miss White");
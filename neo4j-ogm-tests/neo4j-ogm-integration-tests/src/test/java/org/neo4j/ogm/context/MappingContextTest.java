@@ -171,6 +171,58 @@ public class MappingContextTest {
         assertThat(mappingContext.getRelationships()).hasSize(1);
     }
 
+    @Test
+    void neighboursAreResolvedFromBothDirections() {
+        Person jim = new Person("jim");
+        jim.setId(1L);
+
+        Policy healthcare = new Policy("healthcare");
+        healthcare.setId(2L);
+
+        Person rik = new Person("rik");
+        rik.setId(3L);
+
+        Person unrelated = new Person("unrelated");
+        unrelated.setId(4L);
+
+        mappingContext.addNodeEntity(jim);
+        mappingContext.addNodeEntity(healthcare);
+        mappingContext.addNodeEntity(rik);
+        mappingContext.addNodeEntity(unrelated);
+
+        mappingContext.addRelationship(
+            new MappedRelationship(jim.getId(), "INFLUENCES", healthcare.getId(), null, Person.class, Policy.class));
+        mappingContext.addRelationship(
+            new MappedRelationship(rik.getId(), "WORKS_WITH", jim.getId(), null, Person.class, Person.class));
+        mappingContext.addRelationship(
+            new MappedRelationship(jim.getId(), "LIKES", jim.getId(), null, Person.class, Person.class));
+
+        assertThat(mappingContext.neighbours(jim)).containsExactlyInAnyOrder(jim, healthcare, rik);
+        assertThat(mappingContext.neighbours(unrelated)).isEmpty();
+    }
+
+    @Test
+    void relationshipIndexIsMaintainedOnIteratorRemoval() {
+        Person jim = new Person("jim");
+        jim.setId(1L);
+
+        Policy healthcare = new Policy("healthcare");
+        healthcare.setId(2L);
+
+        mappingContext.addNodeEntity(jim);
+        mappingContext.addNodeEntity(healthcare);
+
+        MappedRelationship influences =
+            new MappedRelationship(jim.getId(), "INFLUENCES", healthcare.getId(), null, Person.class, Policy.class);
+        mappingContext.addRelationship(influences);
+
+        mappingContext.getRelationships().removeIf(influences::equals);
+
+        assertThat(mappingContext.getRelationshipsOf(jim.getId())).isEmpty();
+        assertThat(mappingContext.getRelationshipsOf(healthcare.getId())).isEmpty();
+        assertThat(mappingContext.neighbours(jim)).isEmpty();
+    }
+
     @Test
     void areObjectsReportedAsDirtyCorrectly() {
         Person jim = new Person("jim");
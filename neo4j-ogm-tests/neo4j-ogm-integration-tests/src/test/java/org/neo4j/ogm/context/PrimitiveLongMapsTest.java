@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.context;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the primitive long keyed maps backing the registers of the {@link MappingContext}.
+ */
+class PrimitiveLongMapsTest {
+
+    @Test
+    void longObjectMapShouldKeepInsertionOrder() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+        map.put(42L, "a");
+        map.put(-1L, "b");
+        map.put(0L, "c");
+        map.put(Long.MIN_VALUE, "d");
+        map.put(42L, "e");
+
+        assertThat(map.values()).containsExactly("e", "b", "c", "d");
+        assertThat(map.get(Long.MIN_VALUE)).isEqualTo("d");
+        assertThat(map.get(7L)).isNull();
+        assertThat(map.putIfAbsent(0L, "x")).isEqualTo("c");
+        assertThat(map.size()).isEqualTo(4);
+
+        assertThat(map.moveToLast(-1L)).isTrue();
+        assertThat(map.moveToLast(7L)).isFalse();
+        assertThat(map.values()).containsExactly("e", "c", "d", "b");
+    }
+
+    @Test
+    void longObjectMapShouldBehaveLikeALinkedHashMap() {
+        LongObjectHashMap<Long> map = new LongObjectHashMap<>();
+        Map<Long, Long> reference = new LinkedHashMap<>();
+        Random random = new Random(4711);
+
+        for (int i = 0; i < 100_000; ++i) {
+            long key = random.nextInt(5_000) - 2_500;
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(reference.remove(key));
+            } else {
+                assertThat(map.put(key, (long) i)).isEqualTo(reference.put(key, (long) i));
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(reference.size());
+        assertThat(map.values()).containsExactlyElementsOf(reference.values());
+        reference.forEach((k, v) -> assertThat(map.get(k)).isEqualTo(v));
+    }
+
+    @Test
+    void longObjectMapShouldSupportRemovalThroughValues() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+        for (long i = 0; i < 100; ++i) {
+            map.put(i, Long.toString(i));
+        }
+
+        Iterator<String> values = map.values().iterator();
+        while (values.hasNext()) {
+            if (Long.parseLong(values.next()) % 2 == 0) {
+                values.remove();
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(50);
+        assertThat(map.containsKey(2L)).isFalse();
+        assertThat(map.get(3L)).isEqualTo("3");
+
+        map.clear();
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.values()).isEmpty();
+    }
+
+    @Test
+    void longLongMapShouldBehaveLikeAHashMap() {
+        LongLongHashMap map = new LongLongHashMap();
+        Map<Long, Long> reference = new HashMap<>();
+        Random random = new Random(4711);
+
+        for (int i = 0; i < 100_000; ++i) {
+            long key = random.nextLong() % 3_000;
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(reference.remove(key) != null);
+            } else {
+                long value = random.nextLong();
+                map.put(key, value);
+                reference.put(key, value);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(reference.size());
+        reference.forEach((k, v) -> {
+            assertThat(map.containsKey(k)).isTrue();
+            assertThat(map.getOrDefault(k, 0L)).isEqualTo(v);
+        });
+        assertThat(map.containsKey(3_000L)).isFalse();
+    }
+}
@@ -67,6 +67,57 @@ public class REMappingContextTest {
         assertThat(entity).isNull();
     }
 
+    @Test
+    void replacingStartNodeDeregistersDependentRelationshipEntities() {
+        User from = new User();
+        from.id = 10L;
+        User to = new User();
+        to.id = 11L;
+        likes.from = from;
+        likes.to = to;
+
+        context.addNodeEntity(from);
+        context.addNodeEntity(to);
+        context.addRelationshipEntity(likes, 1L);
+
+        context.replaceNodeEntity(from, 10L);
+
+        assertThat(context.getRelationshipEntity(1L)).isNull();
+        assertThat(context.getNodeEntity(10L)).isSameAs(from);
+    }
+
+    @Test
+    void removingEndNodeKeepsUnrelatedRelationshipEntities() {
+        User a = new User();
+        a.id = 10L;
+        User b = new User();
+        b.id = 11L;
+        User c = new User();
+        c.id = 12L;
+        likes.from = a;
+        likes.to = b;
+        Likes other = new Likes();
+        other.id = 2L;
+        other.uuid = "other-uuid";
+        other.from = c;
+        other.to = a;
+
+        context.addNodeEntity(a);
+        context.addNodeEntity(b);
+        context.addNodeEntity(c);
+        context.addRelationshipEntity(likes, 1L);
+        context.addRelationshipEntity(other, 2L);
+
+        context.removeNodeEntity(b, true);
+
+        assertThat(context.getRelationshipEntity(1L)).isNull();
+        assertThat(context.getRelationshipEntity(2L)).isSameAs(other);
+
+        context.removeNodeEntity(a, true);
+
+        assertThat(context.getRelationshipEntity(2L)).isNull();
+    }
+
     @NodeEntity
     static class User {
 
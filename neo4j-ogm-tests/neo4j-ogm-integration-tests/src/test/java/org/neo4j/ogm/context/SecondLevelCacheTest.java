@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.context;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.ogm.domain.bike.Bike;
+import org.neo4j.ogm.domain.bike.Wheel;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.response.model.NodeModel;
+import org.neo4j.ogm.transaction.Transaction;
+
+/**
+ * Tests for the {@link SecondLevelCache} shared between the sessions of a session factory.
+ */
+class SecondLevelCacheTest {
+
+    private ClassInfo bikeInfo;
+
+    private SecondLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        MetaData metaData = new MetaData("org.neo4j.ogm.domain.bike");
+        this.bikeInfo = metaData.classInfo(Bike.class.getName());
+        this.cache = new SecondLevelCache(List.of(Bike.class));
+    }
+
+    @Test
+    void shouldOnlyCacheConfiguredTypes() {
+        MetaData metaData = new MetaData("org.neo4j.ogm.domain.bike");
+
+        assertThat(cache.isCacheable(bikeInfo)).isTrue();
+        assertThat(cache.isCacheable(metaData.classInfo(Wheel.class.getName()))).isFalse();
+        assertThat(new SecondLevelCache(List.of()).isCacheable(metaData.classInfo(Wheel.class.getName()))).isTrue();
+    }
+
+    @Test
+    void shouldServeIndependentCopiesOfCachedNodes() {
+
+        NodeModel bike = bike(15L, "red", "black");
+        cache.put(cache.generation(), bike, bikeInfo, null);
+        ((String[]) bike.getPropertyList().get(0).getValue())[0] = "green";
+
+        GraphModel cached = cache.get(bikeInfo, List.of(15L)).orElseThrow();
+        Node node = cached.getNodes().iterator().next();
+        assertThat(node.getId()).isEqualTo(15L);
+        assertThat(node.getLabels()).containsExactly("Bike");
+        String[] colours = (String[]) ((NodeModel) node).property("colours");
+        assertThat(colours).containsExactly("red", "black");
+
+        colours[0] = "blue";
+        assertThat((String[]) ((NodeModel) cache.get(bikeInfo, List.of(15L)).orElseThrow().getNodes().iterator().next())
+            .property("colours")).containsExactly("red", "black");
+
+        assertThat(cache.get(bikeInfo, List.of(15L, 16L))).isEmpty();
+    }
+
+    @Test
+    void shouldNotCacheNodesReadBeforeAnInvalidation() {
+
+        long generation = cache.generation();
+        cache.invalidate(null, List.of(15L));
+        cache.put(generation, bike(15L, "red"), bikeInfo, null);
+
+        assertThat(cache.get(bikeInfo, List.of(15L))).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldInvalidateAgainWhenTheWritingTransactionCloses() {
+
+        Transaction transaction = mock(Transaction.class);
+        cache.invalidate(transaction, List.of(15L));
+
+        // A node read concurrently to the ongoing write
+        cache.put(cache.generation(), bike(15L, "red"), bikeInfo, null);
+        assertThat(cache.get(bikeInfo, List.of(15L))).isPresent();
+
+        cache.transactionClosed(transaction, true, "bookmark");
+
+        assertThat(cache.get(bikeInfo, List.of(15L))).isEmpty();
+        assertThat(cache.bookmarks()).containsExactly("bookmark");
+    }
+
+    @Test
+    void shouldNotRememberBookmarksOfRolledBackTransactions() {
+
+        Transaction transaction = mock(Transaction.class);
+        cache.invalidateAll(transaction);
+        cache.transactionClosed(transaction, false, "bookmark");
+
+        assertThat(cache.bookmarks()).isEmpty();
+    }
+
+    private static NodeModel bike(Long id, String... colours) {
+        NodeModel nodeModel = new NodeModel(id);
+        nodeModel.setLabels(new String[] { "Bike" });
+        nodeModel.setProperties(Map.of("colours", colours));
+        return nodeModel;
+    }
+}
@@ -22,6 +22,7 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -111,6 +112,41 @@ public class DirectRelationshipsTest {
             "UNWIND $rows as row MATCH (startNode) WHERE ID(startNode) = row.startNodeId WITH row,startNode MATCH (endNode) WHERE ID(endNode) = row.endNodeId MERGE (startNode)-[rel:`CONTAINS`]->(endNode) RETURN row.relRef as ref, ID(rel) as id, $type as type");
     }
 
+    @Test
+    void shouldCreateNewFolderDocumentPairInOneStatement() {
+
+        Folder folder = new Folder();
+        Document document = new Document();
+
+        folder.getDocuments().add(document);
+        document.setFolder(folder);
+
+        Compiler compiler = mapper.map(folder).getCompiler();
+        compiler.useStatementFactory(new RowStatementFactory());
+
+        assertThat(compiler.hasStatementsDependentOnNewNodes()).isTrue();
+        List<Statement> statements = compiler.createSubgraphStatements();
+        assertThat(statements).hasSize(1);
+
+        String cypher = statements.get(0).getStatement();
+        assertThat(cypher)
+            .startsWith("CALL { UNWIND $nodeRows0 as row CREATE (n:")
+            .contains("UNION ALL UNWIND $nodeRows1 as row CREATE (n:")
+            .contains("WITH nodeRef, n ORDER BY nodeRef WITH collect(nodeRef) as nodeRefs, collect(n) as nodes ")
+            .contains("WITH nodes UNWIND $relRows0 as row ")
+            .contains("MERGE (startNode)-[rel:`CONTAINS`]->(endNode) RETURN collect([row.relRef, ID(rel)]) as rels ")
+            .endsWith("RETURN result[0] as ref, result[1] as id, result[2] as type");
+        assertThat(cypher).doesNotContain("UNION ALL WITH nodes");
+
+        // The relationship refers to both new nodes by their position in the list sorted by reference
+        Long folderRef = mappingContext.nativeId(folder);
+        Long documentRef = mappingContext.nativeId(document);
+        Map<String, Object> row = ((List<Map<String, Object>>) statements.get(0).getParameters().get("relRows0")).get(0);
+        assertThat(row.get("startNodeIndex")).isEqualTo(folderRef < documentRef ? 0 : 1);
+        assertThat(row.get("endNodeIndex")).isEqualTo(folderRef < documentRef ? 1 : 0);
+        assertThat(row).doesNotContainKeys("startNodeId", "endNodeId");
+    }
+
     @Test
     void shouldSaveNewFolderWithTwoDocuments() {
 
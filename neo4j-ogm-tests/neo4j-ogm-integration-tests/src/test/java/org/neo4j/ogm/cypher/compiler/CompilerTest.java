@@ -59,6 +59,7 @@ import org.neo4j.ogm.domain.travel.Visit;
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.request.Statement;
 import org.neo4j.ogm.session.request.RowStatementFactory;
+import org.neo4j.ogm.utils.EntityUtils;
 
 /**
  * @author Vince Bickers
@@ -113,6 +114,34 @@ public class CompilerTest {
         );
     }
 
+    @Test
+    void shouldSplitStatementsIntoChunksOfBoundedRows() {
+
+        Course course = new Course("Physics");
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            students.add(new Student("Student " + i));
+        }
+        course.setStudents(students);
+
+        Compiler compiler = mapAndCompile(course, -1);
+        compiler.useMaxRowsPerStatement(2);
+
+        List<Statement> createNodesStatements = compiler.createNodesStatements();
+        assertThat(createNodesStatements).hasSize(4);
+        assertThat(createNodesStatements)
+            .extracting(statement -> ((List<?>) statement.getParameters().get("rows")).size())
+            .containsExactlyInAnyOrder(1, 2, 2, 1);
+
+        List<Statement> createRelationshipsStatements = compiler.createRelationshipsStatements();
+        assertThat(createRelationshipsStatements)
+            .extracting(statement -> ((List<?>) statement.getParameters().get("rows")).size())
+            .containsExactly(2, 2, 1);
+
+        // A single statement for the whole subgraph would exceed the limit
+        assertThat(compiler.createSubgraphStatements()).isEmpty();
+    }
+
     @Test
     void createSingleStatementForLabelsInDifferentOrder() throws Exception {
         Franchise franchise = new Franchise();
@@ -158,6 +187,56 @@ public class CompilerTest {
         );
     }
 
+    @Test
+    void updateOnlyChangedPropertiesOfExistingNodes() {
+
+        Restaurant restaurant = new Restaurant("La Strada", "Italian");
+        restaurant.setZip(12345);
+        EntityUtils.setIdentity(restaurant, 0L, mappingMetadata);
+        mappingContext.addNodeEntity(restaurant);
+
+        restaurant.setScore(4.5);
+
+        Compiler compiler = mapAndCompile(restaurant, -1);
+        List<Statement> statements = compiler.updateNodesStatements();
+        assertThat(statements).hasSize(1);
+        List<Map<String, Object>> rows = (List<Map<String, Object>>) statements.get(0).getParameters().get("rows");
+        assertThat(rows).hasSize(1);
+        assertThat((Map<String, Object>) rows.get(0).get("props")).containsOnlyKeys("score");
+    }
+
+    @Test
+    void updateChangedPropertiesWhoseHashesCollide() {
+
+        Restaurant restaurant = new Restaurant("Aa", "Italian");
+        restaurant.setScore(0.0);
+        EntityUtils.setIdentity(restaurant, 0L, mappingMetadata);
+        mappingContext.addNodeEntity(restaurant);
+
+        // Both the new name and the new score have the same hash codes as the old ones
+        restaurant.setName("BB");
+        restaurant.setScore(Double.longBitsToDouble(0x0000000100000001L));
+        restaurant.setZip(12345);
+
+        Compiler compiler = mapAndCompile(restaurant, -1);
+        List<Statement> statements = compiler.updateNodesStatements();
+        List<Map<String, Object>> rows = (List<Map<String, Object>>) statements.get(0).getParameters().get("rows");
+        assertThat((Map<String, Object>) rows.get(0).get("props")).containsOnlyKeys("name", "score", "zip");
+    }
+
+    @Test
+    void updateAllPropertiesOfExistingNodesUnknownToTheContext() {
+
+        Restaurant restaurant = new Restaurant("La Strada", "Italian");
+        EntityUtils.setIdentity(restaurant, 0L, mappingMetadata);
+
+        Compiler compiler = mapAndCompile(restaurant, -1);
+        List<Statement> statements = compiler.updateNodesStatements();
+        assertThat(statements).hasSize(1);
+        List<Map<String, Object>> rows = (List<Map<String, Object>>) statements.get(0).getParameters().get("rows");
+        assertThat((Map<String, Object>) rows.get(0).get("props")).containsKeys("name", "description", "zip", "score");
+    }
+
     @Test
     void doNothingIfNothingHasChanged() {
 
@@ -392,6 +471,205 @@ public class CompilerTest {
         }
     }
 
+    @Test
+    void shouldOnlyTraverseIntoMarkedEntitiesWithDirtyTracking() {
+
+        mappingContext = new MappingContext(mappingMetadata, false, MappingContext.UNBOUNDED, true);
+
+        Teacher mrsJones = new Teacher("Mrs Jones");
+        mrsJones.setId(10L);
+        Course music = new Course("GCSE Music");
+        music.setId(0L);
+        Student xavier = new Student("Xavier");
+        xavier.setId(1L);
+        Student yvonne = new Student("Yvonne");
+        yvonne.setId(2L);
+        Student zack = new Student("Zack");
+        zack.setId(3L);
+        Student unrelated = new Student("Unrelated");
+        unrelated.setId(4L);
+
+        mrsJones.setCourses(Collections.singletonList(music));
+        music.setStudents(Arrays.asList(xavier, yvonne, zack));
+
+        mappingContext.addRelationship(new MappedRelationship(10L, "COURSES", 0L, null, Teacher.class, Course.class));
+        mappingContext.addRelationship(new MappedRelationship(0L, "STUDENTS", 1L, null, Course.class, Student.class));
+        mappingContext.addRelationship(new MappedRelationship(0L, "STUDENTS", 2L, null, Course.class, Student.class));
+        mappingContext.addRelationship(new MappedRelationship(0L, "STUDENTS", 3L, null, Course.class, Student.class));
+        for (Object entity : Arrays.asList(mrsJones, music, xavier, yvonne, zack, unrelated)) {
+            mappingContext.addNodeEntity(entity);
+        }
+
+        yvonne.setName("Yvonne Smith");
+        mappingContext.markDirty(yvonne);
+        unrelated.setName("Still unrelated");
+        mappingContext.markDirty(unrelated);
+        zack.setName("Zack Miller");
+
+        Compiler compiler = mapAndCompile(mrsJones, -1);
+
+        List<Statement> statements = compiler.updateNodesStatements();
+        assertThat(statements).hasSize(1);
+        assertThat((List<Map<String, Object>>) statements.get(0).getParameters().get("rows"))
+            .extracting(row -> row.get("nodeId"))
+            .containsExactly(2L);
+        assertThat(compiler.deleteRelationshipStatements()).isEmpty();
+    }
+
+    @Test
+    void shouldTraverseIntoUnmarkedEntitiesWithChangedRelationshipsWithDirtyTracking() {
+
+        mappingContext = new MappingContext(mappingMetadata, false, MappingContext.UNBOUNDED, true);
+
+        Teacher mrsJones = new Teacher("Mrs Jones");
+        mrsJones.setId(10L);
+        Course music = new Course("GCSE Music");
+        music.setId(0L);
+        Course maths = new Course("A-Level Maths");
+        maths.setId(1L);
+        Student xavier = new Student("Xavier");
+        xavier.setId(2L);
+        Student yvonne = new Student("Yvonne");
+        yvonne.setId(3L);
+
+        mrsJones.setCourses(Arrays.asList(music, maths));
+        music.setStudents(new ArrayList<>(Collections.singletonList(xavier)));
+        maths.setStudents(Collections.singletonList(yvonne));
+
+        mappingContext.addRelationship(new MappedRelationship(10L, "COURSES", 0L, null, Teacher.class, Course.class));
+        mappingContext.addRelationship(new MappedRelationship(10L, "COURSES", 1L, null, Teacher.class, Course.class));
+        mappingContext.addRelationship(new MappedRelationship(0L, "STUDENTS", 2L, null, Course.class, Student.class));
+        mappingContext.addRelationship(new MappedRelationship(1L, "STUDENTS", 3L, null, Course.class, Student.class));
+        for (Object entity : Arrays.asList(mrsJones, music, maths, xavier, yvonne)) {
+            mappingContext.addNodeEntity(entity);
+        }
+
+        // Neither course is marked, but the students of both have changed
+        music.getStudents().add(new Student("Zack"));
+        maths.setStudents(Collections.emptyList());
+
+        Compiler compiler = mapAndCompile(mrsJones, -1);
+
+        assertThat(compiler.createNodesStatements()).hasSize(1);
+        assertThat(compiler.createRelationshipsStatements()).hasSize(1);
+        List<Statement> deleteRelsStatement = compiler.deleteRelationshipStatements();
+        assertThat(deleteRelsStatement).hasSize(1);
+        assertThat((List<Map<String, Object>>) deleteRelsStatement.get(0).getParameters().get("rows"))
+            .extracting(row -> row.get("endNodeId"))
+            .containsExactly(3L);
+    }
+
+    @Test
+    void shouldTraverseIntoUnmarkedEntitiesWithRelatedEntitiesReplacedInPlaceWithDirtyTracking() {
+
+        mappingContext = new MappingContext(mappingMetadata, false, MappingContext.UNBOUNDED, true);
+
+        Teacher mrsJones = new Teacher("Mrs Jones");
+        mrsJones.setId(10L);
+        Course music = new Course("GCSE Music");
+        music.setId(0L);
+        Student xavier = new Student("Xavier");
+        xavier.setId(1L);
+        Student yvonne = new Student("Yvonne");
+        yvonne.setId(2L);
+
+        mrsJones.setCourses(Collections.singletonList(music));
+        music.setStudents(new ArrayList<>(Arrays.asList(xavier, yvonne)));
+
+        mappingContext.addRelationship(new MappedRelationship(10L, "COURSES", 0L, null, Teacher.class, Course.class));
+        mappingContext.addRelationship(new MappedRelationship(0L, "STUDENTS", 1L, null, Course.class, Student.class));
+        mappingContext.addRelationship(new MappedRelationship(0L, "STUDENTS", 2L, null, Course.class, Student.class));
+        for (Object entity : Arrays.asList(mrsJones, music, xavier, yvonne)) {
+            mappingContext.addNodeEntity(entity);
+        }
+
+        // The collection keeps its identity and size, only one of its elements is replaced
+        music.getStudents().set(0, new Student("Zack"));
+
+        Compiler compiler = mapAndCompile(mrsJones, -1);
+
+        assertThat(compiler.createNodesStatements()).hasSize(1);
+        assertThat(compiler.createRelationshipsStatements()).hasSize(1);
+        List<Statement> deleteRelsStatement = compiler.deleteRelationshipStatements();
+        assertThat(deleteRelsStatement).hasSize(1);
+        assertThat((List<Map<String, Object>>) deleteRelsStatement.get(0).getParameters().get("rows"))
+            .extracting(row -> row.get("endNodeId"))
+            .containsExactly(1L);
+    }
+
+    @Test
+    void shouldMapChangedRelationshipsOfMarkedEntitiesWithDirtyTracking() {
+
+        mappingContext = new MappingContext(mappingMetadata, false, MappingContext.UNBOUNDED, true);
+
+        Teacher mrsJones = new Teacher("Mrs Jones");
+        mrsJones.setId(10L);
+        Course music = new Course("GCSE Music");
+        music.setId(0L);
+        Student xavier = new Student("Xavier");
+        xavier.setId(1L);
+        Student yvonne = new Student("Yvonne");
+        yvonne.setId(2L);
+
+        mrsJones.setCourses(Collections.singletonList(music));
+        music.setStudents(Arrays.asList(xavier, yvonne));
+
+        mappingContext.addRelationship(new MappedRelationship(10L, "COURSES", 0L, null, Teacher.class, Course.class));
+        mappingContext.addRelationship(new MappedRelationship(0L, "STUDENTS", 1L, null, Course.class, Student.class));
+        mappingContext.addRelationship(new MappedRelationship(0L, "STUDENTS", 2L, null, Course.class, Student.class));
+        for (Object entity : Arrays.asList(mrsJones, music, xavier, yvonne)) {
+            mappingContext.addNodeEntity(entity);
+        }
+
+        music.setStudents(Arrays.asList(yvonne, new Student("Zack")));
+        mappingContext.markDirty(music);
+
+        Compiler compiler = mapAndCompile(mrsJones, -1);
+
+        assertThat(compiler.updateNodesStatements()).isEmpty();
+        assertThat(compiler.createNodesStatements()).hasSize(1);
+        List<Statement> deleteRelsStatement = compiler.deleteRelationshipStatements();
+        assertThat(deleteRelsStatement).hasSize(1);
+        assertThat((List<Map<String, Object>>) deleteRelsStatement.get(0).getParameters().get("rows"))
+            .extracting(row -> row.get("endNodeId"))
+            .containsExactly(1L);
+    }
+
+    @Test
+    void shouldRemoveRelationshipToEvictedEntityFromRetainedEntity() {
+
+        mappingContext = new MappingContext(mappingMetadata, false, 2);
+
+        Course music = new Course("GCSE Music");
+        music.setId(0L);
+        Student xavier = new Student("Xavier");
+        xavier.setId(1L);
+        Student yvonne = new Student("Yvonne");
+        yvonne.setId(2L);
+
+        music.setStudents(Arrays.asList(xavier, yvonne));
+
+        mappingContext.addRelationship(new MappedRelationship(0L, "STUDENTS", 1L, null, Course.class, Student.class));
+        mappingContext.addRelationship(new MappedRelationship(0L, "STUDENTS", 2L, null, Course.class, Student.class));
+        mappingContext.addNodeEntity(music);
+        mappingContext.addNodeEntity(xavier);
+        mappingContext.lookupNodeEntity(0L);
+        mappingContext.addNodeEntity(yvonne);
+
+        assertThat(mappingContext.getNodeEntity(1L)).isNull();
+
+        music.setStudents(Collections.singletonList(yvonne));
+
+        Compiler compiler = mapAndCompile(music, -1);
+
+        assertThat(compiler.createRelationshipsStatements()).isEmpty();
+        List<Statement> deleteRelsStatement = compiler.deleteRelationshipStatements();
+        assertThat(deleteRelsStatement).hasSize(1);
+        assertThat((List<Map<String, Object>>) deleteRelsStatement.get(0).getParameters().get("rows"))
+            .extracting(row -> row.get("endNodeId"))
+            .containsExactly(1L);
+    }
+
     @Test
     void shouldCorrectlyRemoveRelationshipWhenItemIsRemovedFromCollection() {
 
@@ -744,6 +1022,8 @@ public class CompilerTest {
             "UNWIND $rows AS row MATCH ()-[r]->() WHERE ID(r) = row.relId SET r += row.props RETURN ID(r) as ref, ID(r) as id, $type as type"
         );
         assertThat((List) statements.get(0).getParameters().get("rows")).hasSize(1);
+        Map<String, Object> row = ((List<Map<String, Object>>) statements.get(0).getParameters().get("rows")).get(0);
+        assertThat((Map<String, Object>) row.get("props")).containsOnlyKeys("timestamp");
     }
 
     @Test
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.drivers.bolt.driver;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.internal.InternalNode;
+import org.neo4j.driver.internal.InternalRelationship;
+import org.neo4j.ogm.driver.TypeSystem;
+import org.neo4j.ogm.drivers.bolt.response.BoltGraphModelAdapter;
+import org.neo4j.ogm.model.Edge;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.model.Property;
+
+class BoltEntityAdapterTest {
+
+    private final BoltEntityAdapter entityAdapter = new BoltEntityAdapter(TypeSystem.NoNativeTypes.INSTANCE);
+
+    @Test
+    void shouldReadPropertiesStraightFromNativeEntities() {
+
+        Map<String, Value> nodeProperties = new HashMap<>();
+        nodeProperties.put("name", Values.value("Alice"));
+        nodeProperties.put("nicknames", Values.value(List.of("Al", "Ali")));
+        nodeProperties.put("bytes", Values.value(new byte[] { 1, 2 }));
+        nodeProperties.put("age", Values.value(42L));
+        InternalNode node = new InternalNode(1L, List.of("Person"), nodeProperties);
+        InternalRelationship relationship = new InternalRelationship(2L, 1L, 1L, "KNOWS",
+            Map.of("since", Values.value(2020L)));
+
+        GraphModel graphModel = new BoltGraphModelAdapter(entityAdapter).adapt(Map.of("n", node, "r", relationship));
+
+        Node nodeModel = graphModel.getNodes().iterator().next();
+        assertThat(nodeModel.getLabels()).containsExactly("Person");
+        assertThat(toMap(nodeModel.getPropertyList()))
+            .containsEntry("name", "Alice")
+            .containsEntry("nicknames", List.of("Al", "Ali"))
+            .containsEntry("bytes", List.of((byte) 1, (byte) 2))
+            .containsEntry("age", 42L)
+            .hasSize(4);
+
+        Edge edgeModel = graphModel.getRelationships().iterator().next();
+        assertThat(edgeModel.getType()).isEqualTo("KNOWS");
+        assertThat(toMap(edgeModel.getPropertyList())).containsExactly(Map.entry("since", 2020L));
+    }
+
+    private static Map<String, Object> toMap(List<Property<String, Object>> propertyList) {
+
+        Map<String, Object> result = new HashMap<>();
+        propertyList.forEach(property -> result.put(property.getKey(), property.getValue()));
+        return result;
+    }
+}
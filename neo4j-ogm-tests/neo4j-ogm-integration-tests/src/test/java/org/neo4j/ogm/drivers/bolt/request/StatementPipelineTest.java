@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.drivers.bolt.request;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.ogm.context.EntityGraphMapper;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.cypher.compiler.Compiler;
+import org.neo4j.ogm.domain.education.Course;
+import org.neo4j.ogm.domain.education.Student;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.request.OptimisticLockingConfig;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.session.request.RowDataStatement;
+import org.neo4j.ogm.session.request.RowStatementFactory;
+
+class StatementPipelineTest {
+
+    private static final String UPDATE_NODES =
+        "UNWIND $rows as row MATCH (n) WHERE ID(n)=row.nodeId SET n:`%s` SET n += row.props RETURN row.nodeId as ref, ID(n) as id, $type as type";
+
+    private static final String DELETE_RELATIONSHIPS =
+        "UNWIND $rows as row MATCH (startNode)-[rel:`KNOWS`]->(endNode) WHERE ID(startNode) = row.startNodeId AND ID(endNode) = row.endNodeId DELETE rel";
+
+    @Test
+    void consecutiveIndependentStatementsShouldBeCombined() {
+
+        Statement person = updateNodes("Person");
+        Statement company = updateNodes("Company");
+        Statement deleteRelationships = new RowDataStatement(DELETE_RELATIONSHIPS, Map.of("rows", List.of()));
+        Statement city = updateNodes("City");
+
+        List<Statement> statements = StatementPipeline.combine(List.of(person, company, deleteRelationships, city));
+
+        assertThat(statements).hasSize(3);
+        assertThat(statements.get(0).getStatement()).isEqualTo(
+            String.format(UPDATE_NODES, "Person").replace("$", "$p0_")
+                + " UNION ALL "
+                + String.format(UPDATE_NODES, "Company").replace("$", "$p1_"));
+        assertThat(statements.get(0).getParameters())
+            .containsOnlyKeys("p0_rows", "p0_type", "p1_rows", "p1_type")
+            .containsEntry("p1_rows", company.getParameters().get("rows"));
+        assertThat(statements.get(1)).isSameAs(deleteRelationships);
+        assertThat(statements.get(2)).isSameAs(city);
+    }
+
+    @Test
+    void statementsCheckedForOptimisticLockingShouldNotBeCombined() {
+
+        Statement versioned = new RowDataStatement(String.format(UPDATE_NODES, "Versioned"),
+            Map.of("rows", List.of(), "type", "node"),
+            new OptimisticLockingConfig(1, new String[] { "Versioned" }, "version", "id"));
+        List<Statement> statements = List.of(updateNodes("Person"), versioned, updateNodes("Company"));
+
+        assertThat(StatementPipeline.combine(statements)).containsExactlyElementsOf(statements);
+    }
+
+    @Test
+    void combinedStatementsShouldNotExceedTheMaximumNumberOfRows() {
+
+        // Chunks of the same statement, as created with a maximum of two rows per statement
+        Statement firstChunk = updateNodes("Person", 2);
+        Statement secondChunk = updateNodes("Person", 2);
+        Statement lastChunk = updateNodes("Person", 1);
+        List<Statement> chunks = List.of(firstChunk, secondChunk, lastChunk);
+
+        assertThat(StatementPipeline.combine(chunks, 2)).containsExactlyElementsOf(chunks);
+
+        List<Statement> statements = StatementPipeline.combine(chunks, 3);
+        assertThat(statements).hasSize(2);
+        assertThat(statements.get(0)).isSameAs(firstChunk);
+        assertThat(statements.get(1).getParameters())
+            .containsEntry("p0_rows", secondChunk.getParameters().get("rows"))
+            .containsEntry("p1_rows", lastChunk.getParameters().get("rows"));
+    }
+
+    @Test
+    void chunksOfCompiledStatementsShouldOnlyBeCombinedWithinTheMaximumNumberOfRows() {
+
+        MetaData metaData = new MetaData("org.neo4j.ogm.domain.education");
+        Course course = new Course("Physics");
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            students.add(new Student("Student " + i));
+        }
+        course.setStudents(students);
+
+        Compiler compiler = new EntityGraphMapper(metaData, new MappingContext(metaData)).map(course, -1).getCompiler();
+        compiler.useStatementFactory(new RowStatementFactory());
+        compiler.useMaxRowsPerStatement(2);
+        List<Statement> chunks = compiler.createNodesStatements();
+
+        assertThat(chunks).extracting(StatementPipelineTest::numberOfRows).containsExactlyInAnyOrder(1, 2, 2, 1);
+
+        for (int maxRows : new int[] { 2, 3 }) {
+            List<Statement> statements = StatementPipeline.combine(chunks, maxRows);
+            assertThat(statements).hasSizeLessThan(chunks.size());
+            assertThat(statements).extracting(StatementPipelineTest::numberOfRows)
+                .allSatisfy(numberOfRows -> assertThat(numberOfRows).isLessThanOrEqualTo(maxRows))
+                .satisfies(numbersOfRows -> assertThat(numbersOfRows.stream().mapToInt(Integer::intValue).sum())
+                    .isEqualTo(6));
+        }
+    }
+
+    @Test
+    void onlyParametersShouldBePrefixed() {
+
+        assertThat(StatementPipeline.prefixParameters(
+            "MATCH (n:`A$b`) WHERE n.x = '$c' AND n.y = \"\\\"$d\" AND n.z = $e RETURN n", "p0_"))
+            .isEqualTo("MATCH (n:`A$b`) WHERE n.x = '$c' AND n.y = \"\\\"$d\" AND n.z = $p0_e RETURN n");
+        assertThat(StatementPipeline.prefixParameters("RETURN $0", "p0_")).isNull();
+        assertThat(StatementPipeline.prefixParameters("RETURN $`a b`", "p0_")).isNull();
+    }
+
+    private static int numberOfRows(Statement statement) {
+        return statement.getParameters().entrySet().stream()
+            .filter(parameter -> parameter.getKey().endsWith("rows"))
+            .mapToInt(parameter -> ((List<?>) parameter.getValue()).size())
+            .sum();
+    }
+
+    private static Statement updateNodes(String label) {
+        return updateNodes(label, 1);
+    }
+
+    private static Statement updateNodes(String label, int numberOfRows) {
+        return new RowDataStatement(String.format(UPDATE_NODES, label),
+            Map.of("rows", Collections.nCopies(numberOfRows, Map.of()), "type", "node"));
+    }
+}
@@ -474,4 +474,22 @@ public class ClassInfoTest {
             assertThat(methodInfo.getName().equals("<clinit>")).isFalse();
         }
     }
+
+    @Test
+    void registeringASubclassShouldUpdateResolvedViewsOfItsSuperclasses() {
+
+        ClassInfo login = metaData.classInfo("Login");
+        ClassInfo member = metaData.classInfo("Member");
+        assertThat(login.allSubclasses()).contains(member).noneMatch(c -> c.getUnderlyingClass() == PremiumMember.class);
+        assertThat(member.allSubclasses()).isEmpty();
+
+        ClassInfo premiumMember = metaData.register(PremiumMember.class);
+
+        assertThat(member.allSubclasses()).containsExactly(premiumMember);
+        assertThat(login.allSubclasses()).contains(member, premiumMember);
+        assertThat(premiumMember.staticLabels()).contains("User", "Login");
+    }
+
+    static class PremiumMember extends Member {
+    }
 }
@@ -20,7 +20,16 @@ package org.neo4j.ogm.metadata;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.ogm.domain.indexed.NotIndexed;
 
 /**
  * @author Luanne Misquitta
@@ -40,6 +49,79 @@ public class ClassPathScannerTest {
             "org.neo4j.ogm.domain.bike.WheelWithUUID");
     }
 
+    @Test
+    void indexShouldBeUsedInsteadOfScanning() {
+
+        final DomainInfo domainInfo = DomainInfo.create("org.neo4j.ogm.domain.indexed");
+        assertThat(domainInfo.getClassInfoMap()).containsOnlyKeys("org.neo4j.ogm.domain.indexed.Indexed");
+    }
+
+    @Test
+    void directoryShouldBeScannedWhenNotAllPackagesAreIndexed() {
+
+        final DomainInfo domainInfo = DomainInfo.create("org.neo4j.ogm.domain.indexed", "org.neo4j.ogm.domain.bike");
+        assertThat(domainInfo.getClassInfoMap()).containsKeys(
+            "org.neo4j.ogm.domain.indexed.Indexed",
+            "org.neo4j.ogm.domain.indexed.NotIndexed",
+            "org.neo4j.ogm.domain.bike.Bike");
+    }
+
+    @Test
+    void directoryShouldBeScannedWhenIndexListsMissingClasses() {
+
+        final DomainInfo domainInfo = DomainInfo.create("org.neo4j.ogm.domain.staleindex");
+        assertThat(domainInfo.getClassInfoMap()).containsOnlyKeys(
+            "org.neo4j.ogm.domain.staleindex.Listed",
+            "org.neo4j.ogm.domain.staleindex.Unlisted");
+    }
+
+    @Test
+    void allIndexesOfASplitPackageShouldBeUsed(@TempDir Path otherClassPathEntry) throws IOException {
+
+        Path index = otherClassPathEntry.resolve("META-INF/resources/org/neo4j/ogm/domain/indexed/neo4j-ogm.index");
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, "org.neo4j.ogm.domain.indexed.NotIndexed\n");
+
+        Thread currentThread = Thread.currentThread();
+        ClassLoader contextClassLoader = currentThread.getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { otherClassPathEntry.toUri().toURL() },
+            contextClassLoader)) {
+            currentThread.setContextClassLoader(classLoader);
+
+            final DomainInfo domainInfo = DomainInfo.create("org.neo4j.ogm.domain.indexed");
+            assertThat(domainInfo.getClassInfoMap()).containsOnlyKeys(
+                "org.neo4j.ogm.domain.indexed.Indexed",
+                "org.neo4j.ogm.domain.indexed.NotIndexed");
+        } finally {
+            currentThread.setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    @Test
+    void directoryShouldBeScannedWhenAnotherClassPathEntryOfThePackageHasNoIndex(@TempDir Path otherClassPathEntry)
+        throws IOException {
+
+        Path unindexedClass = otherClassPathEntry.resolve("org/neo4j/ogm/domain/indexed/NotIndexed.class");
+        Files.createDirectories(unindexedClass.getParent());
+        try (InputStream classFile = NotIndexed.class.getResourceAsStream("NotIndexed.class")) {
+            Files.copy(classFile, unindexedClass);
+        }
+
+        Thread currentThread = Thread.currentThread();
+        ClassLoader contextClassLoader = currentThread.getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { otherClassPathEntry.toUri().toURL() },
+            contextClassLoader)) {
+            currentThread.setContextClassLoader(classLoader);
+
+            final DomainInfo domainInfo = DomainInfo.create("org.neo4j.ogm.domain.indexed");
+            assertThat(domainInfo.getClassInfoMap()).containsOnlyKeys(
+                "org.neo4j.ogm.domain.indexed.Indexed",
+                "org.neo4j.ogm.domain.indexed.NotIndexed");
+        } finally {
+            currentThread.setContextClassLoader(contextClassLoader);
+        }
+    }
+
     @Test
     void nestedDirectoryShouldBeScanned() {
 
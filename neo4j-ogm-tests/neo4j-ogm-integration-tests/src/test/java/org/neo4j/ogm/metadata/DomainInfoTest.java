@@ -23,6 +23,7 @@ import static org.assertj.core.api.Assertions.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.neo4j.ogm.domain.gh809.package1.TestEntity;
+import org.neo4j.ogm.driver.TypeSystem;
 
 /**
  * see DATAGRAPH-590 - Metadata resolves to an abstract class for an interface
@@ -100,4 +101,28 @@ public class DomainInfoTest {
         ClassInfo classInfo = domainInfo.getClassSimpleName("TestEntity");
         assertThat(classInfo.getUnderlyingClass()).isSameAs(TestEntity.class);
     }
+
+    @Test
+    void parallelResolutionShouldCreateTheSameDomain() {
+
+        DomainInfo resolvedInParallel = DomainInfo.create(TypeSystem.NoNativeTypes.INSTANCE, true,
+            "org.neo4j.ogm.domain.forum",
+            "org.neo4j.ogm.domain.gh806",
+            "org.neo4j.ogm.domain.gh809");
+
+        assertThat(resolvedInParallel.getClassInfoMap()).containsOnlyKeys(domainInfo.getClassInfoMap().keySet());
+        for (ClassInfo classInfo : domainInfo.getClassInfoMap().values()) {
+            ClassInfo other = resolvedInParallel.getClassInfoMap().get(classInfo.name());
+            assertThat(other.staticLabels()).containsExactlyElementsOf(classInfo.staticLabels());
+            assertThat(other.allSubclasses()).extracting(ClassInfo::name)
+                .containsExactlyInAnyOrderElementsOf(classInfo.allSubclasses().stream().map(ClassInfo::name).toList());
+        }
+
+        ClassInfo member = resolvedInParallel.getClassSimpleName("Member");
+        assertThat(member.propertyFields()).extracting(FieldInfo::getName)
+            .containsExactlyInAnyOrderElementsOf(domainInfo.getClassSimpleName("Member").propertyFields().stream()
+                .map(FieldInfo::getName).toList());
+        assertThat(member.relationshipFields()).extracting(FieldInfo::getName)
+            .containsExactlyInAnyOrder("activityList", "memberShip", "followers", "followees");
+    }
 }
@@ -21,6 +21,7 @@ package org.neo4j.ogm.metadata;
 import static org.assertj.core.api.Assertions.*;
 
 import org.junit.jupiter.api.Test;
+import org.neo4j.ogm.domain.convertible.numbers.Account;
 
 /**
  * @author Michael J. Simons
@@ -71,4 +72,21 @@ public class FieldInfoTest {
 
         assertThat(accountInfo.getFieldInfo("notConverter").convertedType()).isNull();
     }
+
+    @Test
+    void shouldReadAndWritePrivateFields() {
+
+        Account account = new Account();
+
+        FieldInfo notConverter = accountInfo.getFieldInfo("notConverter");
+        notConverter.write(account, 42);
+        assertThat(notConverter.read(account)).isEqualTo(42);
+
+        FieldInfo code = accountInfo.getFieldInfo("code");
+        code.writeDirect(account, (short) 7);
+        assertThat(code.read(account)).isEqualTo((short) 7);
+        assertThatIllegalArgumentException().isThrownBy(() -> code.writeDirect(account, null));
+        assertThatIllegalArgumentException().isThrownBy(() -> code.writeDirect(account, "7"));
+        assertThatIllegalArgumentException().isThrownBy(() -> code.read("not an account"));
+    }
 }
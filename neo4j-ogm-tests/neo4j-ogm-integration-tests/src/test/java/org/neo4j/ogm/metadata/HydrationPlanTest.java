@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.metadata;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.ogm.domain.cineasts.annotated.Actor;
+import org.neo4j.ogm.domain.cineasts.annotated.Title;
+import org.neo4j.ogm.domain.cineasts.annotated.User;
+import org.neo4j.ogm.model.Property;
+import org.neo4j.ogm.response.model.PropertyModel;
+
+class HydrationPlanTest {
+
+    private static final MetaData metaData = new MetaData("org.neo4j.ogm.domain.cineasts.annotated");
+
+    @Test
+    void plansShouldBeCachedForTheSameKeysInTheSameOrder() {
+
+        ClassInfo classInfo = metaData.classInfo(User.class);
+        HydrationPlan plan = HydrationPlan.of(classInfo, List.of(
+            PropertyModel.with("name", "Alice"), PropertyModel.with("nicknames", List.of("Al"))));
+
+        assertThat(HydrationPlan.of(classInfo, List.of(
+            PropertyModel.with("name", "Bob"), PropertyModel.with("nicknames", List.of("Bobby")))))
+            .isSameAs(plan);
+        assertThat(HydrationPlan.of(classInfo, List.of(
+            PropertyModel.with("nicknames", List.of("Bobby")), PropertyModel.with("name", "Bob"))))
+            .isNotSameAs(plan);
+        assertThat(HydrationPlan.of(classInfo, List.of(PropertyModel.with("name", "Bob"))))
+            .isNotSameAs(plan);
+    }
+
+    @Test
+    void planShouldWriteConvertedValues() {
+
+        List<Property<String, Object>> properties = List.of(
+            PropertyModel.with("name", "Alice"),
+            PropertyModel.with("nicknames", List.of("Al", "Ali")),
+            PropertyModel.with("titles", List.of("MR")),
+            PropertyModel.with("notMapped", 42L));
+        HydrationPlan plan = HydrationPlan.of(metaData.classInfo(User.class), properties);
+
+        User user = new User();
+        plan.apply(user, properties, plan.compositeValues(properties));
+
+        assertThat(user.getName()).isEqualTo("Alice");
+        assertThat(user.getNicknames()).containsExactly("Al", "Ali");
+        assertThat(user.getTitles()).containsExactly(Title.MR);
+    }
+
+    @Test
+    void numberOfCachedPlansShouldBeBounded() {
+
+        ClassInfo classInfo = metaData.classInfo(Actor.class);
+        for (int i = 0; i < HydrationPlan.MAX_PLANS_PER_CLASS + 2; ++i) {
+            HydrationPlan.of(classInfo, List.of(PropertyModel.with("property" + i, i)));
+        }
+
+        assertThat(classInfo.hydrationPlans()).hasSize(HydrationPlan.MAX_PLANS_PER_CLASS);
+    }
+}
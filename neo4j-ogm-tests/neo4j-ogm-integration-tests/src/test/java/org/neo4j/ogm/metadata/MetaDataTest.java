@@ -116,6 +116,31 @@ public class MetaDataTest {
         });
     }
 
+    @Test
+    void repeatedlyResolvingTaxaShouldGiveTheSameResult() {
+
+        ClassInfo classInfo = metaData.resolve("Login", "User");
+        assertThat(metaData.resolve("Login", "User")).isSameAs(classInfo);
+        assertThat(metaData.resolve("Unknown")).isNull();
+        assertThat(metaData.resolve("Unknown")).isNull();
+        for (int i = 0; i < 2; ++i) {
+            assertThatExceptionOfType(AmbiguousBaseClassException.class)
+                .isThrownBy(() -> metaData.resolve("Login", "Topic"));
+        }
+    }
+
+    @Test
+    void classInfoByClassShouldReflectRegisteredClasses() {
+
+        assertThat(metaData.classInfo(ThingResult.class)).isNull();
+        assertThat(metaData.classInfo(new ThingResult())).isNull();
+
+        ClassInfo registered = metaData.register(ThingResult.class);
+
+        assertThat(metaData.classInfo(ThingResult.class)).isSameAs(registered);
+        assertThat(metaData.classInfo(new ThingResult())).isSameAs(registered);
+    }
+
     /**
      * Taxa corresponding to interfaces with multiple implementations can't be resolved
      */
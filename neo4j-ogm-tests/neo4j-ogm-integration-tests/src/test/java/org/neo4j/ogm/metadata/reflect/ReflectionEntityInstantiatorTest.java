@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.metadata.reflect;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.ogm.domain.records.Movie;
+import org.neo4j.ogm.exception.core.MappingException;
+import org.neo4j.ogm.metadata.MetaData;
+
+class ReflectionEntityInstantiatorTest {
+
+    private final ReflectionEntityInstantiator instantiator = new ReflectionEntityInstantiator(
+        new MetaData("org.neo4j.ogm.domain.records"));
+
+    @Test
+    void shouldInstantiateRecordsForDifferentSetsOfProperties() {
+
+        for (int i = 0; i < 2; ++i) {
+            Map<String, Object> properties = new HashMap<>(Map.of("title", "The Matrix", "tagline", "Welcome"));
+            Movie movie = instantiator.createInstance(Movie.class, properties);
+            assertThat(movie.title()).isEqualTo("The Matrix");
+            assertThat(movie.tagline()).isEqualTo("Welcome");
+            assertThat(properties).isEmpty();
+        }
+
+        Map<String, Object> properties = new HashMap<>(Map.of("title", "The Matrix Reloaded", "released", 2003));
+        Movie movie = instantiator.createInstance(Movie.class, properties);
+        assertThat(movie.title()).isEqualTo("The Matrix Reloaded");
+        assertThat(movie.tagline()).isNull();
+        assertThat(properties).containsOnlyKeys("released");
+    }
+
+    @Test
+    void shouldFailForClassesWithoutUsableDefaultConstructor() {
+
+        assertThatExceptionOfType(MappingException.class)
+            .isThrownBy(() -> instantiator.createInstance(AbstractThing.class, new HashMap<>()));
+        assertThatExceptionOfType(MappingException.class)
+            .isThrownBy(() -> instantiator.createInstance(FailingThing.class, new HashMap<>()))
+            .withRootCauseInstanceOf(UnsupportedOperationException.class);
+    }
+
+    abstract static class AbstractThing {
+    }
+
+    static class FailingThing {
+
+        FailingThing() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -552,4 +552,40 @@ public class RelationalReaderWriterTest {
         relationalWriter.write(instance, otherRelatedObject);
         assertThat(instance.getPlainUser()).isEqualTo(otherRelatedObject);
     }
+
+    @Test
+    void relationshipFieldsShouldBeResolvedWhenTheDomainIsCreated() {
+
+        RelationshipFieldCache cache = this.domainInfo.getClass(UserV1.class.getName()).relationshipFieldCache();
+
+        assertThat(cache.getReader("KNOWN_BY", Relationship.Direction.INCOMING)).isNotNull();
+        assertThat(cache.getWriter("KNOWN_BY", Relationship.Direction.INCOMING, UserV1.class)).isNotNull();
+    }
+
+    @Test
+    void resolvedRelationshipFieldsShouldNotBeSharedBetweenDomains() {
+
+        ClassInfo classInfo = this.domainInfo.getClass(UserV2.class.getName());
+        ClassInfo otherClassInfo = DomainInfo.create("org.neo4j.ogm.domain.entityMapping")
+            .getClass(UserV2.class.getName());
+
+        assertThat(EntityAccessManager.getRelationalReader(classInfo, LIKES, Relationship.Direction.INCOMING)).isNull();
+        assertThat(classInfo.relationshipFieldCache().containsReader(LIKES, Relationship.Direction.INCOMING)).isTrue();
+        assertThat(classInfo.relationshipFieldCache().getReader(LIKES, Relationship.Direction.INCOMING)).isNull();
+        assertThat(otherClassInfo.relationshipFieldCache().containsReader(LIKES, Relationship.Direction.INCOMING)).isFalse();
+    }
+
+    @Test
+    void resolvedRelationshipFieldsShouldBeBounded() {
+
+        ClassInfo classInfo = this.domainInfo.getClass(UserV1.class.getName());
+        for (int i = 0; i <= RelationshipFieldCache.MAX_ENTRIES; ++i) {
+            assertThat(EntityAccessManager.getRelationalReader(classInfo, "UNKNOWN_" + i, Relationship.Direction.OUTGOING))
+                .isNull();
+        }
+
+        assertThat(classInfo.relationshipFieldCache().size()).isEqualTo(RelationshipFieldCache.MAX_ENTRIES);
+        assertThat(EntityAccessManager.getRelationalWriter(classInfo, "KNOWN_BY", Relationship.Direction.INCOMING, UserV1.class))
+            .isNotNull();
+    }
 }
@@ -20,13 +20,24 @@ package org.neo4j.ogm.persistence.examples.bike;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
+import org.neo4j.ogm.cypher.query.Keyset;
+import org.neo4j.ogm.cypher.query.KeysetPage;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
+import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.domain.bike.Bike;
 import org.neo4j.ogm.domain.bike.Wheel;
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
 
 /**
  * @author Vince Bickers
@@ -77,4 +88,99 @@ public class BikeTest {
 
         assertThat(theSameBikes.size()).isEqualTo(bikes.size());
     }
+
+    @Test
+    void readOnlySessionShouldMapWithoutTrackingState() {
+
+        Session readOnlySession = new SessionFactory(new BikeRequest(), "org.neo4j.ogm.domain.bike").openReadOnlySession();
+        assertThat(readOnlySession.isReadOnly()).isTrue();
+
+        Bike bike = readOnlySession.loadAll(Bike.class).iterator().next();
+        assertThat(bike.getWheels()).hasSize(2);
+        assertThat(bike.getSaddle().getMaterial()).isEqualTo("plastic");
+
+        Neo4jSession neo4jSession = (Neo4jSession) readOnlySession;
+        assertThat(neo4jSession.context().getNodeEntity(15L)).isSameAs(bike);
+        assertThat(neo4jSession.context().getRelationships()).isEmpty();
+        assertThat(neo4jSession.context().isDirty(bike)).isTrue();
+
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> readOnlySession.save(bike));
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> readOnlySession.delete(bike));
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> readOnlySession.deleteAll(Bike.class));
+        assertThat(session.isReadOnly()).isFalse();
+    }
+
+    @Test
+    void secondLevelCacheShouldServeLoadsOfOtherSessions() {
+
+        AtomicInteger requests = new AtomicInteger();
+        SessionFactory sessionFactory = new SessionFactory(new BikeRequest() {
+            @Override
+            protected String[] getResponse(String query) {
+                requests.incrementAndGet();
+                return super.getResponse(query);
+            }
+        }, "org.neo4j.ogm.domain.bike");
+        sessionFactory.enableSecondLevelCache(Bike.class);
+
+        Bike loaded = sessionFactory.openSession().load(Bike.class, 15L, 0);
+        Bike cached = sessionFactory.openSession().load(Bike.class, 15L, 0);
+        assertThat(requests).hasValue(1);
+        assertThat(cached).isNotSameAs(loaded);
+        assertThat(cached.getColours()).containsExactly("red", "black").isNotSameAs(loaded.getColours());
+        assertThat(sessionFactory.openSession().loadAll(Bike.class, List.of(15L), 0)).hasSize(1);
+        assertThat(requests).hasValue(1);
+
+        // Deeper loads need the relationships that are not cached
+        sessionFactory.openSession().load(Bike.class, 15L, 1);
+        assertThat(requests).hasValue(2);
+
+        // Writes of any session invalidate the cache
+        sessionFactory.openSession().deleteAll(Bike.class);
+        sessionFactory.openSession().load(Bike.class, 15L, 0);
+        assertThat(requests).hasValue(4);
+    }
+
+    @Test
+    void streamShouldMapEntitiesWhileConsumed() {
+
+        Neo4jSession streamingSession = new Neo4jSession(metadata, true, new BikeRequest());
+
+        try (Stream<Bike> bikes = streamingSession.stream(Bike.class, null, new SortOrder(), 1)) {
+            assertThat(streamingSession.context().getNodeEntity(15L)).isNull();
+
+            List<Bike> streamedBikes = bikes.toList();
+            assertThat(streamedBikes).hasSize(1);
+            Bike bike = streamedBikes.get(0);
+            assertThat(bike.getWheels()).hasSize(2);
+            assertThat(bike.getSaddle().getMaterial()).isEqualTo("plastic");
+            assertThat(streamingSession.context().getNodeEntity(15L)).isSameAs(bike);
+        }
+
+        try (Stream<Bike> bikes = streamingSession.streamQuery(Bike.class, "MATCH (n:Bike) RETURN n", Map.of())) {
+            assertThat(bikes).containsExactlyElementsOf(streamingSession.loadAll(Bike.class));
+        }
+    }
+
+    @Test
+    void loadPageShouldReturnTheKeysetOfTheLastEntity() {
+
+        KeysetPage<Bike> page = session.loadPage(Bike.class, null, null, new KeysetPagination(1), 0);
+
+        assertThat(page.content()).extracting(Bike::getId).containsExactly(15L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.next()).isEqualTo(new Keyset(List.of(), 15L));
+        assertThat(page.nextPagination(1).getAfter()).isEqualTo(page.next());
+
+        assertThat(session.loadPage(Bike.class, null, null, new KeysetPagination(2), 0).hasNext()).isFalse();
+    }
+
+    @Test
+    void loadPageShouldKeepNullSortKeysInTheKeyset() {
+
+        KeysetPage<Bike> page = session.loadPage(Bike.class, null, new SortOrder("brand"), new KeysetPagination(1), 0);
+
+        assertThat(page.content()).extracting(Bike::getBrand).containsOnlyNulls();
+        assertThat(page.next()).isEqualTo(new Keyset(Arrays.asList((Object) null), 15L));
+    }
 }
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.ogm.domain.postload.User;
+import org.neo4j.ogm.driver.AbstractConfigurableDriver;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.RestModel;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.DefaultRequest;
+import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.request.GraphRowListModelRequest;
+import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.request.RestModelRequest;
+import org.neo4j.ogm.request.RowModelRequest;
+import org.neo4j.ogm.response.EmptyResponse;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.response.model.DefaultGraphModel;
+import org.neo4j.ogm.response.model.DefaultGraphRowListModel;
+import org.neo4j.ogm.response.model.DefaultGraphRowModel;
+import org.neo4j.ogm.response.model.NodeModel;
+import org.neo4j.ogm.response.model.RelationshipModel;
+import org.neo4j.ogm.transaction.AbstractTransaction;
+import org.neo4j.ogm.transaction.Transaction;
+import org.neo4j.ogm.transaction.TransactionManager;
+
+/**
+ * Loads more entities than a bounded mapping context holds. The graph is a chain of users, each one being a friend of
+ * the users with the next lower and next higher id.
+ */
+class MappingContextCapacityTest {
+
+    private static final int NUMBER_OF_USERS = 10;
+
+    private static final int CAPACITY = 3;
+
+    private Neo4jSession session;
+
+    @BeforeEach
+    void setUp() {
+        SessionFactory sessionFactory = new SessionFactory(new ChainOfFriendsDriver(), "org.neo4j.ogm.domain.postload");
+        sessionFactory.setMappingContextCapacity(CAPACITY);
+        this.session = (Neo4jSession) sessionFactory.openSession();
+        User.resetPostLoadCount();
+    }
+
+    @Test
+    void shouldReturnAllLoadedEntitiesCompletelyHydrated() {
+
+        Collection<User> users = session.loadAll(User.class);
+
+        assertThat(users).hasSize(NUMBER_OF_USERS);
+        assertThat(User.getPostLoadCount()).isEqualTo(NUMBER_OF_USERS);
+        assertThat(users).allSatisfy(user -> assertThat(user.getFriends())
+            .extracting(User::getId)
+            .containsExactlyInAnyOrderElementsOf(friendsOf(user.getId())));
+
+        // The context is bounded again once the load has finished
+        assertThat(session.context().getStatistics().nodeEntities()).isEqualTo(CAPACITY);
+    }
+
+    private static List<Long> friendsOf(long id) {
+        List<Long> friends = new ArrayList<>();
+        if (id > 1) {
+            friends.add(id - 1);
+        }
+        if (id < NUMBER_OF_USERS) {
+            friends.add(id + 1);
+        }
+        return friends;
+    }
+
+    /**
+     * Creates a graph model with the given user and its friends, as loaded with depth 1.
+     */
+    private static DefaultGraphModel graphOf(long id) {
+
+        DefaultGraphModel graphModel = new DefaultGraphModel();
+        graphModel.addNode(user(id));
+        for (Long friend : friendsOf(id)) {
+            graphModel.addNode(user(friend));
+
+            RelationshipModel friendOf = new RelationshipModel();
+            friendOf.setId(Math.min(id, friend) * 100 + Math.max(id, friend));
+            friendOf.setType("FRIEND_OF");
+            friendOf.setStartNode(Math.min(id, friend));
+            friendOf.setEndNode(Math.max(id, friend));
+            graphModel.addRelationship(friendOf);
+        }
+        return graphModel;
+    }
+
+    private static NodeModel user(long id) {
+        NodeModel nodeModel = new NodeModel(id);
+        nodeModel.setLabels(new String[] { "User" });
+        return nodeModel;
+    }
+
+    /**
+     * A driver that returns one graph per user for all graph queries.
+     */
+    private static class ChainOfFriendsDriver extends AbstractConfigurableDriver {
+
+        @Override
+        protected String getTypeSystemName() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Function<TransactionManager, BiFunction<Transaction.Type, Iterable<String>, Transaction>> getTransactionFactorySupplier() {
+            return transactionManager -> (transactionType, bookmarks) -> new AbstractTransaction(transactionManager) {
+
+                @Override
+                protected void rollback0() {
+                }
+
+                @Override
+                protected void commit0() {
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public Request request(Transaction transaction) {
+            return new Request() {
+
+                @Override
+                public Response<GraphModel> execute(GraphModelRequest query) {
+                    Deque<GraphModel> graphModels = new ArrayDeque<>();
+                    LongStream.rangeClosed(1, NUMBER_OF_USERS).forEach(id -> graphModels.add(graphOf(id)));
+                    return new DequeResponse<>(graphModels);
+                }
+
+                @Override
+                public Response<RowModel> execute(RowModelRequest query) {
+                    return new EmptyResponse<>();
+                }
+
+                @Override
+                public Response<RowModel> execute(DefaultRequest query) {
+                    return new EmptyResponse<>();
+                }
+
+                @Override
+                public Response<GraphRowListModel> execute(GraphRowListModelRequest query) {
+                    DefaultGraphRowListModel rows = new DefaultGraphRowListModel();
+                    LongStream.rangeClosed(1, NUMBER_OF_USERS)
+                        .forEach(id -> rows.add(new DefaultGraphRowModel(graphOf(id), new Object[] { id })));
+                    Deque<GraphRowListModel> models = new ArrayDeque<>();
+                    models.add(rows);
+                    return new DequeResponse<>(models);
+                }
+
+                @Override
+                public Response<RestModel> execute(RestModelRequest query) {
+                    return new EmptyResponse<>();
+                }
+            };
+        }
+    }
+
+    private static class DequeResponse<T> implements Response<T> {
+
+        private final Deque<T> models;
+
+        DequeResponse(Deque<T> models) {
+            this.models = models;
+        }
+
+        @Override
+        public T next() {
+            return models.poll();
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String[] columns() {
+            return new String[0];
+        }
+    }
+}
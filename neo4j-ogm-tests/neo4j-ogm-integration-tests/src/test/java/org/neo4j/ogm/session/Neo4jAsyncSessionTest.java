@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.ogm.cypher.query.SortOrder;
+
+class Neo4jAsyncSessionTest {
+
+    private ExecutorService executor;
+    private Session session;
+    private AsyncSession asyncSession;
+
+    @BeforeEach
+    void openAsyncSession() {
+        executor = Executors.newFixedThreadPool(4);
+        session = mock(Session.class);
+        asyncSession = new Neo4jAsyncSession(session, executor);
+    }
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldRunOperationsOneAfterAnotherInSubmissionOrder() {
+
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger running = new AtomicInteger();
+        AtomicBoolean overlapped = new AtomicBoolean();
+
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            int operation = i;
+            results.add(asyncSession.withSession(s -> {
+                if (running.incrementAndGet() > 1) {
+                    overlapped.set(true);
+                }
+                order.add(operation);
+                running.decrementAndGet();
+                return operation;
+            }).toCompletableFuture());
+        }
+
+        assertThat(results.get(19).join()).isEqualTo(19);
+        assertThat(overlapped).isFalse();
+        assertThat(order).containsExactlyElementsOf(IntStream.range(0, 20).boxed().toList());
+    }
+
+    @Test
+    void failedOperationsShouldNotStopTheFollowingOnes() {
+
+        when(session.load(String.class, 1L)).thenThrow(new IllegalStateException("Boom"));
+        when(session.load(String.class, 2L)).thenReturn("loaded");
+
+        CompletableFuture<String> failed = asyncSession.load(String.class, 1L).toCompletableFuture();
+        CompletableFuture<String> loaded = asyncSession.load(String.class, 2L).toCompletableFuture();
+
+        assertThat(loaded.join()).isEqualTo("loaded");
+        assertThatExceptionOfType(CompletionException.class).isThrownBy(failed::join)
+            .withCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void callersShouldNotCompleteOperations() {
+
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Object> blocking = asyncSession.withSession(s -> {
+            await(release);
+            return null;
+        }).toCompletableFuture();
+        blocking.complete("early");
+
+        AtomicBoolean ranEarly = new AtomicBoolean();
+        doAnswer(invocation -> {
+            ranEarly.set(release.getCount() > 0);
+            return null;
+        }).when(session).save("entity");
+        CompletableFuture<Void> next = asyncSession.save("entity").toCompletableFuture();
+
+        release.countDown();
+        next.join();
+        assertThat(ranEarly).isFalse();
+    }
+
+    @Test
+    void shouldMapOnlyRequestedElements() throws InterruptedException {
+
+        AtomicInteger mapped = new AtomicInteger();
+        AtomicBoolean closed = new AtomicBoolean();
+        when(session.stream(eq(String.class), isNull(), any(SortOrder.class), eq(1)))
+            .thenReturn(IntStream.range(0, 10).mapToObj(i -> {
+                mapped.incrementAndGet();
+                return "e" + i;
+            }).onClose(() -> closed.set(true)));
+
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        asyncSession.stream(String.class, null, new SortOrder(), 1).subscribe(subscriber);
+
+        subscriber.subscription.request(3);
+        subscriber.awaitElements(3);
+        // Give the publisher the chance to map more than requested
+        Thread.sleep(100);
+        assertThat(mapped).hasValue(3);
+        assertThat(subscriber.elements).containsExactly("e0", "e1", "e2");
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertThat(subscriber.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(subscriber.elements).hasSize(10);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void shouldCloseStreamOnCancel() throws InterruptedException {
+
+        AtomicBoolean closed = new AtomicBoolean();
+        when(session.streamQuery(eq(String.class), anyString(), anyMap()))
+            .thenReturn(Stream.of("a", "b", "c").onClose(() -> closed.set(true)));
+
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        asyncSession.streamQuery(String.class, "MATCH (n) RETURN n.name", Collections.emptyMap())
+            .subscribe(subscriber);
+        subscriber.subscription.request(1);
+        subscriber.awaitElements(1);
+        subscriber.subscription.cancel();
+
+        asyncSession.withSession(s -> null).toCompletableFuture().join();
+        assertThat(closed).isTrue();
+        assertThat(subscriber.elements).containsExactly("a");
+        assertThat(subscriber.completed.getCount()).isOne();
+    }
+
+    @Test
+    void shouldCloseIdleStreamAfterTimeout() throws InterruptedException {
+
+        AtomicBoolean closed = new AtomicBoolean();
+        when(session.streamQuery(eq(String.class), anyString(), anyMap()))
+            .thenReturn(Stream.of("a", "b", "c").onClose(() -> closed.set(true)));
+
+        AsyncSession timingOutSession = new Neo4jAsyncSession(session, executor, Duration.ofMillis(100));
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        timingOutSession.streamQuery(String.class, "MATCH (n) RETURN n.name", Collections.emptyMap())
+            .subscribe(subscriber);
+        subscriber.subscription.request(1);
+        subscriber.awaitElements(1);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (subscriber.error == null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(subscriber.error).isInstanceOf(TimeoutException.class);
+        assertThat(closed).isTrue();
+
+        subscriber.subscription.request(1);
+        timingOutSession.withSession(s -> null).toCompletableFuture().join();
+        assertThat(subscriber.elements).containsExactly("a");
+        assertThat(subscriber.completed.getCount()).isOne();
+    }
+
+    @Test
+    void shouldNotTimeOutWhileTheSubscriberRequestsElements() throws InterruptedException {
+
+        when(session.streamQuery(eq(String.class), anyString(), anyMap())).thenReturn(Stream.of("a", "b", "c"));
+
+        AsyncSession timingOutSession = new Neo4jAsyncSession(session, executor, Duration.ofMillis(200));
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        timingOutSession.streamQuery(String.class, "MATCH (n) RETURN n.name", Collections.emptyMap())
+            .subscribe(subscriber);
+        for (int i = 1; i <= 3; i++) {
+            subscriber.subscription.request(1);
+            subscriber.awaitElements(i);
+            Thread.sleep(120);
+        }
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(subscriber.error).isNull();
+        assertThat(subscriber.elements).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void shouldRejectSecondSubscriber() {
+
+        when(session.streamQuery(eq(String.class), anyString(), anyMap())).thenReturn(Stream.empty());
+
+        Flow.Publisher<String> publisher = asyncSession.streamQuery(String.class, "RETURN 1", Collections.emptyMap());
+        publisher.subscribe(new RecordingSubscriber());
+        RecordingSubscriber second = new RecordingSubscriber();
+        publisher.subscribe(second);
+
+        assertThat(second.error).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldRunOtherOperationsWhileSubscriberRequestsNothing() throws InterruptedException {
+
+        ExecutorService singleThread = Executors.newSingleThreadExecutor();
+        try {
+            AsyncSession singleThreadedSession = new Neo4jAsyncSession(session, singleThread);
+            when(session.streamQuery(eq(String.class), anyString(), anyMap())).thenReturn(Stream.of("a", "b"));
+
+            RecordingSubscriber subscriber = new RecordingSubscriber();
+            singleThreadedSession.streamQuery(String.class, "MATCH (n) RETURN n.name", Collections.emptyMap())
+                .subscribe(subscriber);
+            subscriber.subscription.request(1);
+            subscriber.awaitElements(1);
+
+            // The only thread of the executor must not wait for the subscriber to request more
+            CompletableFuture<String> other = singleThreadedSession.withSession(s -> "done").toCompletableFuture();
+            assertThat(other.orTimeout(5, TimeUnit.SECONDS).join()).isEqualTo("done");
+
+            subscriber.subscription.request(1);
+            subscriber.awaitElements(2);
+            subscriber.subscription.request(1);
+            assertThat(subscriber.completed.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(subscriber.elements).containsExactly("a", "b");
+        } finally {
+            singleThread.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldSupportReentrantUseFromOnNext() throws InterruptedException {
+
+        when(session.streamQuery(eq(String.class), anyString(), anyMap())).thenReturn(Stream.of("a", "b", "c"));
+
+        List<CompletableFuture<String>> operations = Collections.synchronizedList(new ArrayList<>());
+        RecordingSubscriber subscriber = new RecordingSubscriber() {
+            @Override
+            public void onNext(String item) {
+                super.onNext(item);
+                operations.add(asyncSession.withSession(s -> item.toUpperCase()).toCompletableFuture());
+                subscription.request(1);
+            }
+        };
+        asyncSession.streamQuery(String.class, "MATCH (n) RETURN n.name", Collections.emptyMap()).subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(subscriber.elements).containsExactly("a", "b", "c");
+        assertThat(operations).map(operation -> operation.orTimeout(5, TimeUnit.SECONDS).join())
+            .containsExactly("A", "B", "C");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static class RecordingSubscriber implements Flow.Subscriber<String> {
+
+        final List<String> elements = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch completed = new CountDownLatch(1);
+        volatile Flow.Subscription subscription;
+        volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription newSubscription) {
+            this.subscription = newSubscription;
+        }
+
+        @Override
+        public void onNext(String item) {
+            elements.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+
+        void awaitElements(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (elements.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+        }
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.ogm.driver.AbstractConfigurableDriver;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.RestModel;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.DefaultRequest;
+import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.request.GraphRowListModelRequest;
+import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.request.RestModelRequest;
+import org.neo4j.ogm.request.RowModelRequest;
+import org.neo4j.ogm.response.EmptyResponse;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.response.model.DefaultRowModel;
+import org.neo4j.ogm.transaction.AbstractTransaction;
+import org.neo4j.ogm.transaction.Transaction;
+import org.neo4j.ogm.transaction.TransactionManager;
+
+/**
+ * Tests how transactions opened for streams are finished when the streams are closed, and how they are suspended
+ * between the deliveries of published streams.
+ */
+class StreamTransactionTest {
+
+    private static final String QUERY = "UNWIND range(1, 3) AS i RETURN i";
+
+    private RecordingDriver driver;
+
+    private Session session;
+
+    @BeforeEach
+    void setUp() {
+        this.driver = new RecordingDriver();
+        this.session = new SessionFactory(driver, "org.neo4j.ogm.domain.filesystem").openSession();
+    }
+
+    @Test
+    void shouldCommitCompletelyConsumedStreams() {
+
+        try (Stream<Long> values = session.streamQuery(Long.class, QUERY, Collections.emptyMap())) {
+            assertThat(values).containsExactly(1L, 2L, 3L);
+        }
+
+        assertThat(driver.commits).isEqualTo(1);
+        assertThat(driver.rollbacks).isZero();
+        assertThat(session.getTransaction()).isNull();
+    }
+
+    @Test
+    void shouldRollbackWhenTheConsumerFails() {
+
+        assertThatIllegalStateException().isThrownBy(() -> {
+            try (Stream<Long> values = session.streamQuery(Long.class, QUERY, Collections.emptyMap())) {
+                values.forEach(value -> {
+                    if (value == 2L) {
+                        throw new IllegalStateException("Failed to consume " + value);
+                    }
+                });
+            }
+        });
+
+        assertThat(driver.commits).isZero();
+        assertThat(driver.rollbacks).isEqualTo(1);
+        assertThat(session.getTransaction()).isNull();
+    }
+
+    @Test
+    void shouldRollbackStreamsClosedEarly() {
+
+        try (Stream<Long> values = session.streamQuery(Long.class, QUERY, Collections.emptyMap())) {
+            assertThat(values.findFirst()).hasValue(1L);
+        }
+
+        assertThat(driver.commits).isZero();
+        assertThat(driver.rollbacks).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSuspendTheTransactionOfPublishedStreamsBetweenDeliveries() throws InterruptedException {
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            AsyncSession asyncSession = new SessionFactory(driver, "org.neo4j.ogm.domain.filesystem")
+                .openAsyncSession(executor);
+
+            List<Long> values = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch completed = new CountDownLatch(1);
+            AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+            asyncSession.streamQuery(Long.class, QUERY, Collections.emptyMap()).subscribe(new Flow.Subscriber<>() {
+
+                @Override
+                public void onSubscribe(Flow.Subscription newSubscription) {
+                    subscription.set(newSubscription);
+                }
+
+                @Override
+                public void onNext(Long value) {
+                    values.add(value);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                }
+
+                @Override
+                public void onComplete() {
+                    completed.countDown();
+                }
+            });
+
+            subscription.get().request(1);
+            assertThat(asyncSession.withSession(Session::getTransaction).toCompletableFuture().join()).isNull();
+            assertThat(values).containsExactly(1L);
+
+            subscription.get().request(Long.MAX_VALUE);
+            assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(values).containsExactly(1L, 2L, 3L);
+            assertThat(driver.commits).isEqualTo(1);
+            assertThat(asyncSession.withSession(Session::getTransaction).toCompletableFuture().join()).isNull();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldFinishTheSuspendedTransactionOfIdleStreams() throws InterruptedException {
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            AsyncSession asyncSession = new SessionFactory(driver, "org.neo4j.ogm.domain.filesystem")
+                .openAsyncSession(executor, Duration.ofMillis(100));
+
+            CountDownLatch failed = new CountDownLatch(1);
+            AtomicReference<Throwable> error = new AtomicReference<>();
+            AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+            asyncSession.streamQuery(Long.class, QUERY, Collections.emptyMap()).subscribe(new Flow.Subscriber<>() {
+
+                @Override
+                public void onSubscribe(Flow.Subscription newSubscription) {
+                    subscription.set(newSubscription);
+                }
+
+                @Override
+                public void onNext(Long value) {
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    error.set(throwable);
+                    failed.countDown();
+                }
+
+                @Override
+                public void onComplete() {
+                }
+            });
+
+            subscription.get().request(1);
+            assertThat(failed.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(error.get()).isInstanceOf(TimeoutException.class);
+            assertThat(asyncSession.withSession(Session::getTransaction).toCompletableFuture().join()).isNull();
+            assertThat(driver.commits + driver.rollbacks).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * A driver that returns the numbers from 1 to 3 for all row queries and counts the commits and rollbacks.
+     */
+    private static class RecordingDriver extends AbstractConfigurableDriver {
+
+        int commits;
+
+        int rollbacks;
+
+        @Override
+        protected String getTypeSystemName() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Function<TransactionManager, BiFunction<Transaction.Type, Iterable<String>, Transaction>> getTransactionFactorySupplier() {
+            return transactionManager -> (transactionType, bookmarks) -> new AbstractTransaction(transactionManager) {
+
+                @Override
+                protected void rollback0() {
+                    ++rollbacks;
+                }
+
+                @Override
+                protected void commit0() {
+                    ++commits;
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Request request(Transaction transaction) {
+            return new Request() {
+
+                @Override
+                public Response<GraphModel> execute(GraphModelRequest query) {
+                    return new EmptyResponse<>();
+                }
+
+                @Override
+                public Response<RowModel> execute(RowModelRequest query) {
+                    return new Response<>() {
+
+                        private long next = 1;
+
+                        @Override
+                        public RowModel next() {
+                            return next > 3 ? null : new DefaultRowModel(new Object[] { next++ }, columns());
+                        }
+
+                        @Override
+                        public void close() {
+                        }
+
+                        @Override
+                        public String[] columns() {
+                            return new String[] { "i" };
+                        }
+                    };
+                }
+
+                @Override
+                public Response<RowModel> execute(DefaultRequest query) {
+                    return new EmptyResponse<>();
+                }
+
+                @Override
+                public Response<GraphRowListModel> execute(GraphRowListModelRequest query) {
+                    return new EmptyResponse<>();
+                }
+
+                @Override
+                public Response<RestModel> execute(RestModelRequest query) {
+                    return new EmptyResponse<>();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,437 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.InputStream;
+import java.lang.reflect.Modifier;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ClassInfo;
+import io.github.classgraph.ScanResult;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.neo4j.ogm.Neo4jOgmVersion;
+import org.neo4j.ogm.domain.filesystem.Document;
+import org.neo4j.ogm.domain.filesystem.Folder;
+import org.neo4j.ogm.driver.AbstractConfigurableDriver;
+import org.neo4j.ogm.drivers.bolt.driver.BoltDriver;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.RestModel;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.DefaultRequest;
+import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.request.GraphRowListModelRequest;
+import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.request.RestModelRequest;
+import org.neo4j.ogm.request.RowModelRequest;
+import org.neo4j.ogm.response.EmptyResponse;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.transaction.AbstractTransaction;
+import org.neo4j.ogm.transaction.Transaction;
+import org.neo4j.ogm.transaction.TransactionManager;
+
+/**
+ * Makes sure that virtual threads don't get pinned to their carrier threads while blocking inside Neo4j-OGM, which
+ * happens when blocking while holding a monitor. On JDK 21 or later, sessions are run on virtual threads and the pinning
+ * events are recorded. The driver blocks like a remote database would, but doesn't hold any monitors itself, so that
+ * every pinning is caused by Neo4j-OGM. Virtual threads are created reflectively, as this project is built for JDK 17.
+ * On all runtimes, the bytecode of the request path is checked for monitors.
+ */
+class VirtualThreadPinningTest {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final int TABLESWITCH = 0xaa;
+    private static final int LOOKUPSWITCH = 0xab;
+    private static final int MONITORENTER = 0xc2;
+    private static final int WIDE = 0xc4;
+    private static final int IINC = 0x84;
+
+    @Test
+    void requestPathShouldNotUseMonitors() throws Exception {
+
+        Set<Path> moduleLocations = Set.of(locationOf(AbstractConfigurableDriver.class), locationOf(Neo4jSession.class),
+            locationOf(BoltDriver.class));
+
+        List<String> scannedClasses = new ArrayList<>();
+        List<String> monitors = new ArrayList<>();
+        try (ScanResult scanResult = new ClassGraph()
+            .acceptPackages("org.neo4j.ogm")
+            .ignoreClassVisibility()
+            // Only used while the session factory is built
+            .rejectPackages("org.neo4j.ogm.metadata.schema")
+            // Only used when the Bolt driver is configured
+            .rejectClasses(Neo4jOgmVersion.class.getName())
+            .scan()) {
+            for (ClassInfo classInfo : scanResult.getAllClasses()) {
+                if (moduleLocations.contains(classInfo.getClasspathElementFile().toPath().toAbsolutePath().normalize())) {
+                    scannedClasses.add(classInfo.getName());
+                    monitors.addAll(findMonitors(classInfo.getName(), classInfo.getResource().load()));
+                }
+            }
+        }
+
+        assertThat(scannedClasses).contains(Neo4jSession.class.getName(), BoltDriver.class.getName(),
+            AbstractConfigurableDriver.class.getName());
+        assertThat(monitors).isEmpty();
+    }
+
+    @Test
+    void shouldFindMonitorsInBytecode() throws Exception {
+
+        byte[] classFile;
+        try (InputStream in = WithMonitors.class
+            .getResourceAsStream("/" + WithMonitors.class.getName().replace('.', '/') + ".class")) {
+            classFile = in.readAllBytes();
+        }
+
+        assertThat(findMonitors("WithMonitors", classFile)).containsExactlyInAnyOrder(
+            "WithMonitors#synchronizedMethod is synchronized",
+            "WithMonitors#synchronizedBlock contains a synchronized block");
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void concurrentSessionsShouldNotPinCarrierThreads() throws Exception {
+
+        SessionFactory sessionFactory = new SessionFactory(new SlowDriver(), "org.neo4j.ogm.domain.filesystem");
+
+        List<RecordedEvent> pinnedEvents = recordPinnedEvents(5_000, () -> {
+            Session session = sessionFactory.openSession();
+            try (Transaction transaction = session.beginTransaction()) {
+                session.loadAll(Folder.class);
+                session.loadAll(Document.class, 2);
+                transaction.commit();
+            }
+        });
+
+        assertThat(pinnedEvents).isEmpty();
+    }
+
+    /**
+     * Runs the task the given number of times, each on its own virtual thread and all at once.
+     *
+     * @return the pinning events whose stack trace contains frames of Neo4j-OGM
+     */
+    private static List<RecordedEvent> recordPinnedEvents(int numberOfThreads, Runnable task) throws Exception {
+
+        Path dump = Files.createTempFile("pinning", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+
+            ExecutorService executor = (ExecutorService) Executors.class
+                .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < numberOfThreads; i++) {
+                    futures.add(executor.submit(task));
+                }
+                for (Future<?> future : futures) {
+                    future.get(1, TimeUnit.MINUTES);
+                }
+            } finally {
+                executor.shutdown();
+            }
+
+            recording.stop();
+            recording.dump(dump);
+
+            List<RecordedEvent> pinnedEvents = new ArrayList<>();
+            for (RecordedEvent event : RecordingFile.readAllEvents(dump)) {
+                if (PINNED_EVENT.equals(event.getEventType().getName()) && isCausedByNeo4jOgm(event)) {
+                    pinnedEvents.add(event);
+                }
+            }
+            return pinnedEvents;
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+    }
+
+    private static boolean isCausedByNeo4jOgm(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return false;
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String typeName = frame.getMethod().getType().getName();
+            if (typeName.startsWith("org.neo4j.ogm.") && !typeName.startsWith(VirtualThreadPinningTest.class.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Path locationOf(Class<?> type) throws URISyntaxException {
+        return Path.of(type.getProtectionDomain().getCodeSource().getLocation().toURI()).toAbsolutePath().normalize();
+    }
+
+    /**
+     * Reads the methods of a class file and reports the synchronized ones as well as those containing a
+     * {@code monitorenter} instruction, which is what synchronized blocks compile to.
+     *
+     * @return a description of every monitor found
+     */
+    private static List<String> findMonitors(String className, byte[] classFile) {
+
+        ByteBuffer buffer = ByteBuffer.wrap(classFile);
+        // magic number, minor and major version
+        buffer.position(8);
+        int constantPoolCount = unsignedShort(buffer);
+        String[] utf8Constants = new String[constantPoolCount];
+        for (int i = 1; i < constantPoolCount; i++) {
+            int tag = buffer.get();
+            switch (tag) {
+                case 1 -> {
+                    byte[] bytes = new byte[unsignedShort(buffer)];
+                    buffer.get(bytes);
+                    utf8Constants[i] = new String(bytes, StandardCharsets.UTF_8);
+                }
+                case 7, 8, 16, 19, 20 -> skip(buffer, 2);
+                case 15 -> skip(buffer, 3);
+                case 3, 4, 9, 10, 11, 12, 17, 18 -> skip(buffer, 4);
+                case 5, 6 -> {
+                    skip(buffer, 8);
+                    // Longs and doubles take two entries
+                    ++i;
+                }
+                default -> throw new IllegalStateException("Unknown constant pool tag " + tag + " in " + className);
+            }
+        }
+        // access flags, this and super class
+        skip(buffer, 6);
+        skip(buffer, 2 * unsignedShort(buffer));
+
+        int fieldCount = unsignedShort(buffer);
+        for (int i = 0; i < fieldCount; i++) {
+            skip(buffer, 6);
+            skipAttributes(buffer);
+        }
+
+        List<String> monitors = new ArrayList<>();
+        int methodCount = unsignedShort(buffer);
+        for (int i = 0; i < methodCount; i++) {
+            int accessFlags = unsignedShort(buffer);
+            String method = className + "#" + utf8Constants[unsignedShort(buffer)];
+            skip(buffer, 2);
+            if (Modifier.isSynchronized(accessFlags)) {
+                monitors.add(method + " is synchronized");
+            }
+
+            int attributeCount = unsignedShort(buffer);
+            for (int j = 0; j < attributeCount; j++) {
+                String attributeName = utf8Constants[unsignedShort(buffer)];
+                int end = buffer.getInt() + buffer.position();
+                if ("Code".equals(attributeName)) {
+                    // max stack and max locals
+                    skip(buffer, 4);
+                    int codeLength = buffer.getInt();
+                    if (containsMonitorEnter(buffer, buffer.position(), codeLength)) {
+                        monitors.add(method + " contains a synchronized block");
+                    }
+                }
+                buffer.position(end);
+            }
+        }
+        return monitors;
+    }
+
+    private static boolean containsMonitorEnter(ByteBuffer buffer, int codeStart, int codeLength) {
+
+        int offset = 0;
+        while (offset < codeLength) {
+            int opcode = buffer.get(codeStart + offset) & 0xFF;
+            if (opcode == MONITORENTER) {
+                return true;
+            }
+            offset += instructionLength(buffer, codeStart, offset, opcode);
+        }
+        return false;
+    }
+
+    private static int instructionLength(ByteBuffer buffer, int codeStart, int offset, int opcode) {
+
+        if (opcode == TABLESWITCH || opcode == LOOKUPSWITCH) {
+            // The operands are aligned to a multiple of four bytes from the start of the code
+            int operands = (offset + 4) & ~3;
+            if (opcode == TABLESWITCH) {
+                int low = buffer.getInt(codeStart + operands + 4);
+                int high = buffer.getInt(codeStart + operands + 8);
+                return operands - offset + 12 + (high - low + 1) * 4;
+            }
+            int numberOfPairs = buffer.getInt(codeStart + operands + 4);
+            return operands - offset + 8 + numberOfPairs * 8;
+        }
+        if (opcode == WIDE) {
+            return (buffer.get(codeStart + offset + 1) & 0xFF) == IINC ? 6 : 4;
+        }
+        if (opcode == 0x10 || opcode == 0x12 || opcode >= 0x15 && opcode <= 0x19 || opcode >= 0x36 && opcode <= 0x3a
+            || opcode == 0xa9 || opcode == 0xbc) {
+            return 2;
+        }
+        if (opcode == 0x11 || opcode == 0x13 || opcode == 0x14 || opcode == IINC || opcode >= 0x99 && opcode <= 0xa8
+            || opcode >= 0xb2 && opcode <= 0xb8 || opcode == 0xbb || opcode == 0xbd || opcode == 0xc0 || opcode == 0xc1
+            || opcode == 0xc6 || opcode == 0xc7) {
+            return 3;
+        }
+        if (opcode == 0xc5) {
+            return 4;
+        }
+        if (opcode == 0xb9 || opcode == 0xba || opcode == 0xc8 || opcode == 0xc9) {
+            return 5;
+        }
+        return 1;
+    }
+
+    private static void skipAttributes(ByteBuffer buffer) {
+        int attributeCount = unsignedShort(buffer);
+        for (int i = 0; i < attributeCount; i++) {
+            skip(buffer, 2);
+            skip(buffer, buffer.getInt());
+        }
+    }
+
+    private static int unsignedShort(ByteBuffer buffer) {
+        return buffer.getShort() & 0xFFFF;
+    }
+
+    private static void skip(ByteBuffer buffer, int length) {
+        buffer.position(buffer.position() + length);
+    }
+
+    private static void simulateNetworkRoundTrip() {
+        try {
+            Thread.sleep(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Contains both kinds of monitors, to make sure that they are found.
+     */
+    private static class WithMonitors {
+
+        private final Object lock = new Object();
+
+        private int counter;
+
+        synchronized void synchronizedMethod() {
+            ++counter;
+        }
+
+        void synchronizedBlock() {
+            synchronized (lock) {
+                ++counter;
+            }
+        }
+    }
+
+    /**
+     * A driver whose requests and commits block like a network round trip and that doesn't return any data.
+     */
+    private static class SlowDriver extends AbstractConfigurableDriver {
+
+        @Override
+        protected String getTypeSystemName() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Function<TransactionManager, BiFunction<Transaction.Type, Iterable<String>, Transaction>> getTransactionFactorySupplier() {
+            return transactionManager -> (transactionType, bookmarks) -> new AbstractTransaction(transactionManager) {
+
+                @Override
+                protected void rollback0() {
+                    simulateNetworkRoundTrip();
+                }
+
+                @Override
+                protected void commit0() {
+                    simulateNetworkRoundTrip();
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Request request(Transaction transaction) {
+            return new Request() {
+
+                @Override
+                public Response<GraphModel> execute(GraphModelRequest query) {
+                    simulateNetworkRoundTrip();
+                    return new EmptyResponse<>();
+                }
+
+                @Override
+                public Response<RowModel> execute(RowModelRequest query) {
+                    simulateNetworkRoundTrip();
+                    return new EmptyResponse<>();
+                }
+
+                @Override
+                public Response<RowModel> execute(DefaultRequest query) {
+                    simulateNetworkRoundTrip();
+                    return new EmptyResponse<>();
+                }
+
+                @Override
+                public Response<GraphRowListModel> execute(GraphRowListModelRequest query) {
+                    simulateNetworkRoundTrip();
+                    return new EmptyResponse<>();
+                }
+
+                @Override
+                public Response<RestModel> execute(RestModelRequest query) {
+                    simulateNetworkRoundTrip();
+                    return new EmptyResponse<>();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.delegates;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.neo4j.ogm.domain.filesystem.Folder;
+import org.neo4j.ogm.driver.AbstractConfigurableDriver;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.response.model.DefaultRowModel;
+import org.neo4j.ogm.session.BulkSaveOptions;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.request.DefaultRequest;
+import org.neo4j.ogm.session.transaction.support.TransactionalUnitOfWorkWithoutResult;
+import org.neo4j.ogm.transaction.Transaction;
+import org.neo4j.ogm.transaction.TransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class BulkSaveTest {
+
+    private final MetaData metaData = new MetaData("org.neo4j.ogm.domain.filesystem");
+
+    @Spy
+    Neo4jSession neo4jSession = new Neo4jSession(metaData, true, new AbstractConfigurableDriver() {
+        @Override
+        protected String getTypeSystemName() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Function<TransactionManager, BiFunction<Transaction.Type, Iterable<String>, Transaction>> getTransactionFactorySupplier() {
+            return transactionManager -> null;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public Request request(Transaction transaction) {
+            return null;
+        }
+    });
+
+    @Mock(lenient = true)
+    Request request;
+
+    private final AtomicLong nextId = new AtomicLong();
+
+    private final List<Integer> rowsPerStatement = new ArrayList<>();
+
+    private int transactions;
+
+    @BeforeEach
+    void prepareMocks() {
+        lenient().doReturn(request).when(neo4jSession).requestHandler();
+        lenient().doAnswer(invocation -> {
+            if (invocation.getArgument(1, Boolean.class)) {
+                transactions++;
+            }
+            invocation.getArgument(0, TransactionalUnitOfWorkWithoutResult.class).doInTransaction();
+            return null;
+        }).when(neo4jSession)
+            .doInTransaction(any(TransactionalUnitOfWorkWithoutResult.class), anyBoolean(), any(Transaction.Type.class));
+        doAnswer(invocation -> createdNodes(invocation.getArgument(0, DefaultRequest.class)))
+            .when(request).execute(any(DefaultRequest.class));
+    }
+
+    @Test
+    void shouldSaveInBatchesAndCommitPeriodically() {
+
+        List<Folder> folders = folders(25);
+        new SaveDelegate(neo4jSession).saveAll(folders,
+            BulkSaveOptions.builder().batchSize(10).batchesPerTransaction(2).build());
+
+        assertThat(rowsPerStatement).containsExactly(10, 10, 5);
+        assertThat(transactions).isEqualTo(2);
+        assertThat(folders).allSatisfy(folder -> {
+            assertThat(folder.getId()).isNotNull();
+            assertThat(neo4jSession.context().getNodeEntity(folder.getId())).isSameAs(folder);
+        });
+    }
+
+    @Test
+    void shouldDetachSavedEntities() {
+
+        List<Folder> folders = folders(5);
+        new SaveDelegate(neo4jSession).saveAll(folders,
+            BulkSaveOptions.builder().batchSize(2).detachSavedEntities(true).build());
+
+        assertThat(rowsPerStatement).containsExactly(2, 2, 1);
+        assertThat(transactions).isEqualTo(1);
+        assertThat(folders).allSatisfy(folder -> {
+            assertThat(folder.getId()).isNotNull();
+            assertThat(neo4jSession.context().getNodeEntity(folder.getId())).isNull();
+        });
+    }
+
+    @Test
+    void shouldIterateTheInputOnlyOnce() {
+
+        Iterator<Folder> iterator = folders(3).iterator();
+        Iterable<Folder> onlyOnce = () -> {
+            assertThat(rowsPerStatement).isEmpty();
+            return iterator;
+        };
+        new SaveDelegate(neo4jSession).saveAll(onlyOnce,
+            BulkSaveOptions.builder().batchSize(1).batchesPerTransaction(1).build());
+
+        assertThat(rowsPerStatement).containsExactly(1, 1, 1);
+        assertThat(transactions).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRegisterIdsOfAllChunks() {
+
+        doReturn(2).when(neo4jSession).maxRowsPerStatement();
+
+        List<Folder> folders = folders(5);
+        new SaveDelegate(neo4jSession).save(folders);
+
+        assertThat(rowsPerStatement).containsExactly(2, 2, 1);
+        assertThat(folders).extracting(Folder::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(folders).allSatisfy(
+            folder -> assertThat(neo4jSession.context().getNodeEntity(folder.getId())).isSameAs(folder));
+    }
+
+    @Test
+    void shouldRejectInvalidBatchSizes() {
+
+        assertThatIllegalArgumentException().isThrownBy(() -> BulkSaveOptions.builder().batchSize(0));
+        assertThatIllegalArgumentException().isThrownBy(() -> BulkSaveOptions.builder().batchesPerTransaction(0));
+    }
+
+    private static List<Folder> folders(int numberOfFolders) {
+        List<Folder> folders = new ArrayList<>();
+        for (int i = 0; i < numberOfFolders; i++) {
+            Folder folder = new Folder();
+            folder.setName("Folder " + i);
+            folders.add(folder);
+        }
+        return folders;
+    }
+
+    /**
+     * Answers the statements creating new nodes as the database would, by assigning new ids to the node references.
+     */
+    private Response<RowModel> createdNodes(DefaultRequest defaultRequest) {
+        List<RowModel> rows = new ArrayList<>();
+        for (Statement statement : defaultRequest.getStatements()) {
+            List<Map<String, Object>> statementRows = (List<Map<String, Object>>) statement.getParameters().get("rows");
+            rowsPerStatement.add(statementRows.size());
+            for (Map<String, Object> row : statementRows) {
+                rows.add(new DefaultRowModel(new Object[] { row.get("nodeRef"), nextId.getAndIncrement(), "node" },
+                    new String[] { "ref", "id", "type" }));
+            }
+        }
+        Iterator<RowModel> iterator = rows.iterator();
+        return new Response<>() {
+            @Override
+            public RowModel next() {
+                return iterator.hasNext() ? iterator.next() : null;
+            }
+
+            @Override
+            public void close() {
+            }
+
+            @Override
+            public String[] columns() {
+                return new String[] { "ref", "id", "type" };
+            }
+        };
+    }
+}
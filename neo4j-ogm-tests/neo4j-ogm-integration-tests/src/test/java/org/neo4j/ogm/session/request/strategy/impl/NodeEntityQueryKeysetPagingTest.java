@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2002-2026 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.request.strategy.impl;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.ogm.cypher.ComparisonOperator;
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.Keyset;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
+import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
+import org.neo4j.ogm.cypher.query.SortOrder;
+
+class NodeEntityQueryKeysetPagingTest {
+
+    private final NodeQueryStatements<Long> queryStatements = new NodeQueryStatements<>();
+
+    @Test
+    void firstPageShouldOnlyBeLimited() {
+        PagingAndSortingQuery query = queryStatements.findByType("Raptor", 1)
+            .setSortOrder(new SortOrder("`name`"))
+            .setKeysetPagination(new KeysetPagination(2));
+
+        assertThat(query.getStatement()).isEqualTo(
+            "MATCH (n:`Raptor`) WITH n ORDER BY n.`name`, ID(n) LIMIT 2 MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)");
+        assertThat(query.getParameters()).isEmpty();
+    }
+
+    @Test
+    void followingPagesShouldContinueAfterTheKeyset() {
+        PagingAndSortingQuery query = queryStatements.findByType("Raptor", 0)
+            .setSortOrder(new SortOrder().asc("`name`").desc("`age`"))
+            .setKeysetPagination(new KeysetPagination(2, new Keyset(List.of("velociraptor", 7), 42L)));
+
+        assertThat(query.getStatement()).isEqualTo("MATCH (n:`Raptor`) WITH n WHERE "
+            + "(n.`name` >= $keyset_0 OR n.`name` IS NULL) AND ("
+            + "(n.`name` > $keyset_0 OR n.`name` IS NULL) OR "
+            + "(n.`name` = $keyset_0 AND n.`age` < $keyset_1) OR "
+            + "(n.`name` = $keyset_0 AND n.`age` = $keyset_1 AND ID(n) > $keyset_id)) "
+            + "WITH * ORDER BY n.`name`,n.`age` DESC, ID(n) LIMIT 2 RETURN n");
+        assertThat(query.getParameters())
+            .containsExactlyInAnyOrderEntriesOf(Map.of("keyset_0", "velociraptor", "keyset_1", 7, "keyset_id", 42L));
+    }
+
+    @Test
+    void keysetPredicateShouldRespectFiltersAndIgnoredCase() {
+        Filters filters = new Filters().add(new Filter("name", ComparisonOperator.EQUALS, "velociraptor"));
+        PagingAndSortingQuery query = queryStatements.findByType("Raptor", filters, 0)
+            .setSortOrder(new SortOrder().add("`name`", true))
+            .setKeysetPagination(new KeysetPagination(5, new Keyset(List.of("Velociraptor"), 3L)));
+
+        assertThat(query.getStatement()).isEqualTo("MATCH (n:`Raptor`) WHERE n.`name` = $`name_0` WITH n WHERE "
+            + "(toLower(n.`name`) >= toLower($keyset_0) OR toLower(n.`name`) IS NULL) AND ("
+            + "(toLower(n.`name`) > toLower($keyset_0) OR toLower(n.`name`) IS NULL) OR "
+            + "(toLower(n.`name`) = toLower($keyset_0) AND ID(n) > $keyset_id)) "
+            + "WITH * ORDER BY toLower(n.`name`), ID(n) LIMIT 5 RETURN n");
+        assertThat(query.getParameters()).containsKeys("name_0", "keyset_0", "keyset_id");
+    }
+
+    @Test
+    void keysetPredicateShouldStartWithARangeOnTheFirstDescendingSortKey() {
+        PagingAndSortingQuery query = queryStatements.findByType("Raptor", 0)
+            .setSortOrder(new SortOrder().desc("`age`"))
+            .setKeysetPagination(new KeysetPagination(2, new Keyset(List.of(7), 42L)));
+
+        assertThat(query.getStatement()).isEqualTo("MATCH (n:`Raptor`) WITH n WHERE n.`age` <= $keyset_0 AND ("
+            + "(n.`age` < $keyset_0) OR "
+            + "(n.`age` = $keyset_0 AND ID(n) > $keyset_id)) "
+            + "WITH * ORDER BY n.`age` DESC, ID(n) LIMIT 2 RETURN n");
+    }
+
+    @Test
+    void nullValuesShouldFollowAnAscendingKeyset() {
+        PagingAndSortingQuery query = queryStatements.findByType("Raptor", 0)
+            .setSortOrder(new SortOrder().asc("`age`").asc("`name`"))
+            .setKeysetPagination(new KeysetPagination(2, new Keyset(List.of(7, "velociraptor"), 42L)));
+
+        assertThat(query.getStatement()).isEqualTo("MATCH (n:`Raptor`) WITH n WHERE "
+            + "(n.`age` >= $keyset_0 OR n.`age` IS NULL) AND ("
+            + "(n.`age` > $keyset_0 OR n.`age` IS NULL) OR "
+            + "(n.`age` = $keyset_0 AND (n.`name` > $keyset_1 OR n.`name` IS NULL)) OR "
+            + "(n.`age` = $keyset_0 AND n.`name` = $keyset_1 AND ID(n) > $keyset_id)) "
+            + "WITH * ORDER BY n.`age`,n.`name`, ID(n) LIMIT 2 RETURN n");
+    }
+
+    @Test
+    void onlyNullValuesShouldFollowAnAscendingNullKeyset() {
+        PagingAndSortingQuery query = queryStatements.findByType("Raptor", 0)
+            .setSortOrder(new SortOrder().asc("`age`").desc("`name`"))
+            .setKeysetPagination(new KeysetPagination(2, new Keyset(Arrays.asList(null, null), 42L)));
+
+        assertThat(query.getStatement()).isEqualTo("MATCH (n:`Raptor`) WITH n WHERE n.`age` IS NULL AND ("
+            + "(n.`age` IS NULL AND n.`name` IS NOT NULL) OR "
+            + "(n.`age` IS NULL AND n.`name` IS NULL AND ID(n) > $keyset_id)) "
+            + "WITH * ORDER BY n.`age`,n.`name` DESC, ID(n) LIMIT 2 RETURN n");
+        assertThat(query.getParameters()).containsExactlyEntriesOf(Map.of("keyset_id", 42L));
+    }
+
+    @Test
+    void nonNullValuesShouldFollowADescendingNullKeyset() {
+        PagingAndSortingQuery query = queryStatements.findByType("Raptor", 0)
+            .setSortOrder(new SortOrder().desc("`age`").asc("`name`"))
+            .setKeysetPagination(new KeysetPagination(2, new Keyset(Arrays.asList(null, "velociraptor"), 42L)));
+
+        assertThat(query.getStatement()).isEqualTo("MATCH (n:`Raptor`) WITH n WHERE "
+            + "(n.`age` IS NOT NULL) OR "
+            + "(n.`age` IS NULL AND (n.`name` > $keyset_1 OR n.`name` IS NULL)) OR "
+            + "(n.`age` IS NULL AND n.`name` = $keyset_1 AND ID(n) > $keyset_id) "
+            + "WITH * ORDER BY n.`age` DESC,n.`name`, ID(n) LIMIT 2 RETURN n");
+        assertThat(query.getParameters())
+            .containsExactlyInAnyOrderEntriesOf(Map.of("keyset_1", "velociraptor", "keyset_id", 42L));
+    }
+
+    @Test
+    void keysetPredicateWithoutSortOrderShouldOnlyCompareTheId() {
+        PagingAndSortingQuery query = queryStatements.findByType("Raptor", 0)
+            .setKeysetPagination(new KeysetPagination(2, new Keyset(List.of(), 42L)));
+
+        assertThat(query.getStatement()).isEqualTo("MATCH (n:`Raptor`) WITH n WHERE (ID(n) > $keyset_id) "
+            + "WITH * ORDER BY ID(n) LIMIT 2 RETURN n");
+    }
+
+    @Test
+    void keysetMustMatchTheSortOrder() {
+        PagingAndSortingQuery query = queryStatements.findByType("Raptor", 0)
+            .setSortOrder(new SortOrder("`name`"))
+            .setKeysetPagination(new KeysetPagination(2, new Keyset(List.of(), 42L)));
+
+        assertThatIllegalArgumentException().isThrownBy(query::getStatement);
+    }
+}